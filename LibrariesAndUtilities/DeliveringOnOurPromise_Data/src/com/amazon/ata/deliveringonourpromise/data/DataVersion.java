@@ -0,0 +1,25 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts changes to the content of the datastore's records, so that services caching results built from them
+ * can tell when to rebuild. See {@link OrderDatastore#getVersion()}.
+ *
+ * Re-pointing a shared sample record at a different order ID (setOrderId) doesn't count as a change: the order
+ * each ID refers to is the same as before.
+ */
+final class DataVersion {
+    private static final AtomicLong VERSION = new AtomicLong();
+
+    private DataVersion() {
+    }
+
+    static long current() {
+        return VERSION.get();
+    }
+
+    static long recordChange() {
+        return VERSION.incrementAndGet();
+    }
+}
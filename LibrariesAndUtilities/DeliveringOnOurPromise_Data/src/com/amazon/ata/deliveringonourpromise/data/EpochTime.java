@@ -0,0 +1,74 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * Helpers for the primitive time representation the data objects and promise services store dates in: whole
+ * epoch seconds, plus the ZoneId the record's dates are rendered in. Arithmetic on epoch seconds allocates
+ * nothing; a ZonedDateTime is only built when a caller asks for one.
+ *
+ * A missing date is stored as {@link #NONE}.
+ */
+public final class EpochTime {
+    /**
+     * Stands in for a date that isn't set (a null ZonedDateTime).
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_HOUR = 60 * 60;
+    private static final long SECONDS_PER_DAY = 24 * SECONDS_PER_HOUR;
+
+    private EpochTime() {
+    }
+
+    /**
+     * Returns the epoch second of the given date, dropping any fraction of a second.
+     *
+     * @param dateTime the date to convert; may be null
+     * @return the date's epoch second, or NONE if dateTime is null
+     */
+    public static long of(ZonedDateTime dateTime) {
+        return null == dateTime ? NONE : dateTime.toEpochSecond();
+    }
+
+    /**
+     * Builds the ZonedDateTime for the given epoch second in the given zone.
+     *
+     * @param epochSecond the epoch second to convert; may be NONE
+     * @param zone the zone to render the date in
+     * @return the ZonedDateTime, or null if epochSecond is NONE
+     */
+    public static ZonedDateTime toZonedDateTime(long epochSecond, ZoneId zone) {
+        return NONE == epochSecond ? null : ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+    }
+
+    /**
+     * Adds hours to an epoch second, the same as {@link ZonedDateTime#plusHours(long)}.
+     *
+     * @param epochSecond the epoch second to add to
+     * @param hours the number of hours to add; may be negative
+     * @return the resulting epoch second
+     */
+    public static long plusHours(long epochSecond, long hours) {
+        return epochSecond + hours * SECONDS_PER_HOUR;
+    }
+
+    /**
+     * Adds days to an epoch second, the same as {@link ZonedDateTime#plusDays(long)} in the given zone: the local
+     * time of day is kept. That is plain arithmetic in a fixed-offset zone; in a zone with daylight saving
+     * transitions, it goes through ZonedDateTime.
+     *
+     * @param epochSecond the epoch second to add to
+     * @param days the number of days to add; may be negative
+     * @param zone the zone the days are counted in
+     * @return the resulting epoch second
+     */
+    public static long plusDays(long epochSecond, long days, ZoneId zone) {
+        if (zone.getRules().isFixedOffset()) {
+            return epochSecond + days * SECONDS_PER_DAY;
+        }
+        return toZonedDateTime(epochSecond, zone).plusDays(days).toEpochSecond();
+    }
+}
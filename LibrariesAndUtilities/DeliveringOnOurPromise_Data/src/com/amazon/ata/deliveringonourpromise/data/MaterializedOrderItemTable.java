@@ -0,0 +1,123 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * A table of values derived from an order item and its order, such as the promises made for the item. Each value
+ * is computed on the first lookup of its item, and then served from the table.
+ *
+ * Values are kept per order item record, and are only recomputed when the records they were computed from change:
+ * when either record's version moves on, or when the item is looked up with different records. The other items'
+ * values are untouched.
+ *
+ * A shared sample record is re-pointed at a new order ID on every read of a generated order, and values usually
+ * name their order, so each record keeps a value per order ID it has been looked up with. Only the
+ * {@code maxOrderIdsPerItem} most recently used order IDs are kept per record; the least recently used one is
+ * dropped to make room, so the table never grows past that many values per order item record.
+ *
+ * @param <V> the type of value derived from each order item; may be null
+ */
+public final class MaterializedOrderItemTable<V> {
+    private static final int DEFAULT_MAX_ORDER_IDS_PER_ITEM = 256;
+
+    private final BiFunction<OrderData, OrderItemData, V> materializer;
+    private final int maxOrderIdsPerItem;
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty table that computes its values with the given function.
+     *
+     * @param materializer computes an order item's value from the item and its order
+     */
+    public MaterializedOrderItemTable(BiFunction<OrderData, OrderItemData, V> materializer) {
+        this(materializer, DEFAULT_MAX_ORDER_IDS_PER_ITEM);
+    }
+
+    /**
+     * Constructs an empty table that computes its values with the given function, keeping values for at most the
+     * given number of order IDs per order item record.
+     *
+     * @param materializer computes an order item's value from the item and its order
+     * @param maxOrderIdsPerItem the most order IDs to keep values for per order item record; must be positive
+     */
+    MaterializedOrderItemTable(BiFunction<OrderData, OrderItemData, V> materializer, int maxOrderIdsPerItem) {
+        if (maxOrderIdsPerItem < 1) {
+            throw new IllegalArgumentException("maxOrderIdsPerItem must be positive");
+        }
+        this.materializer = materializer;
+        this.maxOrderIdsPerItem = maxOrderIdsPerItem;
+    }
+
+    /**
+     * Returns the value for the given order item, computing it first if the item has no value for its order ID
+     * yet or if its records have changed since it was computed.
+     *
+     * @param orderData the order the item belongs to
+     * @param orderItemData the order item to look up
+     * @return the item's value
+     */
+    public V get(OrderData orderData, OrderItemData orderItemData) {
+        String customerOrderItemId = orderItemData.getCustomerOrderItemId();
+        Entry<V> entry = entries.get(customerOrderItemId);
+        if (null == entry || !entry.isCurrentFor(orderData, orderItemData)) {
+            // capture the versions before computing, so a change made meanwhile makes the entry look stale
+            entry = new Entry<>(orderData, orderItemData, maxOrderIdsPerItem);
+            entries.put(customerOrderItemId, entry);
+        }
+        return entry.get(orderData, orderItemData, materializer);
+    }
+
+    /**
+     * Returns the number of order items with values in the table, current or not.
+     *
+     * @return the number of order item records in the table
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry<V> {
+        private final OrderData orderData;
+        private final OrderItemData orderItemData;
+        private final long orderVersion;
+        private final long orderItemVersion;
+        // guarded by this; access ordered, so the eldest entry is the least recently used order ID
+        private final LinkedHashMap<String, V> valuesByOrderId;
+
+        private Entry(OrderData orderData, OrderItemData orderItemData, int maxOrderIds) {
+            this.orderData = orderData;
+            this.orderItemData = orderItemData;
+            this.orderVersion = orderData.getVersion();
+            this.orderItemVersion = orderItemData.getVersion();
+            this.valuesByOrderId = new LinkedHashMap<String, V>(4, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                    return size() > maxOrderIds;
+                }
+            };
+        }
+
+        private boolean isCurrentFor(OrderData currentOrderData, OrderItemData currentOrderItemData) {
+            return orderData == currentOrderData &&
+                   orderItemData == currentOrderItemData &&
+                   orderVersion == currentOrderData.getVersion() &&
+                   orderItemVersion == currentOrderItemData.getVersion();
+        }
+
+        private synchronized V get(OrderData currentOrderData, OrderItemData currentOrderItemData,
+                                   BiFunction<OrderData, OrderItemData, V> materializer) {
+            String orderId = currentOrderData.getOrderId();
+            V value = valuesByOrderId.get(orderId);
+            if (null == value && !valuesByOrderId.containsKey(orderId)) {
+                value = materializer.apply(currentOrderData, currentOrderItemData);
+                valuesByOrderId.put(orderId, value);
+            }
+            return value;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.amazon.ata.deliveringonourpromise.data;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data object from shared data provider that represents an Order.
@@ -16,8 +20,16 @@ public final class OrderData {
     private int condition;
     private List<OrderItemData> customerOrderItemList;
     private List<OrderShipmentData> customerShipments;
+    // read-only wrappers over the two lists above, made once rather than on every read
+    private List<OrderItemData> customerOrderItemListView;
+    private List<OrderShipmentData> customerShipmentsView;
     private String shipOption;
-    private ZonedDateTime orderDate;
+    // see EpochTime
+    private long orderDateEpochSecond;
+    private ZoneId zone;
+    // built along with the record: the first shipment each order item appears in
+    private Map<String, OrderShipmentData> shipmentsByOrderItemId;
+    private volatile long version;
 
     private OrderData() {
     }
@@ -38,6 +50,18 @@ public final class OrderData {
      */
     public void setCustomerOrderItemList(List<OrderItemData> customerOrderItemList) {
         this.customerOrderItemList = customerOrderItemList;
+        this.customerOrderItemListView = readOnly(customerOrderItemList);
+        version = DataVersion.recordChange();
+    }
+
+    /**
+     * Returns a number that changes whenever this record's content changes. Re-pointing it at a different order ID
+     * doesn't count as a change.
+     *
+     * @return the current version of this record
+     */
+    public long getVersion() {
+        return version;
     }
 
     public String getOrderId() {
@@ -64,12 +88,65 @@ public final class OrderData {
         return new ArrayList<>(customerShipments);
     }
 
+    /**
+     * Returns the order's items without copying them, for read-only callers. Unlike getCustomerOrderItemList, the
+     * list is the record's own list behind a read-only wrapper; it includes any null entries the record has.
+     *
+     * @return unmodifiable view of the order's items; empty if the record has none
+     */
+    public List<OrderItemData> getCustomerOrderItemListView() {
+        return customerOrderItemListView;
+    }
+
+    /**
+     * Returns the order's shipments without copying them, for read-only callers. Unlike getCustomerShipments, the
+     * list is the record's own list behind a read-only wrapper; it includes any null entries the record has.
+     *
+     * @return unmodifiable view of the order's shipments; empty if the record has none
+     */
+    public List<OrderShipmentData> getCustomerShipmentsView() {
+        return customerShipmentsView;
+    }
+
+    /**
+     * Returns the shipment containing the given order item, without walking the shipments. If the item was split
+     * across shipments, the first such shipment is returned.
+     *
+     * @param customerOrderItemId the order item ID to find the shipment for
+     * @return the shipment containing the order item, or null if the item isn't in any of this order's shipments
+     */
+    public OrderShipmentData getShipmentForOrderItem(String customerOrderItemId) {
+        return shipmentsByOrderItemId.get(customerOrderItemId);
+    }
+
     public String getShipOption() {
         return shipOption;
     }
 
     public ZonedDateTime getOrderDate() {
-        return orderDate;
+        return EpochTime.toZonedDateTime(orderDateEpochSecond, zone);
+    }
+
+    /**
+     * Returns the order date as whole epoch seconds, without building a ZonedDateTime.
+     *
+     * @return the order date's epoch second, or {@link EpochTime#NONE} if the order has no date
+     */
+    public long getOrderDateEpochSecond() {
+        return orderDateEpochSecond;
+    }
+
+    /**
+     * Returns the zone the order date is in, for arithmetic on {@link #getOrderDateEpochSecond()}.
+     *
+     * @return the order date's zone, or null if the order has no date
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    private static <T> List<T> readOnly(List<T> list) {
+        return null == list ? Collections.emptyList() : Collections.unmodifiableList(list);
     }
 
     @Override
@@ -82,7 +159,7 @@ public final class OrderData {
                + ", customerOrderItemList=" + customerOrderItemList
                + ", customerShipments=" + customerShipments
                + ", shipOption='" + shipOption + '\''
-               + ", orderDate=" + orderDate
+               + ", orderDate=" + getOrderDate()
                + '}';
     }
 
@@ -121,7 +198,7 @@ public final class OrderData {
         }
 
         public Builder withMarketplaceId(String marketplaceId) {
-            this.marketplaceId = marketplaceId;
+            this.marketplaceId = StringDictionary.canonical(marketplaceId);
             return this;
         }
 
@@ -141,7 +218,7 @@ public final class OrderData {
         }
 
         public Builder withShipOption(String shipOption) {
-            this.shipOption = shipOption;
+            this.shipOption = StringDictionary.canonical(shipOption);
             return this;
         }
 
@@ -166,10 +243,33 @@ public final class OrderData {
             data.condition = condition;
             data.customerOrderItemList = customerOrderItemList;
             data.customerShipments = customerShipments;
+            data.customerOrderItemListView = readOnly(customerOrderItemList);
+            data.customerShipmentsView = readOnly(customerShipments);
             data.shipOption = shipOption;
-            data.orderDate = orderDate;
+            data.orderDateEpochSecond = EpochTime.of(orderDate);
+            data.zone = null == orderDate ? null : orderDate.getZone();
+            data.shipmentsByOrderItemId = indexShipmentsByOrderItemId(customerShipments);
 
             return data;
         }
+
+        private static Map<String, OrderShipmentData> indexShipmentsByOrderItemId(
+            List<OrderShipmentData> customerShipments) {
+            Map<String, OrderShipmentData> shipmentsByOrderItemId = new HashMap<>();
+            if (null == customerShipments) {
+                return shipmentsByOrderItemId;
+            }
+            for (OrderShipmentData shipment : customerShipments) {
+                if (null == shipment) {
+                    continue;
+                }
+                for (OrderShipmentData.CustomerShipmentItemData shipmentItem : shipment.getCustomerShipmentItems()) {
+                    if (null != shipmentItem) {
+                        shipmentsByOrderItemId.putIfAbsent(shipmentItem.getCustomerOrderItemId(), shipment);
+                    }
+                }
+            }
+            return shipmentsByOrderItemId;
+        }
     }
 }
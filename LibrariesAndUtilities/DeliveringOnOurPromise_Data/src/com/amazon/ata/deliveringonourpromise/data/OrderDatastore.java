@@ -42,6 +42,12 @@ public final class OrderDatastore {
     private Map<String, OrderItemData> orderItemDatasByOrderItemId = new HashMap<>();
     private Map<String, OrderFixture> orderFixtures = new HashMap<>();
     private Map<String, OrderItemData> orderFixtureItemData = new HashMap<>();
+    // the order each order item belongs to, for sample and fixture orders alike
+    private Map<String, OrderData> orderDatasByOrderItemId = new HashMap<>();
+    // the orders with IDs of their own, sorted by order date
+    private OrderDateIndex orderDateIndex = new OrderDateIndex();
+    // the same orders, by customer ID
+    private Map<String, OrderDateIndex> orderDateIndexesByCustomerId = new HashMap<>();
 
     private OrderDatastore() {
     }
@@ -63,8 +69,22 @@ public final class OrderDatastore {
      * @return OrderData object with zero to many OrderItemData entries. orderIds will all be set to orderId.
      */
     public OrderData getOrderData(String orderId) {
+        OrderDatastoreReadEvent event = new OrderDatastoreReadEvent();
+        event.begin();
         ensureDataPopulated();
 
+        OrderData orderData = lookUpOrderData(orderId);
+        if (event.shouldCommit()) {
+            event.operation = "getOrderData";
+            event.key = orderId;
+            event.found = orderData != null;
+            event.fixture = orderFixtures.containsKey(orderId);
+            event.commit();
+        }
+        return orderData;
+    }
+
+    private OrderData lookUpOrderData(String orderId) {
         // return null if malformed
         if (null == orderId || !Pattern.matches(ORDER_FORMAT, orderId)) {
             return null;
@@ -91,13 +111,138 @@ public final class OrderDatastore {
      * @return OrderItemData corresponding to the given ID if found. Otherwise, returns null
      */
     public OrderItemData getOrderItemData(String customerOrderItemId) {
+        OrderDatastoreReadEvent event = new OrderDatastoreReadEvent();
+        event.begin();
+        ensureDataPopulated();
+
+        boolean fixture = orderFixtureItemData.containsKey(customerOrderItemId);
+        OrderItemData orderItemData = fixture ?
+            orderFixtureItemData.get(customerOrderItemId) : orderItemDatasByOrderItemId.get(customerOrderItemId);
+        if (event.shouldCommit()) {
+            event.operation = "getOrderItemData";
+            event.key = customerOrderItemId;
+            event.found = orderItemData != null;
+            event.fixture = fixture;
+            event.commit();
+        }
+        return orderItemData;
+    }
+
+    /**
+     * Returns the shipment containing the given customer order item ID, from the index each order builds of its
+     * shipments. If the item was split across shipments, the order's first such shipment is returned. Will only return
+     * non-null if the given customerOrderItemId corresponds to a shipped item of one of the sample data Orders.
+     *
+     * @param customerOrderItemId customer order item ID to fetch the shipment for
+     * @return OrderShipmentData containing the given order item if found. Otherwise, returns null
+     */
+    public OrderShipmentData getOrderShipmentDataByOrderItemId(String customerOrderItemId) {
+        OrderDatastoreReadEvent event = new OrderDatastoreReadEvent();
+        event.begin();
         ensureDataPopulated();
 
-        if (orderFixtureItemData.containsKey(customerOrderItemId)) {
-            return orderFixtureItemData.get(customerOrderItemId);
+        OrderData orderData = orderDatasByOrderItemId.get(customerOrderItemId);
+        OrderShipmentData orderShipmentData =
+            null == orderData ? null : orderData.getShipmentForOrderItem(customerOrderItemId);
+        if (event.shouldCommit()) {
+            event.operation = "getOrderShipmentDataByOrderItemId";
+            event.key = customerOrderItemId;
+            event.found = orderShipmentData != null;
+            event.fixture = orderFixtureItemData.containsKey(customerOrderItemId);
+            event.commit();
         }
+        return orderShipmentData;
+    }
 
-        return orderItemDatasByOrderItemId.get(customerOrderItemId);
+    /**
+     * Returns the IDs of the orders placed in [fromEpochSecond, toEpochSecond), earliest order date first, found
+     * from an index sorted by order date rather than by scanning every order. Orders placed at the same second are
+     * returned in order ID order.
+     * <p>
+     * Only orders with an ID of their own are indexed, which here are the order fixtures: the sample orders are
+     * returned for whichever order ID is asked for, so they have no order ID to list.
+     * </p>
+     * <p>
+     * To fetch the next page of a range, pass the last order ID of the previous page as exclusiveStartOrderId.
+     * </p>
+     *
+     * @param fromEpochSecond the earliest order date to include, as an epoch second
+     * @param toEpochSecond the order date to stop before, as an epoch second
+     * @param exclusiveStartOrderId the order ID to resume after; null to start at the beginning of the range
+     * @param limit the most order IDs to return
+     * @return up to limit order IDs, earliest order date first
+     * @throws IllegalArgumentException if limit is negative, or if exclusiveStartOrderId isn't an indexed order
+     */
+    public List<String> getOrderIdsByOrderDate(long fromEpochSecond, long toEpochSecond,
+                                               String exclusiveStartOrderId, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        OrderDatastoreReadEvent event = new OrderDatastoreReadEvent();
+        event.begin();
+        ensureDataPopulated();
+
+        long exclusiveStartDateEpochSecond = getIndexedOrderDateEpochSecond(exclusiveStartOrderId, null);
+        List<String> orderIds = orderDateIndex.getOrderIds(
+            fromEpochSecond, toEpochSecond, exclusiveStartDateEpochSecond, exclusiveStartOrderId, limit);
+        if (event.shouldCommit()) {
+            event.operation = "getOrderIdsByOrderDate";
+            event.key = String.format("[%d, %d)", fromEpochSecond, toEpochSecond);
+            event.found = !orderIds.isEmpty();
+            event.fixture = true;
+            event.commit();
+        }
+        return orderIds;
+    }
+
+    /**
+     * Returns the IDs of the given customer's orders, newest order date first, found from an index of each
+     * customer's orders sorted by order date. Each page costs a binary search and the page itself, however many
+     * orders the customer has. Orders placed at the same second are returned in descending order ID order.
+     * <p>
+     * As with getOrderIdsByOrderDate, only orders with an ID of their own (the order fixtures) are indexed.
+     * </p>
+     * <p>
+     * To fetch the next page, pass the last order ID of the previous page as exclusiveStartOrderId.
+     * </p>
+     *
+     * @param customerId the customer to list the orders of
+     * @param exclusiveStartOrderId the order ID to resume after; null to start with the newest order
+     * @param limit the most order IDs to return
+     * @return up to limit order IDs, newest order date first; empty if the customer has no indexed orders
+     * @throws IllegalArgumentException if limit is negative, or if exclusiveStartOrderId isn't an indexed order of
+     *         the customer
+     */
+    public List<String> getOrderIdsByCustomerId(String customerId, String exclusiveStartOrderId, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit must not be negative");
+        }
+        OrderDatastoreReadEvent event = new OrderDatastoreReadEvent();
+        event.begin();
+        ensureDataPopulated();
+
+        long exclusiveStartDateEpochSecond = getIndexedOrderDateEpochSecond(exclusiveStartOrderId, customerId);
+        OrderDateIndex customerIndex = orderDateIndexesByCustomerId.get(customerId);
+        List<String> orderIds = null == customerIndex ? new ArrayList<>() :
+            customerIndex.getOrderIdsNewestFirst(exclusiveStartDateEpochSecond, exclusiveStartOrderId, limit);
+        if (event.shouldCommit()) {
+            event.operation = "getOrderIdsByCustomerId";
+            event.key = customerId;
+            event.found = !orderIds.isEmpty();
+            event.fixture = true;
+            event.commit();
+        }
+        return orderIds;
+    }
+
+    /**
+     * Returns a number that changes whenever the content of an order or order item record changes, for services
+     * that cache results built from the records.
+     *
+     * @return the current version of the datastore's data
+     */
+    public long getVersion() {
+        return DataVersion.current();
     }
 
     /**
@@ -176,6 +321,26 @@ public final class OrderDatastore {
         return new TextTable(headers, dataRows).toString();
     }
 
+    /*
+     * Returns the order date of an order in the order date index, to resume a listing after it: EpochTime.NONE if
+     * orderId is null. Raises IllegalArgumentException if the order isn't indexed, or if customerId is non-null and
+     * the order isn't the customer's.
+     */
+    private long getIndexedOrderDateEpochSecond(String orderId, String customerId) {
+        if (null == orderId) {
+            return EpochTime.NONE;
+        }
+
+        OrderFixture fixture = orderFixtures.get(orderId);
+        OrderData orderData = null == fixture ? null : fixture.getOrderData();
+        if (null == orderData || (null != customerId && !customerId.equals(orderData.getCustomerId()))) {
+            throw new IllegalArgumentException(String.format(
+                "Cannot resume after order ID '%s', which is not in the order date index being listed", orderId
+            ));
+        }
+        return orderData.getOrderDateEpochSecond();
+    }
+
     /*
      *  lazily populate orders, their shipments and order items.
      */
@@ -201,8 +366,14 @@ public final class OrderDatastore {
                 if (orderFixtureEntry.getValue().getOrderData() == null) {
                     continue;
                 }
-                for (OrderItemData orderItem : orderFixtureEntry.getValue().getOrderData().getCustomerOrderItemList()) {
+                OrderData fixtureOrderData = orderFixtureEntry.getValue().getOrderData();
+                orderDateIndex.add(fixtureOrderData.getOrderDateEpochSecond(), orderFixtureEntry.getKey());
+                orderDateIndexesByCustomerId
+                    .computeIfAbsent(fixtureOrderData.getCustomerId(), customerId -> new OrderDateIndex())
+                    .add(fixtureOrderData.getOrderDateEpochSecond(), orderFixtureEntry.getKey());
+                for (OrderItemData orderItem : fixtureOrderData.getCustomerOrderItemList()) {
                     orderFixtureItemData.put(orderItem.getCustomerOrderItemId(), orderItem);
+                    orderDatasByOrderItemId.put(orderItem.getCustomerOrderItemId(), fixtureOrderData);
                 }
             }
 
@@ -210,6 +381,7 @@ public final class OrderDatastore {
             for (OrderData orderData : orderDatasLookup) {
                 for (OrderItemData orderItemData : orderData.getCustomerOrderItemList()) {
                     orderItemDatasByOrderItemId.put(orderItemData.getCustomerOrderItemId(), orderItemData);
+                    orderDatasByOrderItemId.put(orderItemData.getCustomerOrderItemId(), orderData);
                 }
             }
 
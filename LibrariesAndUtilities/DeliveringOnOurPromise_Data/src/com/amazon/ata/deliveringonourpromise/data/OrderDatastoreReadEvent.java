@@ -0,0 +1,35 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for reading an order or order item from the datastore. Only reads slower than the
+ * threshold are recorded.
+ */
+@Name("com.amazon.ata.deliveringonourpromise.data.OrderDatastoreRead")
+@Label("Order Datastore Read")
+@Category({"Delivering On Our Promise", "Datastore"})
+@Description("OrderDatastore lookup of an order or order item, or listing of orders by date or customer")
+@Threshold("1 ms")
+@StackTrace(false)
+class OrderDatastoreReadEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Key")
+    @Description("The order ID or order item ID looked up, or the customer ID or order date range listed")
+    String key;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Fixture")
+    @Description("Whether the key is one of the reserved order fixtures")
+    boolean fixture;
+}
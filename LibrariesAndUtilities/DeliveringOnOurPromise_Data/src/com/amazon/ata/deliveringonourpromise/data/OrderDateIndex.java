@@ -0,0 +1,153 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Index of order IDs sorted by order date, for finding the orders placed in a date range, or the newest orders,
+ * without scanning every order. Entries are kept in parallel arrays, ordered by order date epoch second and then by
+ * order ID, so a range is found with two binary searches.
+ *
+ * Order dates mostly arrive in increasing order, so adding an entry at or after the latest date is an append; an
+ * earlier entry is inserted in place.
+ */
+final class OrderDateIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] orderDateEpochSeconds = new long[INITIAL_CAPACITY];
+    private String[] orderIds = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds an order to the index.
+     *
+     * @param orderDateEpochSecond the order's date, as an epoch second
+     * @param orderId the order's ID
+     */
+    synchronized void add(long orderDateEpochSecond, String orderId) {
+        if (size == orderIds.length) {
+            orderDateEpochSeconds = Arrays.copyOf(orderDateEpochSeconds, size * 2);
+            orderIds = Arrays.copyOf(orderIds, size * 2);
+        }
+
+        int position = size;
+        if (size > 0 && compareTo(size - 1, orderDateEpochSecond, orderId) > 0) {
+            position = firstAfter(orderDateEpochSecond, orderId);
+            System.arraycopy(orderDateEpochSeconds, position, orderDateEpochSeconds, position + 1, size - position);
+            System.arraycopy(orderIds, position, orderIds, position + 1, size - position);
+        }
+        orderDateEpochSeconds[position] = orderDateEpochSecond;
+        orderIds[position] = orderId;
+        size++;
+    }
+
+    /**
+     * Returns the IDs of orders placed in [fromEpochSecond, toEpochSecond), in order date order.
+     *
+     * @param fromEpochSecond the earliest order date to include, as an epoch second
+     * @param toEpochSecond the order date to stop before, as an epoch second
+     * @param exclusiveStartDateEpochSecond order date of the entry to resume after, or EpochTime.NONE to start at
+     *                                      the beginning of the range
+     * @param exclusiveStartOrderId order ID of the entry to resume after; ignored if starting at the beginning
+     * @param limit the most order IDs to return
+     * @return up to limit order IDs, earliest order date first
+     */
+    synchronized List<String> getOrderIds(long fromEpochSecond, long toEpochSecond,
+                                          long exclusiveStartDateEpochSecond, String exclusiveStartOrderId,
+                                          int limit) {
+        int start = firstAtOrAfter(fromEpochSecond);
+        if (EpochTime.NONE != exclusiveStartDateEpochSecond) {
+            start = Math.max(start, firstAfter(exclusiveStartDateEpochSecond, exclusiveStartOrderId));
+        }
+        int end = firstAtOrAfter(toEpochSecond);
+
+        List<String> page = new ArrayList<>(Math.max(0, Math.min(limit, end - start)));
+        for (int i = start; i < end && page.size() < limit; i++) {
+            page.add(orderIds[i]);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the IDs of the newest orders in the index, newest order date first.
+     *
+     * @param exclusiveStartDateEpochSecond order date of the entry to resume after, or EpochTime.NONE to start with
+     *                                      the newest order
+     * @param exclusiveStartOrderId order ID of the entry to resume after; ignored if starting with the newest order
+     * @param limit the most order IDs to return
+     * @return up to limit order IDs, newest order date first
+     */
+    synchronized List<String> getOrderIdsNewestFirst(long exclusiveStartDateEpochSecond,
+                                                     String exclusiveStartOrderId, int limit) {
+        int end = size;
+        if (EpochTime.NONE != exclusiveStartDateEpochSecond) {
+            end = firstAtOrAfter(exclusiveStartDateEpochSecond, exclusiveStartOrderId);
+        }
+
+        List<String> page = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+            page.add(orderIds[i]);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the number of orders in the index.
+     *
+     * @return the number of entries
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    // position of the first entry dated at or after the given epoch second
+    private int firstAtOrAfter(long epochSecond) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (orderDateEpochSeconds[mid] < epochSecond) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // position of the first entry sorting at or after the given order date and ID
+    private int firstAtOrAfter(long epochSecond, String orderId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareTo(mid, epochSecond, orderId) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // position of the first entry sorting after the given order date and ID
+    private int firstAfter(long epochSecond, String orderId) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareTo(mid, epochSecond, orderId) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareTo(int position, long epochSecond, String orderId) {
+        int byDate = Long.compare(orderDateEpochSeconds[position], epochSecond);
+        return byDate != 0 ? byDate : orderIds[position].compareTo(orderId);
+    }
+}
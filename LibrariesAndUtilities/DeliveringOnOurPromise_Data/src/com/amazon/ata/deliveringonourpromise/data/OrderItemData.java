@@ -20,6 +20,7 @@ public final class OrderItemData {
     private ZonedDateTime supplyCodeDate;
     private boolean isConfidenceTracked;
     private int confidence;
+    private volatile long version;
 
     private OrderItemData() {}
 
@@ -73,6 +74,7 @@ public final class OrderItemData {
 
     public void setConfidenceTracked(final boolean confidenceTracked) {
         isConfidenceTracked = confidenceTracked;
+        version = DataVersion.recordChange();
     }
 
     public int getConfidence() {
@@ -81,6 +83,17 @@ public final class OrderItemData {
 
     public void setConfidence(final int confidence) {
         this.confidence = confidence;
+        version = DataVersion.recordChange();
+    }
+
+    /**
+     * Returns a number that changes whenever this record's content changes. Re-pointing it at a different order ID
+     * doesn't count as a change.
+     *
+     * @return the current version of this record
+     */
+    public long getVersion() {
+        return version;
     }
 
     @Override
@@ -145,7 +158,7 @@ public final class OrderItemData {
         }
 
         public Builder withMerchantId(String merchantId) {
-            this.merchantId = merchantId;
+            this.merchantId = StringDictionary.canonical(merchantId);
             return this;
         }
 
@@ -155,7 +168,7 @@ public final class OrderItemData {
         }
 
         public Builder withSupplyCode(String supplyCode) {
-            this.supplyCode = supplyCode;
+            this.supplyCode = StringDictionary.canonical(supplyCode);
             return this;
         }
 
@@ -1,7 +1,9 @@
 package com.amazon.ata.deliveringonourpromise.data;
 
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -14,10 +16,14 @@ public final class OrderShipmentData {
     private String condition;
     private String warehouseId;
     private List<CustomerShipmentItemData> customerShipmentItems;
-    private ZonedDateTime shipDate;
-    private ZonedDateTime creationDate;
+    // read-only wrapper over customerShipmentItems, made once rather than on every read
+    private List<CustomerShipmentItemData> customerShipmentItemsView;
+    // see EpochTime; all three dates share the zone
+    private long shipDateEpochSecond;
+    private long creationDateEpochSecond;
     private String shipmentShipOption;
-    private ZonedDateTime deliveryDate;
+    private long deliveryDateEpochSecond;
+    private ZoneId zone;
     private boolean isDpsPromiseActive;
     private boolean isOfsPromiseActive;
     private boolean doDpsAndOfsPromisesAgree;
@@ -44,12 +50,22 @@ public final class OrderShipmentData {
         return new ArrayList<>(customerShipmentItems);
     }
 
+    /**
+     * Returns the shipment's items without copying them, for read-only callers. Unlike getCustomerShipmentItems,
+     * the list is the record's own list behind a read-only wrapper; it includes any null entries the record has.
+     *
+     * @return unmodifiable view of the shipment's items; empty if the record has none
+     */
+    public List<CustomerShipmentItemData> getCustomerShipmentItemsView() {
+        return customerShipmentItemsView;
+    }
+
     public ZonedDateTime getShipDate() {
-        return shipDate;
+        return EpochTime.toZonedDateTime(shipDateEpochSecond, zone);
     }
 
     public ZonedDateTime getCreationDate() {
-        return creationDate;
+        return EpochTime.toZonedDateTime(creationDateEpochSecond, zone);
     }
 
     public String getShipmentShipOption() {
@@ -57,7 +73,25 @@ public final class OrderShipmentData {
     }
 
     public ZonedDateTime getDeliveryDate() {
-        return deliveryDate;
+        return EpochTime.toZonedDateTime(deliveryDateEpochSecond, zone);
+    }
+
+    /**
+     * Returns the delivery date as whole epoch seconds, without building a ZonedDateTime.
+     *
+     * @return the delivery date's epoch second, or {@link EpochTime#NONE} if the shipment hasn't been delivered
+     */
+    public long getDeliveryDateEpochSecond() {
+        return deliveryDateEpochSecond;
+    }
+
+    /**
+     * Returns the zone this shipment's dates are in.
+     *
+     * @return the dates' zone, or null if the shipment has no dates
+     */
+    public ZoneId getZone() {
+        return zone;
     }
 
     public boolean isDpsPromiseActive() {
@@ -99,10 +133,10 @@ public final class OrderShipmentData {
                + ", condition='" + condition + '\''
                + ", warehouseId='" + warehouseId + '\''
                + ", customerShipmentItems=" + customerShipmentItems
-               + ", shipDate=" + shipDate
-               + ", creationDate=" + creationDate
+               + ", shipDate=" + getShipDate()
+               + ", creationDate=" + getCreationDate()
                + ", shipmentShipOption='" + shipmentShipOption + '\''
-               + ", deliveryDate=" + deliveryDate
+               + ", deliveryDate=" + getDeliveryDate()
                + ", isDpsPromiseActive=" + isDpsPromiseActive
                + ", isOfsPromiseActive=" + isOfsPromiseActive
                + ", doDpsAndOfsPromisesAgree" + doDpsAndOfsPromisesAgree
@@ -141,17 +175,17 @@ public final class OrderShipmentData {
         }
 
         public Builder withZip(String zip) {
-            this.zip = zip;
+            this.zip = StringDictionary.canonical(zip);
             return this;
         }
 
         public Builder withCondition(String condition) {
-            this.condition = condition;
+            this.condition = StringDictionary.canonical(condition);
             return this;
         }
 
         public Builder withWarehouseId(String warehouseId) {
-            this.warehouseId = warehouseId;
+            this.warehouseId = StringDictionary.canonical(warehouseId);
             return this;
         }
 
@@ -171,7 +205,7 @@ public final class OrderShipmentData {
         }
 
         public Builder withShipmentShipOption(String shipmentShipOption) {
-            this.shipmentShipOption = shipmentShipOption;
+            this.shipmentShipOption = StringDictionary.canonical(shipmentShipOption);
             return this;
         }
 
@@ -202,6 +236,7 @@ public final class OrderShipmentData {
         /**
          * Builds and returns an OrderShipmentData from the builder state.
          * @return newly minted OrderShipmentData
+         * @throws IllegalArgumentException if the shipment's dates aren't all in the same zone
          */
         public OrderShipmentData build() {
             OrderShipmentData orderShipmentData = new OrderShipmentData();
@@ -210,15 +245,33 @@ public final class OrderShipmentData {
             orderShipmentData.condition = condition;
             orderShipmentData.warehouseId = warehouseId;
             orderShipmentData.customerShipmentItems = customerShipmentItems;
-            orderShipmentData.shipDate = shipDate;
-            orderShipmentData.creationDate = creationDate;
+            orderShipmentData.customerShipmentItemsView = null == customerShipmentItems ?
+                Collections.emptyList() : Collections.unmodifiableList(customerShipmentItems);
+            orderShipmentData.shipDateEpochSecond = EpochTime.of(shipDate);
+            orderShipmentData.creationDateEpochSecond = EpochTime.of(creationDate);
             orderShipmentData.shipmentShipOption = shipmentShipOption;
-            orderShipmentData.deliveryDate = deliveryDate;
+            orderShipmentData.deliveryDateEpochSecond = EpochTime.of(deliveryDate);
+            orderShipmentData.zone = sharedZone(sharedZone(zoneOf(creationDate), shipDate), deliveryDate);
             orderShipmentData.isDpsPromiseActive = isDpsPromiseActive;
             orderShipmentData.isOfsPromiseActive = !isDpsPromiseActive;
             orderShipmentData.doDpsAndOfsPromisesAgree = doDpsAndOfsPromisesAgree;
             return orderShipmentData;
         }
+
+        private static ZoneId zoneOf(ZonedDateTime dateTime) {
+            return null == dateTime ? null : dateTime.getZone();
+        }
+
+        private static ZoneId sharedZone(ZoneId zone, ZonedDateTime dateTime) {
+            if (null == dateTime) {
+                return zone;
+            }
+            if (null != zone && !zone.equals(dateTime.getZone())) {
+                throw new IllegalArgumentException(
+                    String.format("Shipment dates must share a zone, but found %s and %s", zone, dateTime.getZone()));
+            }
+            return dateTime.getZone();
+        }
     }
 
     /**
@@ -0,0 +1,42 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes the strings that repeat across many records: marketplace IDs, ship options, conditions, warehouse
+ * IDs, merchant IDs, promise sources and the like. The data and promise builders pass those fields through
+ * {@link #canonical(String)}, so equal values share one String instance however they were produced.
+ *
+ * The dictionary holds at most {@value #MAX_ENTRIES} values; once full, new values are returned as they are, so a
+ * field with unexpectedly many distinct values can't grow it without bound.
+ */
+public final class StringDictionary {
+    static final int MAX_ENTRIES = 4096;
+
+    private static final ConcurrentMap<String, String> CANONICAL_VALUES = new ConcurrentHashMap<>();
+
+    private StringDictionary() {
+    }
+
+    /**
+     * Returns the dictionary's instance of the given value, adding it if there's room.
+     *
+     * @param value the value to canonicalize; may be null
+     * @return a String equal to value, shared with every other caller passing an equal value; null if value is null
+     */
+    public static String canonical(String value) {
+        if (null == value) {
+            return null;
+        }
+        String canonical = CANONICAL_VALUES.get(value);
+        if (null != canonical) {
+            return canonical;
+        }
+        if (CANONICAL_VALUES.size() >= MAX_ENTRIES) {
+            return value;
+        }
+        canonical = CANONICAL_VALUES.putIfAbsent(value, value);
+        return null == canonical ? value : canonical;
+    }
+}
@@ -0,0 +1,82 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class EpochTimeTest {
+    private static final ZoneId FIXED_ZONE = ZoneId.ofOffset("UTC", ZoneOffset.ofHours(-7));
+    private static final ZoneId DST_ZONE = ZoneId.of("America/Los_Angeles");
+
+    @Test
+    public void toZonedDateTime_epochSecondOfDate_returnsEqualDate() {
+        // GIVEN
+        ZonedDateTime date = ZonedDateTime.of(2019, 6, 3, 9, 43, 18, 0, FIXED_ZONE);
+
+        // WHEN
+        ZonedDateTime result = EpochTime.toZonedDateTime(EpochTime.of(date), date.getZone());
+
+        // THEN
+        assertEquals(date, result);
+    }
+
+    @Test
+    public void of_nullDate_returnsNone() {
+        // WHEN
+        long epochSecond = EpochTime.of(null);
+
+        // THEN
+        assertEquals(EpochTime.NONE, epochSecond);
+    }
+
+    @Test
+    public void toZonedDateTime_none_returnsNull() {
+        // WHEN
+        ZonedDateTime result = EpochTime.toZonedDateTime(EpochTime.NONE, FIXED_ZONE);
+
+        // THEN
+        assertNull(result);
+    }
+
+    @Test
+    public void plusHours_negativeHours_matchesZonedDateTime() {
+        // GIVEN
+        ZonedDateTime date = ZonedDateTime.of(2019, 6, 3, 9, 43, 18, 0, FIXED_ZONE);
+
+        // WHEN
+        long result = EpochTime.plusHours(EpochTime.of(date), -18);
+
+        // THEN
+        assertEquals(date.minusHours(18).toEpochSecond(), result);
+    }
+
+    @Test
+    public void plusDays_fixedOffsetZone_matchesZonedDateTime() {
+        // GIVEN
+        ZonedDateTime date = ZonedDateTime.of(2019, 6, 3, 9, 43, 18, 0, FIXED_ZONE);
+
+        // WHEN
+        long result = EpochTime.plusDays(EpochTime.of(date), 2, FIXED_ZONE);
+
+        // THEN
+        assertEquals(date.plusDays(2).toEpochSecond(), result);
+    }
+
+    @Test
+    public void plusDays_acrossDaylightSavingTransition_keepsLocalTimeOfDay() {
+        // GIVEN - clocks go forward on 2019-03-10 in Los Angeles, so these two days are 47 hours long
+        ZonedDateTime date = ZonedDateTime.of(2019, 3, 9, 9, 0, 0, 0, DST_ZONE);
+
+        // WHEN
+        long result = EpochTime.plusDays(EpochTime.of(date), 2, DST_ZONE);
+
+        // THEN
+        assertEquals(date.plusDays(2).toEpochSecond(), result);
+        assertEquals(EpochTime.plusHours(EpochTime.of(date), 47), result);
+    }
+}
@@ -0,0 +1,128 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MaterializedOrderItemTableTest {
+    // two IDs eight apart share one of the datastore's sample records
+    private static final String ORDER_ID = "111-7497023-2960702";
+    private static final String OTHER_ORDER_ID = "111-7497023-2960710";
+
+    private OrderDatastore orderDatastore = OrderDatastore.getDatastore();
+    private MaterializedOrderItemTable<String> table;
+    private int computations;
+
+    @BeforeEach
+    private void setup() {
+        computations = 0;
+        table = new MaterializedOrderItemTable<>((orderData, orderItemData) -> {
+            computations++;
+            return orderData.getOrderId() + "/" + orderItemData.getCustomerOrderItemId();
+        });
+    }
+
+    @Test
+    public void get_calledTwice_computesOnce() {
+        // GIVEN
+        OrderData orderData = orderDatastore.getOrderData(ORDER_ID);
+        OrderItemData orderItemData = orderData.getCustomerOrderItemList().get(0);
+        String first = table.get(orderData, orderItemData);
+
+        // WHEN
+        String second = table.get(orderData, orderItemData);
+
+        // THEN
+        assertSame(first, second);
+        assertEquals(1, computations);
+    }
+
+    @Test
+    public void get_orderItemChanged_recomputesOnlyThatItem() {
+        // GIVEN
+        OrderData orderData = orderDatastore.getOrderData(ORDER_ID);
+        List<OrderItemData> orderItems = orderData.getCustomerOrderItemList();
+        OrderItemData changedItem = orderItems.get(0);
+        OrderItemData unchangedItem = orderItems.get(1);
+        String changedBefore = table.get(orderData, changedItem);
+        String unchangedBefore = table.get(orderData, unchangedItem);
+
+        // WHEN
+        changedItem.setConfidence(changedItem.getConfidence());
+        String changedAfter = table.get(orderData, changedItem);
+        String unchangedAfter = table.get(orderData, unchangedItem);
+
+        // THEN
+        assertNotSame(changedBefore, changedAfter);
+        assertSame(unchangedBefore, unchangedAfter);
+        assertEquals(3, computations);
+    }
+
+    @Test
+    public void get_sampleRecordRepointed_recomputesForNewOrderId() {
+        // GIVEN
+        OrderData orderData = orderDatastore.getOrderData(ORDER_ID);
+        OrderItemData orderItemData = orderData.getCustomerOrderItemList().get(0);
+        table.get(orderData, orderItemData);
+
+        // WHEN
+        orderDatastore.getOrderData(OTHER_ORDER_ID);
+        String value = table.get(orderData, orderItemData);
+
+        // THEN
+        assertEquals(OTHER_ORDER_ID + "/" + orderItemData.getCustomerOrderItemId(), value);
+        assertEquals(2, computations);
+    }
+
+    @Test
+    public void get_twoOrderIdsShareSampleRecord_computesOncePerOrderId() {
+        // GIVEN
+        OrderData orderData = orderDatastore.getOrderData(ORDER_ID);
+        OrderItemData orderItemData = orderData.getCustomerOrderItemList().get(0);
+        String itemId = orderItemData.getCustomerOrderItemId();
+
+        // WHEN - alternate between the two order IDs, as reads of generated orders do
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            values.add(table.get(orderDatastore.getOrderData(ORDER_ID), orderItemData));
+            values.add(table.get(orderDatastore.getOrderData(OTHER_ORDER_ID), orderItemData));
+        }
+
+        // THEN
+        for (int i = 0; i < values.size(); i += 2) {
+            assertEquals(ORDER_ID + "/" + itemId, values.get(i));
+            assertEquals(OTHER_ORDER_ID + "/" + itemId, values.get(i + 1));
+        }
+        assertEquals(2, computations);
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    public void get_moreOrderIdsThanMaxPerItem_dropsLeastRecentlyUsedOrderId() {
+        // GIVEN - a table keeping two order IDs per record, and three order IDs sharing one sample record
+        table = new MaterializedOrderItemTable<>((orderData, orderItemData) -> {
+            computations++;
+            return orderData.getOrderId();
+        }, 2);
+        String thirdOrderId = "111-7497023-2960718";
+        OrderItemData orderItemData = orderDatastore.getOrderData(ORDER_ID).getCustomerOrderItemList().get(0);
+        table.get(orderDatastore.getOrderData(ORDER_ID), orderItemData);
+        table.get(orderDatastore.getOrderData(OTHER_ORDER_ID), orderItemData);
+        table.get(orderDatastore.getOrderData(ORDER_ID), orderItemData);
+
+        // WHEN
+        table.get(orderDatastore.getOrderData(thirdOrderId), orderItemData);
+        table.get(orderDatastore.getOrderData(ORDER_ID), orderItemData);
+        String value = table.get(orderDatastore.getOrderData(OTHER_ORDER_ID), orderItemData);
+
+        // THEN - ORDER_ID was used most recently, so OTHER_ORDER_ID was dropped and is computed again
+        assertEquals(OTHER_ORDER_ID, value);
+        assertEquals(4, computations);
+    }
+}
@@ -0,0 +1,133 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderDataTest {
+
+    @Test
+    public void getCustomerOrderItemListView_repeatedCalls_returnsSameReadOnlyList() {
+        // GIVEN
+        OrderData orderData = OrderData.builder()
+                                  .withCustomerOrderItemList(Arrays.asList(OrderItemData.builder().build()))
+                                  .withCustomerShipments(Arrays.asList(shipmentOf("1")))
+                                  .build();
+
+        // WHEN
+        List<OrderItemData> orderItems = orderData.getCustomerOrderItemListView();
+
+        // THEN
+        assertSame(orderItems, orderData.getCustomerOrderItemListView());
+        assertSame(orderData.getCustomerShipmentsView(), orderData.getCustomerShipmentsView());
+        assertThrows(UnsupportedOperationException.class, () -> orderItems.clear());
+        assertThrows(UnsupportedOperationException.class, () -> orderData.getCustomerShipmentsView().clear());
+    }
+
+    @Test
+    public void getCustomerOrderItemListView_itemListReplaced_returnsNewItems() {
+        // GIVEN
+        OrderData orderData = OrderData.builder()
+                                  .withCustomerOrderItemList(Collections.emptyList())
+                                  .withCustomerShipments(Collections.emptyList())
+                                  .build();
+        List<OrderItemData> replacement = new ArrayList<>(Arrays.asList(OrderItemData.builder().build()));
+
+        // WHEN
+        orderData.setCustomerOrderItemList(replacement);
+
+        // THEN
+        assertEquals(replacement, orderData.getCustomerOrderItemListView());
+    }
+
+    @Test
+    public void getCustomerShipmentsView_noLists_returnsEmptyLists() {
+        // GIVEN
+        OrderData orderData = OrderData.builder().build();
+
+        // WHEN + THEN
+        assertTrue(orderData.getCustomerOrderItemListView().isEmpty());
+        assertTrue(orderData.getCustomerShipmentsView().isEmpty());
+    }
+
+    @Test
+    public void getShipmentForOrderItem_itemInShipment_returnsThatShipment() {
+        // GIVEN
+        OrderShipmentData firstShipment = shipmentOf("1");
+        OrderShipmentData secondShipment = shipmentOf("2", "3");
+        OrderData orderData = OrderData.builder()
+                                  .withCustomerOrderItemList(Collections.emptyList())
+                                  .withCustomerShipments(Arrays.asList(firstShipment, secondShipment))
+                                  .build();
+
+        // WHEN
+        OrderShipmentData shipment = orderData.getShipmentForOrderItem("3");
+
+        // THEN
+        assertSame(secondShipment, shipment);
+    }
+
+    @Test
+    public void getShipmentForOrderItem_itemSplitAcrossShipments_returnsFirstShipment() {
+        // GIVEN
+        OrderShipmentData firstShipment = shipmentOf("1", "2");
+        OrderShipmentData secondShipment = shipmentOf("2");
+        OrderData orderData = OrderData.builder()
+                                  .withCustomerOrderItemList(Collections.emptyList())
+                                  .withCustomerShipments(Arrays.asList(firstShipment, secondShipment))
+                                  .build();
+
+        // WHEN
+        OrderShipmentData shipment = orderData.getShipmentForOrderItem("2");
+
+        // THEN
+        assertSame(firstShipment, shipment);
+    }
+
+    @Test
+    public void getShipmentForOrderItem_itemNotShipped_returnsNull() {
+        // GIVEN
+        OrderData orderData = OrderData.builder()
+                                  .withCustomerOrderItemList(Collections.emptyList())
+                                  .withCustomerShipments(Collections.singletonList(shipmentOf("1")))
+                                  .build();
+
+        // WHEN
+        OrderShipmentData shipment = orderData.getShipmentForOrderItem("2");
+
+        // THEN
+        assertNull(shipment);
+    }
+
+    @Test
+    public void getShipmentForOrderItem_noShipments_returnsNull() {
+        // GIVEN
+        OrderData orderData = OrderData.builder().build();
+
+        // WHEN
+        OrderShipmentData shipment = orderData.getShipmentForOrderItem("1");
+
+        // THEN
+        assertNull(shipment);
+    }
+
+    private OrderShipmentData shipmentOf(String... orderItemIds) {
+        OrderShipmentData.CustomerShipmentItemData[] shipmentItems =
+            new OrderShipmentData.CustomerShipmentItemData[orderItemIds.length];
+        for (int i = 0; i < orderItemIds.length; i++) {
+            shipmentItems[i] = new OrderShipmentData.CustomerShipmentItemData(orderItemIds[i], 1);
+        }
+        return OrderShipmentData.builder()
+                   .withCustomerShipmentItems(Arrays.asList(shipmentItems))
+                   .build();
+    }
+}
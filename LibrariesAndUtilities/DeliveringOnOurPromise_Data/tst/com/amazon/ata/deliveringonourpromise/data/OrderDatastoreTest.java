@@ -538,6 +538,32 @@ public class OrderDatastoreTest {
         }
     }
 
+    @Test
+    public void getOrderShipmentDataByOrderItemId_shippedFixtureItem_returnsShipmentContainingItem() {
+        for (OrderFixture fixture : orderDatastore.getOrderFixtures().values()) {
+            if (null == fixture.getOrderData()) {
+                continue;
+            }
+            for (OrderShipmentData shipment : fixture.getOrderData().getCustomerShipments()) {
+                for (OrderShipmentData.CustomerShipmentItemData shipmentItem : shipment.getCustomerShipmentItems()) {
+                    // WHEN
+                    OrderShipmentData indexed =
+                        orderDatastore.getOrderShipmentDataByOrderItemId(shipmentItem.getCustomerOrderItemId());
+
+                    // THEN
+                    assertNotNull(indexed);
+                    assertTrue(indexed.includesOrderItem(shipmentItem.getCustomerOrderItemId()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getOrderShipmentDataByOrderItemId_unknownOrderItemId_returnsNull() {
+        // WHEN + THEN
+        assertNull(orderDatastore.getOrderShipmentDataByOrderItemId("20"));
+    }
+
     /*
      * Returns a regex string to find a substring within a multi-line String.
      */
@@ -0,0 +1,144 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class OrderDateIndexTest {
+
+    @Test
+    public void getOrderIds_entriesAddedOutOfOrder_returnsRangeSortedByDate() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        index.add(300, "C");
+        index.add(100, "A");
+        index.add(400, "D");
+        index.add(200, "B");
+
+        // WHEN
+        List<String> orderIds = index.getOrderIds(100, 400, EpochTime.NONE, null, 10);
+
+        // THEN
+        assertEquals(Arrays.asList("A", "B", "C"), orderIds);
+    }
+
+    @Test
+    public void getOrderIds_sameDate_returnsOrderIdOrder() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        index.add(100, "B");
+        index.add(100, "C");
+        index.add(100, "A");
+
+        // WHEN
+        List<String> orderIds = index.getOrderIds(100, 101, EpochTime.NONE, null, 10);
+
+        // THEN
+        assertEquals(Arrays.asList("A", "B", "C"), orderIds);
+    }
+
+    @Test
+    public void getOrderIds_resumingAfterEntry_returnsFollowingEntries() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        index.add(100, "A");
+        index.add(200, "B");
+        index.add(200, "C");
+        index.add(300, "D");
+
+        // WHEN
+        List<String> orderIds = index.getOrderIds(0, 1000, 200, "B", 2);
+
+        // THEN
+        assertEquals(Arrays.asList("C", "D"), orderIds);
+    }
+
+    @Test
+    public void getOrderIds_limit_returnsAtMostLimit() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        for (int i = 0; i < 100; i++) {
+            index.add(i, String.format("%03d", i));
+        }
+
+        // WHEN
+        List<String> orderIds = index.getOrderIds(10, 90, EpochTime.NONE, null, 3);
+
+        // THEN
+        assertEquals(Arrays.asList("010", "011", "012"), orderIds);
+        assertEquals(100, index.size());
+    }
+
+    @Test
+    public void getOrderIds_emptyRange_returnsNoOrderIds() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        index.add(100, "A");
+
+        // WHEN
+        List<String> orderIds = index.getOrderIds(200, 100, EpochTime.NONE, null, 10);
+
+        // THEN
+        assertEquals(Collections.emptyList(), orderIds);
+    }
+
+    @Test
+    public void getOrderIdsNewestFirst_entriesAddedOutOfOrder_returnsNewestFirst() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        index.add(300, "C");
+        index.add(100, "A");
+        index.add(200, "B");
+
+        // WHEN
+        List<String> orderIds = index.getOrderIdsNewestFirst(EpochTime.NONE, null, 10);
+
+        // THEN
+        assertEquals(Arrays.asList("C", "B", "A"), orderIds);
+    }
+
+    @Test
+    public void getOrderIdsNewestFirst_resumingAfterEntry_returnsOlderEntries() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        index.add(100, "A");
+        index.add(200, "B");
+        index.add(200, "C");
+        index.add(300, "D");
+
+        // WHEN
+        List<String> orderIds = index.getOrderIdsNewestFirst(200, "C", 10);
+
+        // THEN
+        assertEquals(Arrays.asList("B", "A"), orderIds);
+    }
+
+    @Test
+    public void getOrderIdsNewestFirst_pagingThroughThousandsOfEntries_returnsEachEntryOnce() {
+        // GIVEN
+        OrderDateIndex index = new OrderDateIndex();
+        for (int i = 0; i < 5000; i++) {
+            index.add(i / 2, String.format("%04d", i));
+        }
+
+        // WHEN
+        List<String> orderIds = new ArrayList<>();
+        List<String> page = index.getOrderIdsNewestFirst(EpochTime.NONE, null, 7);
+        while (!page.isEmpty()) {
+            orderIds.addAll(page);
+            String last = page.get(page.size() - 1);
+            page = index.getOrderIdsNewestFirst(Integer.parseInt(last) / 2, last, 7);
+        }
+
+        // THEN
+        assertEquals(5000, orderIds.size());
+        for (int i = 0; i < orderIds.size(); i++) {
+            assertEquals(String.format("%04d", 4999 - i), orderIds.get(i));
+        }
+    }
+}
@@ -2,10 +2,16 @@ package com.amazon.ata.deliveringonourpromise.data;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OrderShipmentDataTest {
@@ -61,4 +67,36 @@ public class OrderShipmentDataTest {
                    )
         );
     }
+
+    @Test
+    public void build_datesInOneZone_returnsTheSameDates() {
+        // GIVEN
+        ZonedDateTime creationDate = ZonedDateTime.of(2019, 6, 3, 9, 43, 18, 0,
+                                                      ZoneId.ofOffset("UTC", ZoneOffset.ofHours(-7)));
+
+        // WHEN
+        OrderShipmentData shipmentData = OrderShipmentData.builder()
+                                             .withCreationDate(creationDate)
+                                             .withShipDate(creationDate.plusHours(1))
+                                             .withDeliveryDate(null)
+                                             .build();
+
+        // THEN
+        assertEquals(creationDate, shipmentData.getCreationDate());
+        assertEquals(creationDate.plusHours(1), shipmentData.getShipDate());
+        assertNull(shipmentData.getDeliveryDate());
+        assertEquals(EpochTime.NONE, shipmentData.getDeliveryDateEpochSecond());
+    }
+
+    @Test
+    public void build_datesInDifferentZones_throwsIllegalArgumentException() {
+        // GIVEN
+        ZonedDateTime creationDate = ZonedDateTime.of(2019, 6, 3, 9, 43, 18, 0, ZoneId.ofOffset("UTC", ZoneOffset.UTC));
+        OrderShipmentData.Builder builder = OrderShipmentData.builder()
+                                                .withCreationDate(creationDate)
+                                                .withShipDate(creationDate.withZoneSameInstant(ZoneId.of("Z")));
+
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
 }
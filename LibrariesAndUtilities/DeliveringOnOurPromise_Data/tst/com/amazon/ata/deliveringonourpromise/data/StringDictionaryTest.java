@@ -0,0 +1,74 @@
+package com.amazon.ata.deliveringonourpromise.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class StringDictionaryTest {
+
+    @Test
+    public void canonical_equalValues_returnsOneInstance() {
+        // GIVEN
+        String first = new String("StringDictionaryTest-warehouse");
+        String second = new String("StringDictionaryTest-warehouse");
+        assertNotSame(first, second);
+
+        // WHEN
+        String canonicalFirst = StringDictionary.canonical(first);
+        String canonicalSecond = StringDictionary.canonical(second);
+
+        // THEN
+        assertEquals(first, canonicalSecond);
+        assertSame(canonicalFirst, canonicalSecond);
+    }
+
+    @Test
+    public void canonical_null_returnsNull() {
+        // WHEN
+        String canonical = StringDictionary.canonical(null);
+
+        // THEN
+        assertNull(canonical);
+    }
+
+    @Test
+    public void build_equalMarketplaceIdsAndShipOptions_shareInstances() {
+        // GIVEN
+        OrderData first = OrderData.builder()
+                              .withMarketplaceId(new String("StringDictionaryTest-marketplace"))
+                              .withShipOption(new String("StringDictionaryTest-shipOption"))
+                              .build();
+
+        // WHEN
+        OrderData second = OrderData.builder()
+                               .withMarketplaceId(new String("StringDictionaryTest-marketplace"))
+                               .withShipOption(new String("StringDictionaryTest-shipOption"))
+                               .build();
+
+        // THEN
+        assertSame(first.getMarketplaceId(), second.getMarketplaceId());
+        assertSame(first.getShipOption(), second.getShipOption());
+    }
+
+    @Test
+    public void build_equalShipmentFields_shareInstances() {
+        // GIVEN
+        OrderShipmentData first = OrderShipmentData.builder()
+                                      .withWarehouseId(new String("StringDictionaryTest-warehouseId"))
+                                      .withCondition(new String("StringDictionaryTest-condition"))
+                                      .build();
+
+        // WHEN
+        OrderShipmentData second = OrderShipmentData.builder()
+                                       .withWarehouseId(new String("StringDictionaryTest-warehouseId"))
+                                       .withCondition(new String("StringDictionaryTest-condition"))
+                                       .build();
+
+        // THEN
+        assertSame(first.getWarehouseId(), second.getWarehouseId());
+        assertSame(first.getCondition(), second.getCondition());
+    }
+}
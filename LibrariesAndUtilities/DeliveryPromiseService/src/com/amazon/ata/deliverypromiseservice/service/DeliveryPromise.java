@@ -1,9 +1,16 @@
 package com.amazon.ata.deliverypromiseservice.service;
 
+import com.amazon.ata.deliveringonourpromise.data.EpochTime;
+import com.amazon.ata.deliveringonourpromise.data.StringDictionary;
+
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 /**
  * An Amazon delivery promise.
+ *
+ * The promise dates are kept as epoch seconds in one zone (see EpochTime); the ZonedDateTime getters build a new
+ * date on each call, so code doing arithmetic or comparisons should use the EpochSecond getters instead.
  */
 public class DeliveryPromise {
     private String fulfillmentSvcSubclassId;
@@ -11,13 +18,15 @@ public class DeliveryPromise {
     private int promiseQuantity;
     private String customerOrderId;
     private String promiseDataSource;
-    private ZonedDateTime promiseEffectiveDate;
+    private long promiseEffectiveEpochSecond;
     private boolean isActive;
-    private ZonedDateTime promiseLatestShipDate;
+    private long promiseLatestShipEpochSecond;
     private String promiseProvidedBy;
     private String asin;
     private String planQualityTypeCode;
-    private ZonedDateTime promiseLatestArrivalDate;
+    private long promiseLatestArrivalEpochSecond;
+    // the zone all of the promise's dates are in; see EpochTime
+    private ZoneId zone;
 
     public String getFulfillmentSvcSubclassId() {
         return fulfillmentSvcSubclassId;
@@ -40,7 +49,11 @@ public class DeliveryPromise {
     }
 
     public ZonedDateTime getPromiseEffectiveDate() {
-        return promiseEffectiveDate;
+        return EpochTime.toZonedDateTime(promiseEffectiveEpochSecond, zone);
+    }
+
+    public long getPromiseEffectiveEpochSecond() {
+        return promiseEffectiveEpochSecond;
     }
 
     public boolean isActive() {
@@ -48,7 +61,11 @@ public class DeliveryPromise {
     }
 
     public ZonedDateTime getPromiseLatestShipDate() {
-        return promiseLatestShipDate;
+        return EpochTime.toZonedDateTime(promiseLatestShipEpochSecond, zone);
+    }
+
+    public long getPromiseLatestShipEpochSecond() {
+        return promiseLatestShipEpochSecond;
     }
 
     public String getPromiseProvidedBy() {
@@ -64,7 +81,15 @@ public class DeliveryPromise {
     }
 
     public ZonedDateTime getPromiseLatestArrivalDate() {
-        return promiseLatestArrivalDate;
+        return EpochTime.toZonedDateTime(promiseLatestArrivalEpochSecond, zone);
+    }
+
+    public long getPromiseLatestArrivalEpochSecond() {
+        return promiseLatestArrivalEpochSecond;
+    }
+
+    public ZoneId getZone() {
+        return zone;
     }
 
     /**
@@ -85,18 +110,19 @@ public class DeliveryPromise {
         private int promiseQuantity;
         private String customerOrderId;
         private String promiseDataSource;
-        private ZonedDateTime promiseEffectiveDate;
+        private long promiseEffectiveEpochSecond = EpochTime.NONE;
         private boolean isActive;
-        private ZonedDateTime promiseLatestShipDate;
+        private long promiseLatestShipEpochSecond = EpochTime.NONE;
         private String promiseProvidedBy;
         private String asin;
         private String planQualityTypeCode;
-        private ZonedDateTime promiseLatestArrivalDate;
+        private long promiseLatestArrivalEpochSecond = EpochTime.NONE;
+        private ZoneId zone;
 
         //CHECKSTYLE:OFF:JavadocMethod
         //CHECKSTYLE:OFF:HiddenField
         public Builder withFulfillmentSvcSubclassId(String fulfillmentSvcSubclassId) {
-            this.fulfillmentSvcSubclassId = fulfillmentSvcSubclassId;
+            this.fulfillmentSvcSubclassId = StringDictionary.canonical(fulfillmentSvcSubclassId);
             return this;
         }
 
@@ -116,12 +142,20 @@ public class DeliveryPromise {
         }
 
         public Builder withPromiseDataSource(String promiseDataSource) {
-            this.promiseDataSource = promiseDataSource;
+            this.promiseDataSource = StringDictionary.canonical(promiseDataSource);
             return this;
         }
 
         public Builder withPromiseEffectiveDate(ZonedDateTime promiseEffectiveDate) {
-            this.promiseEffectiveDate = promiseEffectiveDate;
+            this.promiseEffectiveEpochSecond = EpochTime.of(promiseEffectiveDate);
+            if (null != promiseEffectiveDate) {
+                this.zone = promiseEffectiveDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseEffectiveEpochSecond(long promiseEffectiveEpochSecond) {
+            this.promiseEffectiveEpochSecond = promiseEffectiveEpochSecond;
             return this;
         }
 
@@ -131,12 +165,20 @@ public class DeliveryPromise {
         }
 
         public Builder withPromiseLatestShipDate(ZonedDateTime promiseLatestShipDate) {
-            this.promiseLatestShipDate = promiseLatestShipDate;
+            this.promiseLatestShipEpochSecond = EpochTime.of(promiseLatestShipDate);
+            if (null != promiseLatestShipDate) {
+                this.zone = promiseLatestShipDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseLatestShipEpochSecond(long promiseLatestShipEpochSecond) {
+            this.promiseLatestShipEpochSecond = promiseLatestShipEpochSecond;
             return this;
         }
 
         public Builder withPromiseProvidedBy(String promiseProvidedBy) {
-            this.promiseProvidedBy = promiseProvidedBy;
+            this.promiseProvidedBy = StringDictionary.canonical(promiseProvidedBy);
             return this;
         }
 
@@ -146,12 +188,25 @@ public class DeliveryPromise {
         }
 
         public Builder withPlanQualityTypeCode(String planQualityTypeCode) {
-            this.planQualityTypeCode = planQualityTypeCode;
+            this.planQualityTypeCode = StringDictionary.canonical(planQualityTypeCode);
             return this;
         }
 
         public Builder withPromiseLatestArrivalDate(ZonedDateTime promiseLatestArrivalDate) {
-            this.promiseLatestArrivalDate = promiseLatestArrivalDate;
+            this.promiseLatestArrivalEpochSecond = EpochTime.of(promiseLatestArrivalDate);
+            if (null != promiseLatestArrivalDate) {
+                this.zone = promiseLatestArrivalDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseLatestArrivalEpochSecond(long promiseLatestArrivalEpochSecond) {
+            this.promiseLatestArrivalEpochSecond = promiseLatestArrivalEpochSecond;
+            return this;
+        }
+
+        public Builder withZone(ZoneId zone) {
+            this.zone = zone;
             return this;
         }
         //CHECKSTYLE:ON:HiddenField
@@ -168,13 +223,14 @@ public class DeliveryPromise {
             deliveryPromise.promiseQuantity = promiseQuantity;
             deliveryPromise.customerOrderId = customerOrderId;
             deliveryPromise.promiseDataSource = promiseDataSource;
-            deliveryPromise.promiseEffectiveDate = promiseEffectiveDate;
+            deliveryPromise.promiseEffectiveEpochSecond = promiseEffectiveEpochSecond;
             deliveryPromise.isActive = isActive;
-            deliveryPromise.promiseLatestShipDate = promiseLatestShipDate;
+            deliveryPromise.promiseLatestShipEpochSecond = promiseLatestShipEpochSecond;
             deliveryPromise.promiseProvidedBy = promiseProvidedBy;
             deliveryPromise.asin = asin;
             deliveryPromise.planQualityTypeCode = planQualityTypeCode;
-            deliveryPromise.promiseLatestArrivalDate = promiseLatestArrivalDate;
+            deliveryPromise.promiseLatestArrivalEpochSecond = promiseLatestArrivalEpochSecond;
+            deliveryPromise.zone = zone;
             return deliveryPromise;
         }
     }
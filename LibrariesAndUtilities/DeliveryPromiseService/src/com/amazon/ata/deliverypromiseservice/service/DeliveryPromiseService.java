@@ -1,11 +1,13 @@
 package com.amazon.ata.deliverypromiseservice.service;
 
+import com.amazon.ata.deliveringonourpromise.data.EpochTime;
 import com.amazon.ata.deliveringonourpromise.data.OrderData;
 import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.data.MaterializedOrderItemTable;
 import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
 import com.amazon.ata.deliveringonourpromise.data.OrderShipmentData;
 
-import java.time.ZonedDateTime;
+import java.time.ZoneId;
 
 /**
  * Mocks DeliveryPromiseService, returning Delivery Promises for customer order item IDs.
@@ -14,6 +16,8 @@ public class DeliveryPromiseService {
     private static final String CUSTOMER_ORDER_ID_PATTERN = "-?\\d+(\\.\\d+)?";
 
     private OrderDatastore orderDatastore;
+    // null unless promises are materialized
+    private final MaterializedOrderItemTable<DeliveryPromise> promiseTable;
 
     /**
      * Constructs a DeliveryPromiseService instance, which will used the provided OrderDatastore
@@ -22,7 +26,22 @@ public class DeliveryPromiseService {
      * @param orderDatastore The order datastore to use for fetching order/item data
      */
     public DeliveryPromiseService(OrderDatastore orderDatastore) {
+        this(orderDatastore, false);
+    }
+
+    /**
+     * Constructs a DeliveryPromiseService instance, which will used the provided OrderDatastore
+     * to ensure consistent order data, optionally keeping a table of the promises it has made.
+     *
+     * With a promise table, each order item's promise is built once and then served from the table until the
+     * item's or its order's records change.
+     *
+     * @param orderDatastore The order datastore to use for fetching order/item data
+     * @param materializePromises true to keep a promise table; false to build a new promise on every call
+     */
+    public DeliveryPromiseService(OrderDatastore orderDatastore, boolean materializePromises) {
         this.orderDatastore = orderDatastore;
+        this.promiseTable = materializePromises ? new MaterializedOrderItemTable<>(this::buildDeliveryPromise) : null;
     }
 
     /**
@@ -43,17 +62,20 @@ public class DeliveryPromiseService {
             return null;
         }
 
-        ZonedDateTime orderDate = orderData.getOrderDate();
-        ZonedDateTime promiseEffectiveDate = orderDate.plusHours(1);
-        ZonedDateTime promiseLatestArrivalDate = promiseEffectiveDate.plusDays(2);
-        ZonedDateTime promiseLatestShipDate = promiseLatestArrivalDate.minusHours(18);
+        return null == promiseTable ?
+            buildDeliveryPromise(orderData, orderItemData) : promiseTable.get(orderData, orderItemData);
+    }
 
-        boolean isDpsPromiseActive = false;
-        for (OrderShipmentData shipment : orderData.getCustomerShipments()) {
-            if (shipment.includesOrderItem(customerOrderItemId)) {
-                isDpsPromiseActive = shipment.isDpsPromiseActive();
-            }
-        }
+    private DeliveryPromise buildDeliveryPromise(OrderData orderData, OrderItemData orderItemData) {
+        String customerOrderItemId = orderItemData.getCustomerOrderItemId();
+        ZoneId zone = orderData.getZone();
+        long orderDate = orderData.getOrderDateEpochSecond();
+        long promiseEffectiveDate = EpochTime.plusHours(orderDate, 1);
+        long promiseLatestArrivalDate = EpochTime.plusDays(promiseEffectiveDate, 2, zone);
+        long promiseLatestShipDate = EpochTime.plusHours(promiseLatestArrivalDate, -18);
+
+        OrderShipmentData shipment = orderData.getShipmentForOrderItem(customerOrderItemId);
+        boolean isDpsPromiseActive = null != shipment && shipment.isDpsPromiseActive();
 
         return DeliveryPromise.builder()
                    .withCustomerOrderId(orderData.getOrderId())
@@ -61,13 +83,14 @@ public class DeliveryPromiseService {
                    .withPromiseQuantity(orderItemData.getQuantity())
                    .withFulfillmentSvcSubclassId("2")
                    .withPromiseDataSource("SLAM")
-                   .withPromiseEffectiveDate(promiseEffectiveDate)
+                   .withPromiseEffectiveEpochSecond(promiseEffectiveDate)
                    .withIsActive(isDpsPromiseActive)
-                   .withPromiseLatestShipDate(promiseLatestShipDate)
+                   .withPromiseLatestShipEpochSecond(promiseLatestShipDate)
                    .withPromiseProvidedBy("DPS")
                    .withAsin(orderItemData.getAsin())
                    .withPlanQualityTypeCode("Normal")
-                   .withPromiseLatestArrivalDate(promiseLatestArrivalDate)
+                   .withPromiseLatestArrivalEpochSecond(promiseLatestArrivalDate)
+                   .withZone(zone)
                    .build();
     }
 }
@@ -2,13 +2,16 @@ package com.amazon.ata.deliverypromiseservice.service;
 
 import com.amazon.ata.deliveringonourpromise.data.OrderData;
 import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DeliveryPromiseServiceTest {
     private DeliveryPromiseService dps;
@@ -126,4 +129,52 @@ public class DeliveryPromiseServiceTest {
         assertNotNull(deliveryPromise.getPromiseLatestArrivalDate());
     }
 
+
+    @Test
+    public void getDeliveryPromise_materialized_calledTwice_returnsSamePromise() {
+        // GIVEN
+        DeliveryPromiseService materializedDps = new DeliveryPromiseService(OrderDatastore.getDatastore(), true);
+        DeliveryPromise first = materializedDps.getDeliveryPromise(orderItemId);
+
+        // WHEN
+        DeliveryPromise second = materializedDps.getDeliveryPromise(orderItemId);
+
+        // THEN
+        assertSame(first, second);
+    }
+
+    @Test
+    public void getDeliveryPromise_materialized_matchesBuiltPromise() {
+        // GIVEN
+        DeliveryPromiseService materializedDps = new DeliveryPromiseService(OrderDatastore.getDatastore(), true);
+        materializedDps.getDeliveryPromise(orderItemId);
+
+        // WHEN
+        DeliveryPromise materialized = materializedDps.getDeliveryPromise(orderItemId);
+        DeliveryPromise built = dps.getDeliveryPromise(orderItemId);
+
+        // THEN
+        assertEquals(built.getCustomerOrderId(), materialized.getCustomerOrderId());
+        assertEquals(built.getCustomerOrderItemId(), materialized.getCustomerOrderItemId());
+        assertEquals(built.getPromiseEffectiveDate(), materialized.getPromiseEffectiveDate());
+        assertEquals(built.getPromiseLatestShipDate(), materialized.getPromiseLatestShipDate());
+        assertEquals(built.getPromiseLatestArrivalDate(), materialized.getPromiseLatestArrivalDate());
+        assertEquals(built.isActive(), materialized.isActive());
+    }
+
+    @Test
+    public void getDeliveryPromise_materialized_orderItemChanged_rebuildsPromise() {
+        // GIVEN
+        DeliveryPromiseService materializedDps = new DeliveryPromiseService(OrderDatastore.getDatastore(), true);
+        DeliveryPromise first = materializedDps.getDeliveryPromise(orderItemId);
+        OrderItemData orderItemData = OrderDatastore.getDatastore().getOrderItemData(orderItemId);
+
+        // WHEN
+        orderItemData.setConfidence(orderItemData.getConfidence());
+        DeliveryPromise second = materializedDps.getDeliveryPromise(orderItemId);
+
+        // THEN
+        assertNotSame(first, second);
+        assertEquals(orderItemId, second.getCustomerOrderItemId());
+    }
 }
@@ -1,5 +1,7 @@
 package com.amazon.ata.orderfulfillmentservice;
 
+import com.amazon.ata.deliveringonourpromise.data.EpochTime;
+import com.amazon.ata.deliveringonourpromise.data.MaterializedOrderItemTable;
 import com.amazon.ata.deliveringonourpromise.data.OrderData;
 import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
 import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
@@ -7,7 +9,7 @@ import com.amazon.ata.deliveringonourpromise.data.OrderShipmentData;
 import com.amazon.ata.deliverypromiseservice.service.DeliveryPromise;
 import com.amazon.ata.deliverypromiseservice.service.DeliveryPromiseService;
 
-import java.time.ZonedDateTime;
+import java.time.ZoneId;
 
 /**
  * The service providing information on orders that are routing to or have come through order fulfillment.
@@ -16,6 +18,8 @@ import java.time.ZonedDateTime;
 public class OrderFulfillmentService {
     private OrderDatastore orderDatastore;
     private DeliveryPromiseService deliveryPromiseService;
+    // null unless promises are materialized
+    private final MaterializedOrderItemTable<OrderPromise> promiseTable;
 
     /**
      * Constructs an OrderFulfillmentService instance, using the provided OrderDatastore.
@@ -24,8 +28,26 @@ public class OrderFulfillmentService {
      * @param deliveryPromiseService reference to the DeliveryPromiseService to fetch promises that can be kept
      */
     public OrderFulfillmentService(OrderDatastore orderDatastore, DeliveryPromiseService deliveryPromiseService) {
+        this(orderDatastore, deliveryPromiseService, false);
+    }
+
+    /**
+     * Constructs an OrderFulfillmentService instance, using the provided OrderDatastore, optionally keeping a
+     * table of the promises it has made.
+     *
+     * With a promise table, each order item's promise is built once and then served from the table until the
+     * item's or its order's records change. Only use one if deliveryPromiseService derives its promises from the
+     * same datastore, since a change to DPS's promises alone won't be noticed.
+     *
+     * @param orderDatastore         the datastore to use for pulling Order details
+     * @param deliveryPromiseService reference to the DeliveryPromiseService to fetch promises that can be kept
+     * @param materializePromises    true to keep a promise table; false to build a new promise on every call
+     */
+    public OrderFulfillmentService(OrderDatastore orderDatastore, DeliveryPromiseService deliveryPromiseService,
+                                   boolean materializePromises) {
         this.orderDatastore = orderDatastore;
         this.deliveryPromiseService = deliveryPromiseService;
+        this.promiseTable = materializePromises ? new MaterializedOrderItemTable<>(this::buildOrderPromise) : null;
     }
 
     /**
@@ -46,7 +68,8 @@ public class OrderFulfillmentService {
             return null;
         }
 
-        return buildOrderPromise(orderData, orderItemData);
+        return null == promiseTable ?
+            buildOrderPromise(orderData, orderItemData) : promiseTable.get(orderData, orderItemData);
     }
 
     /*
@@ -69,20 +92,22 @@ public class OrderFulfillmentService {
             return null;
         }
 
-        ZonedDateTime orderDate = orderData.getOrderDate();
-        ZonedDateTime promiseEffectiveDate = orderDate.plusHours(8);
-        ZonedDateTime promiseLatestArrivalDate;
-        ZonedDateTime promiseLatestShipDate;
+        ZoneId zone = orderData.getZone();
+        long orderDate = orderData.getOrderDateEpochSecond();
+        long promiseEffectiveDate = EpochTime.plusHours(orderDate, 8);
+        long promiseLatestArrivalDate;
+        long promiseLatestShipDate;
         DeliveryPromise deliveryPromise = deliveryPromiseService.getDeliveryPromise(customerOrderItemId);
 
         // If the Order record indicates that DPS and OFS dates should match, maintain the DPS promises dates
         // Otherwise, compute later promise arrival dates for OFS.
         if (matchesDpsPromiseDate(orderData, customerOrderItemId)) {
-            promiseLatestArrivalDate = deliveryPromise.getPromiseLatestArrivalDate();
-            promiseLatestShipDate = deliveryPromise.getPromiseLatestShipDate();
+            promiseLatestArrivalDate = deliveryPromise.getPromiseLatestArrivalEpochSecond();
+            promiseLatestShipDate = deliveryPromise.getPromiseLatestShipEpochSecond();
         } else {
-            promiseLatestArrivalDate = deliveryPromise.getPromiseLatestArrivalDate().plusDays(1).plusHours(2);
-            promiseLatestShipDate = promiseLatestArrivalDate.minusHours(15);
+            promiseLatestArrivalDate = EpochTime.plusHours(
+                EpochTime.plusDays(deliveryPromise.getPromiseLatestArrivalEpochSecond(), 1, zone), 2);
+            promiseLatestShipDate = EpochTime.plusHours(promiseLatestArrivalDate, -15);
         }
 
         return OrderPromise.builder()
@@ -91,9 +116,10 @@ public class OrderFulfillmentService {
                    .withAsin(orderItemData.getAsin())
                    .withIsActive(isOfsPromiseActiveForOrderItem(orderData, customerOrderItemId))
                    .withPromiseQuantity(orderItemData.getQuantity())
-                   .withPromiseEffectiveDate(promiseEffectiveDate)
-                   .withPromiseLatestShipDate(promiseLatestShipDate)
-                   .withPromiseLatestArrivalDate(promiseLatestArrivalDate)
+                   .withPromiseEffectiveEpochSecond(promiseEffectiveDate)
+                   .withPromiseLatestShipEpochSecond(promiseLatestShipDate)
+                   .withPromiseLatestArrivalEpochSecond(promiseLatestArrivalDate)
+                   .withZone(zone)
                    .withFulfillmentSvcSubclassId("1")
                    .withPlanQualityTypeCode("Normal")
                    .withPromiseDataSource("SLAM")
@@ -105,25 +131,15 @@ public class OrderFulfillmentService {
      * Consults the Order record to determine if OFS's promise (arrival) date should match DPS's.
      */
     private boolean matchesDpsPromiseDate(OrderData orderData, String customerOrderItemId) {
-        for (OrderShipmentData shipment : orderData.getCustomerShipments()) {
-            if (shipment.includesOrderItem(customerOrderItemId)) {
-                return shipment.doDpsAndOfsPromisesAgree();
-            }
-        }
-
-        return false;
+        OrderShipmentData shipment = orderData.getShipmentForOrderItem(customerOrderItemId);
+        return null != shipment && shipment.doDpsAndOfsPromisesAgree();
     }
 
     /*
      * Consults the Order record to determine if there should be an OFS promise (true) or not (false).
      */
     private boolean isOfsPromiseActiveForOrderItem(OrderData orderData, String customerOrderItemId) {
-        for (OrderShipmentData shipment : orderData.getCustomerShipments()) {
-            if (shipment.includesOrderItem(customerOrderItemId)) {
-                return shipment.isOfsPromiseActive();
-            }
-        }
-
-        return false;
+        OrderShipmentData shipment = orderData.getShipmentForOrderItem(customerOrderItemId);
+        return null != shipment && shipment.isOfsPromiseActive();
     }
 }
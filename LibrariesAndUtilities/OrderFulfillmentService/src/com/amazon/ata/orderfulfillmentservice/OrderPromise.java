@@ -1,5 +1,9 @@
 package com.amazon.ata.orderfulfillmentservice;
 
+import com.amazon.ata.deliveringonourpromise.data.EpochTime;
+import com.amazon.ata.deliveringonourpromise.data.StringDictionary;
+
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
 /**
@@ -21,18 +25,22 @@ import java.time.ZonedDateTime;
  * * fulfillmentSvsSubclassId: Meaningful code for the order fulfillment service identifying the type of order this
  *                             item belongs to
  * * promiseProvidedBy: the promise service that issued the promise (e.g. DPS, OFS...).
+ * * zone: the zone the promise's dates are in. The dates are kept as epoch seconds (see EpochTime) and only
+ *         built into ZonedDateTimes by their getters.
  */
 public class OrderPromise {
     private String customerOrderId;
     private String customerOrderItemId;
     private String asin;
     private int promiseQuantity;
-    private ZonedDateTime promiseLatestArrivalDate;
+    private long promiseLatestArrivalEpochSecond;
     private String promiseDataSource;
-    private ZonedDateTime promiseEffectiveDate;
+    private long promiseEffectiveEpochSecond;
     private String planQualityTypeCode;
     private boolean isActive;
-    private ZonedDateTime promiseLatestShipDate;
+    private long promiseLatestShipEpochSecond;
+    // the zone all of the promise's dates are in; see EpochTime
+    private ZoneId zone;
     private String fulfillmentSvcSubclassId;
     private String promiseProvidedBy;
 
@@ -54,7 +62,15 @@ public class OrderPromise {
     }
 
     public ZonedDateTime getPromiseLatestArrivalDate() {
-        return promiseLatestArrivalDate;
+        return EpochTime.toZonedDateTime(promiseLatestArrivalEpochSecond, zone);
+    }
+
+    public long getPromiseLatestArrivalEpochSecond() {
+        return promiseLatestArrivalEpochSecond;
+    }
+
+    public ZoneId getZone() {
+        return zone;
     }
 
     public String getPromiseDataSource() {
@@ -62,7 +78,11 @@ public class OrderPromise {
     }
 
     public ZonedDateTime getPromiseEffectiveDate() {
-        return promiseEffectiveDate;
+        return EpochTime.toZonedDateTime(promiseEffectiveEpochSecond, zone);
+    }
+
+    public long getPromiseEffectiveEpochSecond() {
+        return promiseEffectiveEpochSecond;
     }
 
     public String getPlanQualityTypeCode() {
@@ -74,7 +94,11 @@ public class OrderPromise {
     }
 
     public ZonedDateTime getPromiseLatestShipDate() {
-        return promiseLatestShipDate;
+        return EpochTime.toZonedDateTime(promiseLatestShipEpochSecond, zone);
+    }
+
+    public long getPromiseLatestShipEpochSecond() {
+        return promiseLatestShipEpochSecond;
     }
 
     public String getFulfillmentSvcSubclassId() {
@@ -92,12 +116,12 @@ public class OrderPromise {
                ", customerOrderItemId='" + customerOrderItemId + '\'' +
                ", asin='" + asin + '\'' +
                ", promiseQuantity=" + promiseQuantity +
-               ", promiseLatestArrivalDate=" + promiseLatestArrivalDate +
+               ", promiseLatestArrivalDate=" + getPromiseLatestArrivalDate() +
                ", promiseDataSource='" + promiseDataSource + '\'' +
-               ", promiseEffectiveDate=" + promiseEffectiveDate +
+               ", promiseEffectiveDate=" + getPromiseEffectiveDate() +
                ", planQualityTypeCode='" + planQualityTypeCode + '\'' +
                ", isActive=" + isActive +
-               ", promiseLatestShipDate=" + promiseLatestShipDate +
+               ", promiseLatestShipDate=" + getPromiseLatestShipDate() +
                ", fulfillmentSvcSubclassId='" + fulfillmentSvcSubclassId + '\'' +
                ", promiseProvidedBy='" + promiseProvidedBy + '\'' +
                '}';
@@ -119,12 +143,13 @@ public class OrderPromise {
         private String customerOrderItemId;
         private String asin;
         private int promiseQuantity;
-        private ZonedDateTime promiseLatestArrivalDate;
+        private long promiseLatestArrivalEpochSecond = EpochTime.NONE;
         private String promiseDataSource;
-        private ZonedDateTime promiseEffectiveDate;
+        private long promiseEffectiveEpochSecond = EpochTime.NONE;
         private String planQualityTypeCode;
         private boolean isActive;
-        private ZonedDateTime promiseLatestShipDate;
+        private long promiseLatestShipEpochSecond = EpochTime.NONE;
+        private ZoneId zone;
         private String fulfillmentSvcSubclassId;
         private String promiseProvidedBy;
 
@@ -151,22 +176,43 @@ public class OrderPromise {
         }
 
         public Builder withPromiseLatestArrivalDate(ZonedDateTime promiseLatestArrivalDate) {
-            this.promiseLatestArrivalDate = promiseLatestArrivalDate;
+            this.promiseLatestArrivalEpochSecond = EpochTime.of(promiseLatestArrivalDate);
+            if (null != promiseLatestArrivalDate) {
+                this.zone = promiseLatestArrivalDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseLatestArrivalEpochSecond(long promiseLatestArrivalEpochSecond) {
+            this.promiseLatestArrivalEpochSecond = promiseLatestArrivalEpochSecond;
+            return this;
+        }
+
+        public Builder withZone(ZoneId zone) {
+            this.zone = zone;
             return this;
         }
 
         public Builder withPromiseDataSource(String promiseDataSource) {
-            this.promiseDataSource = promiseDataSource;
+            this.promiseDataSource = StringDictionary.canonical(promiseDataSource);
             return this;
         }
 
         public Builder withPromiseEffectiveDate(ZonedDateTime promiseEffectiveDate) {
-            this.promiseEffectiveDate = promiseEffectiveDate;
+            this.promiseEffectiveEpochSecond = EpochTime.of(promiseEffectiveDate);
+            if (null != promiseEffectiveDate) {
+                this.zone = promiseEffectiveDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseEffectiveEpochSecond(long promiseEffectiveEpochSecond) {
+            this.promiseEffectiveEpochSecond = promiseEffectiveEpochSecond;
             return this;
         }
 
         public Builder withPlanQualityTypeCode(String planQualityTypeCode) {
-            this.planQualityTypeCode = planQualityTypeCode;
+            this.planQualityTypeCode = StringDictionary.canonical(planQualityTypeCode);
             return this;
         }
 
@@ -176,17 +222,25 @@ public class OrderPromise {
         }
 
         public Builder withPromiseLatestShipDate(ZonedDateTime promiseLatestShipDate) {
-            this.promiseLatestShipDate = promiseLatestShipDate;
+            this.promiseLatestShipEpochSecond = EpochTime.of(promiseLatestShipDate);
+            if (null != promiseLatestShipDate) {
+                this.zone = promiseLatestShipDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseLatestShipEpochSecond(long promiseLatestShipEpochSecond) {
+            this.promiseLatestShipEpochSecond = promiseLatestShipEpochSecond;
             return this;
         }
 
         public Builder withFulfillmentSvcSubclassId(String fulfillmentSvcSubclassId) {
-            this.fulfillmentSvcSubclassId = fulfillmentSvcSubclassId;
+            this.fulfillmentSvcSubclassId = StringDictionary.canonical(fulfillmentSvcSubclassId);
             return this;
         }
 
         public Builder withPromiseProvidedBy(String promiseProvidedBy) {
-            this.promiseProvidedBy = promiseProvidedBy;
+            this.promiseProvidedBy = StringDictionary.canonical(promiseProvidedBy);
             return this;
         }
 
@@ -203,12 +257,13 @@ public class OrderPromise {
             orderPromise.customerOrderItemId = customerOrderItemId;
             orderPromise.asin = asin;
             orderPromise.promiseQuantity = promiseQuantity;
-            orderPromise.promiseLatestArrivalDate = promiseLatestArrivalDate;
+            orderPromise.promiseLatestArrivalEpochSecond = promiseLatestArrivalEpochSecond;
+            orderPromise.zone = zone;
             orderPromise.promiseDataSource = promiseDataSource;
-            orderPromise.promiseEffectiveDate = promiseEffectiveDate;
+            orderPromise.promiseEffectiveEpochSecond = promiseEffectiveEpochSecond;
             orderPromise.planQualityTypeCode = planQualityTypeCode;
             orderPromise.isActive = isActive;
-            orderPromise.promiseLatestShipDate = promiseLatestShipDate;
+            orderPromise.promiseLatestShipEpochSecond = promiseLatestShipEpochSecond;
             orderPromise.fulfillmentSvcSubclassId = fulfillmentSvcSubclassId;
             orderPromise.promiseProvidedBy = promiseProvidedBy;
             return orderPromise;
@@ -239,6 +239,8 @@ public class OrderFulfillmentServiceTest {
                 when(shipmentWithDpsOpsAgreeing.isOfsPromiseActive()).thenReturn(true);
                 when(orderDataWithDpsOfsAgreement.getCustomerShipments())
                     .thenReturn(Arrays.asList(shipmentWithDpsOpsAgreeing));
+                when(orderDataWithDpsOfsAgreement.getShipmentForOrderItem(orderItemId))
+                    .thenReturn(shipmentWithDpsOpsAgreeing);
                 when(spyOrderDatastore.getOrderData(orderId)).thenReturn(orderDataWithDpsOfsAgreement);
             }
         }
@@ -249,5 +251,7 @@ public class OrderFulfillmentServiceTest {
      */
     private void forceDpsLatestArrivalDate(ZonedDateTime arrivalDate) {
         when(deliveryPromiseServicePromise.getPromiseLatestArrivalDate()).thenReturn(arrivalDate);
+        when(deliveryPromiseServicePromise.getPromiseLatestArrivalEpochSecond())
+            .thenReturn(arrivalDate.toEpochSecond());
     }
 }
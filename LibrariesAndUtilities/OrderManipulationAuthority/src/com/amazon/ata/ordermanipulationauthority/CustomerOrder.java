@@ -0,0 +1,37 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Read-only view of an Amazon customer order, as vended by the OrderManipulationAuthority.
+ *
+ * Implemented both by the detached OrderResult copies and by the read-through views OMA vends over its datastore.
+ */
+public interface CustomerOrder {
+    String getOrderId();
+
+    OrderCondition getCondition();
+
+    /**
+     * Returns the order's items.
+     *
+     * @return read-only list of the order's items
+     */
+    List<? extends CustomerOrderItem> getCustomerOrderItemList();
+
+    /**
+     * Returns the order's shipments.
+     *
+     * @return read-only list of the order's shipments
+     */
+    List<? extends CustomerOrderShipment> getOrderShipmentList();
+
+    String getCustomerId();
+
+    ZonedDateTime getOrderDate();
+
+    String getShipOption();
+
+    String getMarketplaceId();
+}
@@ -0,0 +1,33 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only view of an order item, as vended by the OrderManipulationAuthority.
+ *
+ * Implemented both by the detached OrderResultItem copies and by the read-through views OMA vends over its
+ * datastore.
+ */
+public interface CustomerOrderItem {
+    String getCustomerOrderItemId();
+
+    int getQuantity();
+
+    ZonedDateTime getApprovalDate();
+
+    String getOrderId();
+
+    String getMerchantId();
+
+    String getAsin();
+
+    String getSupplyCode();
+
+    String getTitle();
+
+    ZonedDateTime getSupplyCodeDate();
+
+    boolean isConfidenceTracked();
+
+    int getConfidence();
+}
@@ -0,0 +1,58 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a list of customer orders vended by the OrderManipulationAuthority, with the token to pass back for
+ * the next page.
+ */
+public final class CustomerOrderPage {
+    private final List<CustomerOrder> orders;
+    private final String nextPageToken;
+
+    /**
+     * Creates a page holding the given orders.
+     * @param orders the orders on this page
+     * @param nextPageToken the token to fetch the next page with, or null if this is the last page
+     */
+    public CustomerOrderPage(List<CustomerOrder> orders, String nextPageToken) {
+        this.orders = Collections.unmodifiableList(orders);
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * Returns the orders on this page.
+     *
+     * @return read-only list of the page's orders
+     */
+    public List<CustomerOrder> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Returns the token to pass back to fetch the next page.
+     *
+     * @return the next page's token, or null if this is the last page
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    /**
+     * Returns whether there are more orders after this page.
+     *
+     * @return true if there is a next page
+     */
+    public boolean hasNextPage() {
+        return null != nextPageToken;
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerOrderPage{" +
+               "orders=" + orders +
+               ", nextPageToken='" + nextPageToken + '\'' +
+               '}';
+    }
+}
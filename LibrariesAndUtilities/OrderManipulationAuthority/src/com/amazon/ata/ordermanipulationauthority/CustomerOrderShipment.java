@@ -0,0 +1,41 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Read-only view of a shipment associated with a customer order, as vended by the OrderManipulationAuthority.
+ *
+ * Implemented both by the detached OrderShipment copies and by the read-through views OMA vends over its datastore.
+ */
+public interface CustomerOrderShipment {
+    String getShipmentId();
+
+    String getZip();
+
+    String getCondition();
+
+    String getWarehouseId();
+
+    /**
+     * Returns the order items in this shipment.
+     *
+     * @return read-only list of the shipment's items
+     */
+    List<OrderShipment.ShipmentItem> getCustomerShipmentItems();
+
+    ZonedDateTime getShipDate();
+
+    ZonedDateTime getCreationDate();
+
+    String getShipmentShipOption();
+
+    ZonedDateTime getDeliveryDate();
+
+    /**
+     * Indicates if this shipment contains the specified order item.
+     * @param orderItemId the order item ID to determine if this shipment includes or not
+     * @return true if this shipment includes orderItemId; false otherwise
+     */
+    boolean includesOrderItem(String orderItemId);
+}
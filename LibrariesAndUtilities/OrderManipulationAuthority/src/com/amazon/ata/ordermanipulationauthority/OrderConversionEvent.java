@@ -0,0 +1,30 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for converting datastore order data into an OrderResult. Only conversions slower than
+ * the threshold are recorded.
+ */
+@Name("com.amazon.ata.ordermanipulationauthority.OrderConversion")
+@Label("OMA Order Conversion")
+@Category({"Delivering On Our Promise", "OMA"})
+@Description("Conversion of an order's data, items and shipments into an OrderResult")
+@Threshold("1 ms")
+@StackTrace(false)
+class OrderConversionEvent extends Event {
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Shipment Count")
+    int shipmentCount;
+}
@@ -0,0 +1,89 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderData;
+import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
+import com.amazon.ata.deliveringonourpromise.data.OrderShipmentData;
+
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Read-through CustomerOrder over an OrderData record. Getters delegate to the record. The item and shipment lists
+ * read the record's own lists on every call, uncopied, so they reflect later changes to the record. Each element is
+ * a small view created as the caller reads it; a null entry in the record comes back as null.
+ *
+ * The datastore re-points its shared sample records at whichever order ID was asked for last, so the view keeps
+ * the order ID it was created for rather than reading it back from the record.
+ */
+final class OrderDataView implements CustomerOrder {
+    private final String orderId;
+    private final OrderData orderData;
+
+    OrderDataView(String orderId, OrderData orderData) {
+        this.orderId = orderId;
+        this.orderData = orderData;
+    }
+
+    @Override
+    public String getOrderId() {
+        return orderId;
+    }
+
+    @Override
+    public OrderCondition getCondition() {
+        return OrderCondition.fromCode(orderData.getCondition());
+    }
+
+    @Override
+    public List<CustomerOrderItem> getCustomerOrderItemList() {
+        return new AbstractList<CustomerOrderItem>() {
+            @Override
+            public CustomerOrderItem get(int index) {
+                OrderItemData orderItemData = orderData.getCustomerOrderItemListView().get(index);
+                return null == orderItemData ? null : new OrderItemDataView(orderId, orderItemData);
+            }
+
+            @Override
+            public int size() {
+                return orderData.getCustomerOrderItemListView().size();
+            }
+        };
+    }
+
+    @Override
+    public List<CustomerOrderShipment> getOrderShipmentList() {
+        return new AbstractList<CustomerOrderShipment>() {
+            @Override
+            public CustomerOrderShipment get(int index) {
+                OrderShipmentData shipment = orderData.getCustomerShipmentsView().get(index);
+                return null == shipment ? null : new OrderShipmentDataView(shipment);
+            }
+
+            @Override
+            public int size() {
+                return orderData.getCustomerShipmentsView().size();
+            }
+        };
+    }
+
+    @Override
+    public String getCustomerId() {
+        return orderData.getCustomerId();
+    }
+
+    @Override
+    public ZonedDateTime getOrderDate() {
+        return orderData.getOrderDate();
+    }
+
+    @Override
+    public String getShipOption() {
+        return orderData.getShipOption();
+    }
+
+    @Override
+    public String getMarketplaceId() {
+        return orderData.getMarketplaceId();
+    }
+}
@@ -0,0 +1,73 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-through CustomerOrderItem over an OrderItemData record, reporting the order ID it was created for.
+ */
+final class OrderItemDataView implements CustomerOrderItem {
+    private final String orderId;
+    private final OrderItemData orderItemData;
+
+    OrderItemDataView(String orderId, OrderItemData orderItemData) {
+        this.orderId = orderId;
+        this.orderItemData = orderItemData;
+    }
+
+    @Override
+    public String getCustomerOrderItemId() {
+        return orderItemData.getCustomerOrderItemId();
+    }
+
+    @Override
+    public int getQuantity() {
+        return orderItemData.getQuantity();
+    }
+
+    @Override
+    public ZonedDateTime getApprovalDate() {
+        return orderItemData.getApprovalDate();
+    }
+
+    @Override
+    public String getOrderId() {
+        return orderId;
+    }
+
+    @Override
+    public String getMerchantId() {
+        return orderItemData.getMerchantId();
+    }
+
+    @Override
+    public String getAsin() {
+        return orderItemData.getAsin();
+    }
+
+    @Override
+    public String getSupplyCode() {
+        return orderItemData.getSupplyCode();
+    }
+
+    @Override
+    public String getTitle() {
+        return orderItemData.getTitle();
+    }
+
+    @Override
+    public ZonedDateTime getSupplyCodeDate() {
+        return orderItemData.getSupplyCodeDate();
+    }
+
+    @Override
+    public boolean isConfidenceTracked() {
+        return orderItemData.isConfidenceTracked();
+    }
+
+    @Override
+    public int getConfidence() {
+        return orderItemData.getConfidence();
+    }
+}
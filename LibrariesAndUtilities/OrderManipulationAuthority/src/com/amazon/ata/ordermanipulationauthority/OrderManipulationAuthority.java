@@ -1,19 +1,39 @@
 package com.amazon.ata.ordermanipulationauthority;
 
+import com.amazon.ata.deliveringonourpromise.data.EpochTime;
 import com.amazon.ata.deliveringonourpromise.data.OrderData;
 import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
 import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
 import com.amazon.ata.deliveringonourpromise.data.OrderShipmentData;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * local fake service for OrderManipulationAuthority, vending order
  * details for given order IDs.
+ *
+ * Each OrderResult is built once and then shared, from a bounded cache keyed by order ID, by every caller asking
+ * for that order. OrderResults are immutable, so sharing them is safe. A cached result is rebuilt once the
+ * datastore's version shows that its records have changed. The cache is a least recently used one: when it is
+ * full, the order that was asked for longest ago is evicted to make room, so frequently read orders stay cached.
+ * Lookups and updates take the cache's lock only briefly; OrderResults are built outside it.
+ *
+ * Callers that only read an order once can skip building an OrderResult altogether by asking for a read-through
+ * view (getCustomerOrderViewByOrderId, getCustomerOrderItemViewByOrderItemId) instead.
  */
 public class OrderManipulationAuthority {
+    public static final int DEFAULT_MAX_CACHED_ORDERS = 10_000;
+
     private OrderDatastore orderDatastore;
+    private final int maxCachedOrders;
+    // guarded by itself; access ordered, so the eldest entry is the least recently used order
+    private final LinkedHashMap<String, CachedOrderResult> orderResultCache;
 
     /**
      * Constructs a new OMA, with the given order datastore.
@@ -21,7 +41,29 @@ public class OrderManipulationAuthority {
      * @param orderDatastore the order datastore to use to fetch order data
      */
     public OrderManipulationAuthority(OrderDatastore orderDatastore) {
+        this(orderDatastore, DEFAULT_MAX_CACHED_ORDERS);
+    }
+
+    /**
+     * Constructs a new OMA, with the given order datastore, caching up to the given number of OrderResults.
+     *
+     * @param orderDatastore the order datastore to use to fetch order data
+     * @param maxCachedOrders the most OrderResults to keep; 0 to build a new one for every call
+     */
+    public OrderManipulationAuthority(OrderDatastore orderDatastore, int maxCachedOrders) {
+        if (maxCachedOrders < 0) {
+            throw new IllegalArgumentException("maxCachedOrders must not be negative");
+        }
         this.orderDatastore = orderDatastore;
+        this.maxCachedOrders = maxCachedOrders;
+        this.orderResultCache = new LinkedHashMap<String, CachedOrderResult>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedOrderResult> eldest) {
+                return size() > maxCachedOrders;
+            }
+        };
     }
 
     /**
@@ -32,13 +74,42 @@ public class OrderManipulationAuthority {
      * @return The Order corresponding to the order ID, or null if no Order is found.
      */
     public OrderResult getCustomerOrderByOrderId(String orderId) {
-        OrderData orderData = orderDatastore.getOrderData(orderId);
+        if (null == orderId || maxCachedOrders == 0) {
+            OrderData orderData = orderDatastore.getOrderData(orderId);
+            return null == orderData ? null : convertOrderDataToOrderResult(orderId, orderData);
+        }
 
+        // read the version first, so a change made while we build can only make this entry look older than it is
+        long version = orderDatastore.getVersion();
+        CachedOrderResult cached;
+        synchronized (orderResultCache) {
+            cached = orderResultCache.get(orderId);
+        }
+        if (cached != null && cached.version == version) {
+            return cached.orderResult;
+        }
+
+        OrderData orderData = orderDatastore.getOrderData(orderId);
         if (null == orderData) {
             return null;
         }
 
-        return convertOrderDataToOrderResult(orderData);
+        OrderResult orderResult = convertOrderDataToOrderResult(orderId, orderData);
+        synchronized (orderResultCache) {
+            orderResultCache.put(orderId, new CachedOrderResult(orderResult, version));
+        }
+        return orderResult;
+    }
+
+    /**
+     * Returns the number of OrderResults currently cached.
+     *
+     * @return the cache's size; never more than the maximum given at construction
+     */
+    int getCachedOrderCount() {
+        synchronized (orderResultCache) {
+            return orderResultCache.size();
+        }
     }
 
     /**
@@ -55,16 +126,168 @@ public class OrderManipulationAuthority {
             return null;
         }
 
-        return convertOrderItemDataToOrderResultItem(orderItemData);
+        return convertOrderItemDataToOrderResultItem(orderItemData, orderItemData.getOrderId());
     }
 
-    private OrderResult convertOrderDataToOrderResult(OrderData orderData) {
+    /**
+     * Given a customer order ID String, return a read-only view of the corresponding order, or null if no order
+     * is found.
+     *
+     * Unlike getCustomerOrderByOrderId, the order's fields and lists are not copied: the view reads through to the
+     * datastore's records, so it reflects later changes to them. Only a small view is created for each item or
+     * shipment the caller reads from the lists. Callers that need a detached snapshot should use
+     * getCustomerOrderByOrderId.
+     *
+     * @param orderId The order ID to fetch the order for
+     * @return read-through view of the order, or null if no order is found
+     */
+    public CustomerOrder getCustomerOrderViewByOrderId(String orderId) {
+        OrderData orderData = orderDatastore.getOrderData(orderId);
+        return null == orderData ? null : new OrderDataView(orderId, orderData);
+    }
+
+    /**
+     * Given a customer order item ID, return a read-only view of the corresponding order item, or null if no
+     * such order item ID exists.
+     *
+     * Unlike getCustomerOrderItemByOrderItemId, the item's fields are not copied: the view reads through to the
+     * datastore's record. Callers that need a detached snapshot should use getCustomerOrderItemByOrderItemId.
+     *
+     * @param orderItemId the order-item identifier to fetch
+     * @return read-through view of the order item if it exists, null otherwise
+     */
+    public CustomerOrderItem getCustomerOrderItemViewByOrderItemId(String orderItemId) {
+        OrderItemData orderItemData = orderDatastore.getOrderItemData(orderItemId);
+        return null == orderItemData ? null : new OrderItemDataView(orderItemData.getOrderId(), orderItemData);
+    }
+
+    /**
+     * Return read-only views of the orders placed in [from, to), earliest order date first, one page at a time.
+     * The orders come from the datastore's order date index, so the range is found without scanning every order.
+     *
+     * Like getCustomerOrderViewByOrderId, each view reads through to the datastore's records.
+     *
+     * @param from the earliest order date to include
+     * @param to the order date to stop before
+     * @param pageToken the previous page's next page token; null for the first page
+     * @param pageSize the most orders to return on the page; must be positive
+     * @return the page of orders, with the token for the next page if there are more orders in the range
+     * @throws IllegalArgumentException if pageSize is not positive, or if pageToken is not one OMA vended
+     */
+    public CustomerOrderPage getCustomerOrderViewsByOrderDate(ZonedDateTime from, ZonedDateTime to,
+                                                              String pageToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+
+        // ask for one extra order, to find out whether there is a next page without handing back an empty one
+        List<String> orderIds = orderDatastore.getOrderIdsByOrderDate(
+            EpochTime.of(from), EpochTime.of(to), pageToken, pageSize + 1);
+        return toCustomerOrderPage(orderIds, pageSize);
+    }
+
+    /**
+     * Return read-only views of the given customer's orders, newest order date first, one page at a time. The
+     * orders come from the datastore's per-customer order index, so each page costs the same however many orders
+     * the customer has.
+     *
+     * Like getCustomerOrderViewByOrderId, each view reads through to the datastore's records.
+     *
+     * @param customerId the customer to list the orders of
+     * @param pageToken the previous page's next page token; null for the first page
+     * @param pageSize the most orders to return on the page; must be positive
+     * @return the page of orders, with the token for the next page if the customer has more orders; empty if the
+     *         customer has no orders
+     * @throws IllegalArgumentException if pageSize is not positive, or if pageToken is not one OMA vended for
+     *         this customer
+     */
+    public CustomerOrderPage getCustomerOrderViewsByCustomerId(String customerId, String pageToken, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+
+        List<String> orderIds = orderDatastore.getOrderIdsByCustomerId(customerId, pageToken, pageSize + 1);
+        return toCustomerOrderPage(orderIds, pageSize);
+    }
+
+    /**
+     * Given a customer order ID, return the delivery date of each of the order's items that has been delivered,
+     * or null if no order is found.
+     *
+     * Each item's shipment comes from the datastore's item-to-shipment index, so neither the order nor its
+     * shipments are converted.
+     *
+     * @param orderId The order ID to fetch delivery dates for
+     * @return Map from order item ID : delivery date, holding only delivered items; null if no order is found
+     */
+    public Map<String, ZonedDateTime> getDeliveryDatesByOrderId(String orderId) {
+        OrderData orderData = orderDatastore.getOrderData(orderId);
+        if (null == orderData) {
+            return null;
+        }
+
+        Map<String, ZonedDateTime> deliveryDates = new HashMap<>();
+        for (OrderItemData orderItemData : orderData.getCustomerOrderItemList()) {
+            if (null == orderItemData) {
+                continue;
+            }
+            putDeliveryDate(deliveryDates, orderItemData.getCustomerOrderItemId());
+        }
+        return deliveryDates;
+    }
+
+    /**
+     * Given customer order item IDs, return the delivery date of each one that has been delivered. The items
+     * may belong to different orders.
+     *
+     * @param orderItemIds the order item IDs to fetch delivery dates for
+     * @return Map from order item ID : delivery date, holding only delivered items
+     */
+    public Map<String, ZonedDateTime> getDeliveryDatesByOrderItemIds(Collection<String> orderItemIds) {
+        Map<String, ZonedDateTime> deliveryDates = new HashMap<>();
+        for (String orderItemId : orderItemIds) {
+            putDeliveryDate(deliveryDates, orderItemId);
+        }
+        return deliveryDates;
+    }
+
+    private void putDeliveryDate(Map<String, ZonedDateTime> deliveryDates, String orderItemId) {
+        OrderShipmentData orderShipmentData = orderDatastore.getOrderShipmentDataByOrderItemId(orderItemId);
+        if (null != orderShipmentData && EpochTime.NONE != orderShipmentData.getDeliveryDateEpochSecond()) {
+            deliveryDates.put(orderItemId, orderShipmentData.getDeliveryDate());
+        }
+    }
+
+    /*
+     * Builds the page of views for the first pageSize of the given order IDs. The datastore was asked for one more
+     * order ID than fits on the page: if it found one, the page's last order ID is the token for the next page.
+     */
+    private CustomerOrderPage toCustomerOrderPage(List<String> orderIds, int pageSize) {
+        int pageOrders = Math.min(pageSize, orderIds.size());
+        List<CustomerOrder> orders = new ArrayList<>(pageOrders);
+        for (int i = 0; i < pageOrders; i++) {
+            CustomerOrder order = getCustomerOrderViewByOrderId(orderIds.get(i));
+            if (null != order) {
+                orders.add(order);
+            }
+        }
+        String nextPageToken = orderIds.size() > pageSize ? orderIds.get(pageSize - 1) : null;
+        return new CustomerOrderPage(orders, nextPageToken);
+    }
+
+    /*
+     * The datastore shares its sample records between order IDs, re-pointing them at whichever ID was asked for
+     * last, so take the order ID from the caller rather than from the (possibly since re-pointed) records.
+     */
+    private OrderResult convertOrderDataToOrderResult(String orderId, OrderData orderData) {
+        OrderConversionEvent event = new OrderConversionEvent();
+        event.begin();
         List<OrderResultItem> orderResultItems = new ArrayList<>();
         for (OrderItemData orderItemData : orderData.getCustomerOrderItemList()) {
             if (null == orderItemData) {
                 continue;
             }
-            orderResultItems.add(convertOrderItemDataToOrderResultItem(orderItemData));
+            orderResultItems.add(convertOrderItemDataToOrderResultItem(orderItemData, orderId));
         }
 
         List<OrderShipment> orderShipments = new ArrayList<>();
@@ -75,8 +298,8 @@ public class OrderManipulationAuthority {
             orderShipments.add(convertOrderShipmentDataToOrderResultShipment(orderShipmentData));
         }
 
-        return OrderResult.builder()
-                   .withOrderId(orderData.getOrderId())
+        OrderResult orderResult = OrderResult.builder()
+                   .withOrderId(orderId)
                    .withCustomerOrderItemList(orderResultItems)
                    .withOrderShipmentList(orderShipments)
                    .withCondition(OrderCondition.fromCode(orderData.getCondition()))
@@ -85,6 +308,13 @@ public class OrderManipulationAuthority {
                    .withShipOption(orderData.getShipOption())
                    .withMarketplaceId(orderData.getMarketplaceId())
                    .build();
+        if (event.shouldCommit()) {
+            event.orderId = orderResult.getOrderId();
+            event.itemCount = orderResultItems.size();
+            event.shipmentCount = orderShipments.size();
+            event.commit();
+        }
+        return orderResult;
     }
 
     private OrderShipment convertOrderShipmentDataToOrderResultShipment(OrderShipmentData orderShipmentData) {
@@ -118,10 +348,10 @@ public class OrderManipulationAuthority {
         );
     }
 
-    private OrderResultItem convertOrderItemDataToOrderResultItem(OrderItemData orderItemData) {
+    private OrderResultItem convertOrderItemDataToOrderResultItem(OrderItemData orderItemData, String orderId) {
         return OrderResultItem.builder()
                    .withCustomerOrderItemId(orderItemData.getCustomerOrderItemId())
-                   .withOrderId(orderItemData.getOrderId())
+                   .withOrderId(orderId)
                    .withApprovalDate(orderItemData.getApprovalDate())
                    .withAsin(orderItemData.getAsin())
                    .withMerchantId(orderItemData.getMerchantId())
@@ -133,4 +363,14 @@ public class OrderManipulationAuthority {
                    .withConfidence(orderItemData.getConfidence())
                    .build();
     }
+
+    private static final class CachedOrderResult {
+        private final OrderResult orderResult;
+        private final long version;
+
+        private CachedOrderResult(OrderResult orderResult, long version) {
+            this.orderResult = orderResult;
+            this.version = version;
+        }
+    }
 }
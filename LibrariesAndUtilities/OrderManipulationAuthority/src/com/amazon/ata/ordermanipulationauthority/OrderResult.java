@@ -2,14 +2,18 @@ package com.amazon.ata.ordermanipulationauthority;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * An Amazon customer order. Construct via the Builder pattern
  *
+ * OrderResults are immutable, including their item and shipment lists, so one instance can be shared by every
+ * caller asking for the same order.
+ *
  * @see OrderResult.Builder
  */
-public final class OrderResult {
+public final class OrderResult implements CustomerOrder {
 
     private String orderId;
     private OrderCondition condition;
@@ -30,12 +34,22 @@ public final class OrderResult {
         return condition;
     }
 
+    /**
+     * Returns the order's items.
+     *
+     * @return read-only list of the order's items
+     */
     public List<OrderResultItem> getCustomerOrderItemList() {
-        return new ArrayList<>(customerOrderItemList);
+        return customerOrderItemList;
     }
 
+    /**
+     * Returns the order's shipments.
+     *
+     * @return read-only list of the order's shipments
+     */
     public List<OrderShipment> getOrderShipmentList() {
-        return new ArrayList<>(orderShipmentList);
+        return orderShipmentList;
     }
 
     public String getCustomerId() {
@@ -128,13 +142,17 @@ public final class OrderResult {
             OrderResult orderResult = new OrderResult();
             orderResult.orderId = orderId;
             orderResult.condition = condition;
-            orderResult.customerOrderItemList = customerOrderItemList;
-            orderResult.orderShipmentList = orderShipmentList;
+            orderResult.customerOrderItemList = readOnly(customerOrderItemList);
+            orderResult.orderShipmentList = readOnly(orderShipmentList);
             orderResult.customerId = customerId;
             orderResult.orderDate = orderDate;
             orderResult.shipOption = shipOption;
             orderResult.marketplaceId = marketplaceId;
             return orderResult;
         }
+
+        private static <T> List<T> readOnly(List<T> list) {
+            return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+        }
     }
 }
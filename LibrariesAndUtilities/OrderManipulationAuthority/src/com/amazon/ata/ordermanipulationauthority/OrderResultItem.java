@@ -2,12 +2,13 @@ package com.amazon.ata.ordermanipulationauthority;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents an order item returned from the OrderManipulationAuthority.
  */
-public final class OrderResultItem {
+public final class OrderResultItem implements CustomerOrderItem {
 
     private String customerOrderItemId;
     private int quantity;
@@ -44,8 +45,13 @@ public final class OrderResultItem {
         return merchantId;
     }
 
+    /**
+     * Returns the item's details.
+     *
+     * @return read-only list of the item's details
+     */
     public List<OrderResultItemDetail> getOrderItemDetailList() {
-        return new ArrayList<>(orderItemDetailList);
+        return orderItemDetailList;
     }
 
     public String getAsin() {
@@ -169,7 +175,8 @@ public final class OrderResultItem {
             orderResultItem.approvalDate = approvalDate;
             orderResultItem.orderId = orderId;
             orderResultItem.merchantId = merchantId;
-            orderResultItem.orderItemDetailList = orderItemDetailList;
+            orderResultItem.orderItemDetailList = orderItemDetailList == null ?
+                Collections.emptyList() : Collections.unmodifiableList(orderItemDetailList);
             orderResultItem.asin = asin;
             orderResultItem.supplyCode = supplyCode;
             orderResultItem.title = title;
@@ -2,12 +2,13 @@ package com.amazon.ata.ordermanipulationauthority;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * OrderManipulationAuthority's representation of a shipment associated with a customer order.
  */
-public final class OrderShipment {
+public final class OrderShipment implements CustomerOrderShipment {
     private String shipmentId;
     private String zip;
     private String condition;
@@ -36,8 +37,13 @@ public final class OrderShipment {
         return warehouseId;
     }
 
+    /**
+     * Returns the order items in this shipment.
+     *
+     * @return read-only list of the shipment's items
+     */
     public List<ShipmentItem> getCustomerShipmentItems() {
-        return new ArrayList<>(customerShipmentItems);
+        return customerShipmentItems;
     }
 
     public ZonedDateTime getShipDate() {
@@ -168,7 +174,8 @@ public final class OrderShipment {
             orderShipment.zip = zip;
             orderShipment.condition = condition;
             orderShipment.warehouseId = warehouseId;
-            orderShipment.customerShipmentItems = customerShipmentItems;
+            orderShipment.customerShipmentItems = customerShipmentItems == null ?
+                Collections.emptyList() : Collections.unmodifiableList(customerShipmentItems);
             orderShipment.shipDate = shipDate;
             orderShipment.creationDate = creationDate;
             orderShipment.shipmentShipOption = shipmentShipOption;
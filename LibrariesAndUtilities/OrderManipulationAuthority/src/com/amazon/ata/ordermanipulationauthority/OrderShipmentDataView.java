@@ -0,0 +1,83 @@
+package com.amazon.ata.ordermanipulationauthority;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderShipmentData;
+
+import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Read-through CustomerOrderShipment over an OrderShipmentData record. The shipment item list reads the record's own
+ * list, uncopied; each element is a ShipmentItem created as the caller reads it, or null for a null entry.
+ */
+final class OrderShipmentDataView implements CustomerOrderShipment {
+    private final OrderShipmentData orderShipmentData;
+
+    OrderShipmentDataView(OrderShipmentData orderShipmentData) {
+        this.orderShipmentData = orderShipmentData;
+    }
+
+    @Override
+    public String getShipmentId() {
+        return orderShipmentData.getShipmentId();
+    }
+
+    @Override
+    public String getZip() {
+        return orderShipmentData.getZip();
+    }
+
+    @Override
+    public String getCondition() {
+        return orderShipmentData.getCondition();
+    }
+
+    @Override
+    public String getWarehouseId() {
+        return orderShipmentData.getWarehouseId();
+    }
+
+    @Override
+    public List<OrderShipment.ShipmentItem> getCustomerShipmentItems() {
+        List<OrderShipmentData.CustomerShipmentItemData> shipmentItems =
+            orderShipmentData.getCustomerShipmentItemsView();
+        return new AbstractList<OrderShipment.ShipmentItem>() {
+            @Override
+            public OrderShipment.ShipmentItem get(int index) {
+                OrderShipmentData.CustomerShipmentItemData shipmentItem = shipmentItems.get(index);
+                return null == shipmentItem ? null :
+                    new OrderShipment.ShipmentItem(shipmentItem.getCustomerOrderItemId(), shipmentItem.getQuantity());
+            }
+
+            @Override
+            public int size() {
+                return shipmentItems.size();
+            }
+        };
+    }
+
+    @Override
+    public ZonedDateTime getShipDate() {
+        return orderShipmentData.getShipDate();
+    }
+
+    @Override
+    public ZonedDateTime getCreationDate() {
+        return orderShipmentData.getCreationDate();
+    }
+
+    @Override
+    public String getShipmentShipOption() {
+        return orderShipmentData.getShipmentShipOption();
+    }
+
+    @Override
+    public ZonedDateTime getDeliveryDate() {
+        return orderShipmentData.getDeliveryDate();
+    }
+
+    @Override
+    public boolean includesOrderItem(String orderItemId) {
+        return orderShipmentData.includesOrderItem(orderItemId);
+    }
+}
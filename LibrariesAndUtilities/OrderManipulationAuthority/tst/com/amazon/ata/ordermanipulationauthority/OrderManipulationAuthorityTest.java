@@ -1,19 +1,36 @@
 package com.amazon.ata.ordermanipulationauthority;
 
+import com.amazon.ata.deliveringonourpromise.data.OrderData;
 import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.data.OrderFixture;
+import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OrderManipulationAuthorityTest {
@@ -460,4 +477,456 @@ public class OrderManipulationAuthorityTest {
                    )
         );
     }
+
+    @Test
+    public void getCustomerOrderByOrderId_calledTwice_returnsSameSharedResult() {
+        // GIVEN
+        String orderId = "101-9374937-9275653";
+        OrderResult first = oma.getCustomerOrderByOrderId(orderId);
+
+        // WHEN
+        OrderResult second = oma.getCustomerOrderByOrderId(orderId);
+
+        // THEN
+        assertSame(first, second);
+    }
+
+    @Test
+    public void getCustomerOrderByOrderId_datastoreRecordChanged_rebuildsResult() {
+        // GIVEN
+        String orderId = "101-9374937-9275654";
+        OrderResult first = oma.getCustomerOrderByOrderId(orderId);
+        OrderItemData itemData = OrderDatastore.getDatastore()
+                                     .getOrderItemData(first.getCustomerOrderItemList().get(0).getCustomerOrderItemId());
+
+        // WHEN - rewriting the same value still counts as a change
+        itemData.setConfidence(itemData.getConfidence());
+        OrderResult second = oma.getCustomerOrderByOrderId(orderId);
+
+        // THEN
+        assertNotSame(first, second);
+        assertEquals(orderId, second.getOrderId());
+    }
+
+    @Test
+    public void getCustomerOrderByOrderId_cachingDisabled_returnsNewResultEachTime() {
+        // GIVEN
+        OrderManipulationAuthority uncachedOma = new OrderManipulationAuthority(OrderDatastore.getDatastore(), 0);
+        String orderId = "101-9374937-9275655";
+
+        // WHEN
+        OrderResult first = uncachedOma.getCustomerOrderByOrderId(orderId);
+        OrderResult second = uncachedOma.getCustomerOrderByOrderId(orderId);
+
+        // THEN
+        assertNotSame(first, second);
+        assertEquals(first.getOrderId(), second.getOrderId());
+    }
+
+    @Test
+    public void getCustomerOrderByOrderId_cacheFull_evictsLeastRecentlyUsedOrder() {
+        // GIVEN - a two order cache, where the first order was asked for again after the second
+        OrderManipulationAuthority smallCacheOma = new OrderManipulationAuthority(OrderDatastore.getDatastore(), 2);
+        String hotOrderId = "101-9374937-9275701";
+        String coldOrderId = "101-9374937-9275702";
+        OrderResult hot = smallCacheOma.getCustomerOrderByOrderId(hotOrderId);
+        OrderResult cold = smallCacheOma.getCustomerOrderByOrderId(coldOrderId);
+        smallCacheOma.getCustomerOrderByOrderId(hotOrderId);
+
+        // WHEN
+        smallCacheOma.getCustomerOrderByOrderId("101-9374937-9275703");
+
+        // THEN
+        assertSame(hot, smallCacheOma.getCustomerOrderByOrderId(hotOrderId));
+        assertNotSame(cold, smallCacheOma.getCustomerOrderByOrderId(coldOrderId));
+        assertEquals(2, smallCacheOma.getCachedOrderCount());
+    }
+
+    @Test
+    public void getCustomerOrderByOrderId_concurrentCallsForManyOrders_neverCachesMoreThanMax() throws Exception {
+        // GIVEN
+        int maxCachedOrders = 4;
+        OrderManipulationAuthority smallCacheOma =
+            new OrderManipulationAuthority(OrderDatastore.getDatastore(), maxCachedOrders);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger maxSeen = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // WHEN
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        String orderId = String.format("101-9374937-%07d", thread * 1000 + i);
+                        smallCacheOma.getCustomerOrderByOrderId(orderId);
+                        maxSeen.accumulateAndGet(smallCacheOma.getCachedOrderCount(), Math::max);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // THEN
+        assertEquals(maxCachedOrders, maxSeen.get());
+    }
+
+    @Test
+    public void getCustomerOrderByOrderId_ordersSharingSampleData_keepTheirOwnOrderIds() {
+        // GIVEN - order IDs eight apart share the datastore's sample record
+        String orderId = "101-9374937-9275600";
+        String otherOrderId = "101-9374937-9275608";
+        oma.getCustomerOrderByOrderId(orderId);
+        oma.getCustomerOrderByOrderId(otherOrderId);
+
+        // WHEN
+        OrderResult order = oma.getCustomerOrderByOrderId(orderId);
+
+        // THEN
+        assertEquals(orderId, order.getOrderId());
+        for (OrderResultItem item : order.getCustomerOrderItemList()) {
+            assertEquals(orderId, item.getOrderId());
+        }
+    }
+
+    @Test
+    public void getCustomerOrderByOrderId_sharedResult_listsAreReadOnly() {
+        // GIVEN
+        OrderResult order = oma.getCustomerOrderByOrderId("101-9374937-9275656");
+
+        // WHEN + THEN
+        assertThrows(UnsupportedOperationException.class, () -> order.getCustomerOrderItemList().clear());
+        assertThrows(UnsupportedOperationException.class, () -> order.getOrderShipmentList().clear());
+    }
+
+    // read-through views
+
+    @Test
+    public void getCustomerOrderViewByOrderId_returnsNullForUnrecognizedOrderId() {
+        // WHEN
+        CustomerOrder order = oma.getCustomerOrderViewByOrderId("NOT AN ORDER ID");
+
+        // THEN
+        assertNull(order);
+    }
+
+    @Test
+    public void getCustomerOrderViewByOrderId_validOrderId_matchesDetachedCopy() {
+        // GIVEN
+        String orderId = "101-9374937-9275657";
+        OrderResult copy = new OrderManipulationAuthority(OrderDatastore.getDatastore(), 0)
+                               .getCustomerOrderByOrderId(orderId);
+
+        // WHEN
+        CustomerOrder view = oma.getCustomerOrderViewByOrderId(orderId);
+
+        // THEN
+        assertEquals(copy.getOrderId(), view.getOrderId());
+        assertEquals(copy.getCondition(), view.getCondition());
+        assertEquals(copy.getCustomerId(), view.getCustomerId());
+        assertEquals(copy.getOrderDate(), view.getOrderDate());
+        assertEquals(copy.getShipOption(), view.getShipOption());
+        assertEquals(copy.getMarketplaceId(), view.getMarketplaceId());
+        assertEquals(copy.getCustomerOrderItemList().size(), view.getCustomerOrderItemList().size());
+        for (int i = 0; i < copy.getCustomerOrderItemList().size(); i++) {
+            OrderResultItem copyItem = copy.getCustomerOrderItemList().get(i);
+            CustomerOrderItem viewItem = view.getCustomerOrderItemList().get(i);
+            assertEquals(copyItem.getCustomerOrderItemId(), viewItem.getCustomerOrderItemId());
+            assertEquals(orderId, viewItem.getOrderId());
+            assertEquals(copyItem.getAsin(), viewItem.getAsin());
+            assertEquals(copyItem.getQuantity(), viewItem.getQuantity());
+            assertEquals(copyItem.getConfidence(), viewItem.getConfidence());
+        }
+        assertEquals(copy.getOrderShipmentList().size(), view.getOrderShipmentList().size());
+        for (int i = 0; i < copy.getOrderShipmentList().size(); i++) {
+            OrderShipment copyShipment = copy.getOrderShipmentList().get(i);
+            CustomerOrderShipment viewShipment = view.getOrderShipmentList().get(i);
+            assertEquals(copyShipment.getShipmentId(), viewShipment.getShipmentId());
+            assertEquals(copyShipment.getDeliveryDate(), viewShipment.getDeliveryDate());
+            assertEquals(copyShipment.getCustomerShipmentItems().size(),
+                         viewShipment.getCustomerShipmentItems().size());
+        }
+    }
+
+    @Test
+    public void getCustomerOrderViewByOrderId_datastoreRecordChanged_viewReflectsChange() {
+        // GIVEN
+        String orderId = "101-9374937-9275658";
+        CustomerOrder view = oma.getCustomerOrderViewByOrderId(orderId);
+        OrderItemData itemData = OrderDatastore.getDatastore()
+                                     .getOrderItemData(view.getCustomerOrderItemList().get(0).getCustomerOrderItemId());
+        int originalConfidence = itemData.getConfidence();
+
+        try {
+            // WHEN
+            itemData.setConfidence(originalConfidence + 1);
+
+            // THEN
+            assertEquals(originalConfidence + 1, view.getCustomerOrderItemList().get(0).getConfidence());
+        } finally {
+            itemData.setConfidence(originalConfidence);
+        }
+    }
+
+    @Test
+    public void getCustomerOrderViewByOrderId_datastoreItemListReplaced_viewListReflectsChange() {
+        // GIVEN
+        String orderId = "900-3746402-0000001";
+        CustomerOrder view = oma.getCustomerOrderViewByOrderId(orderId);
+        List<? extends CustomerOrderItem> viewItems = view.getCustomerOrderItemList();
+        OrderData orderData = OrderDatastore.getDatastore().getOrderData(orderId);
+        List<OrderItemData> originalItems = orderData.getCustomerOrderItemList();
+
+        try {
+            // WHEN
+            orderData.setCustomerOrderItemList(originalItems.subList(0, 1));
+
+            // THEN
+            assertEquals(1, viewItems.size());
+            assertEquals(originalItems.get(0).getCustomerOrderItemId(), viewItems.get(0).getCustomerOrderItemId());
+        } finally {
+            orderData.setCustomerOrderItemList(originalItems);
+        }
+    }
+
+    @Test
+    public void getCustomerOrderViewByOrderId_view_listsAreReadOnly() {
+        // GIVEN
+        CustomerOrder view = oma.getCustomerOrderViewByOrderId("101-9374937-9275659");
+
+        // WHEN + THEN
+        assertThrows(UnsupportedOperationException.class, () -> view.getCustomerOrderItemList().clear());
+        assertThrows(UnsupportedOperationException.class, () -> view.getOrderShipmentList().clear());
+    }
+
+    @Test
+    public void getCustomerOrderItemViewByOrderItemId_returnsNullOnNonexistentOrderItemId() {
+        // WHEN
+        CustomerOrderItem orderItem = oma.getCustomerOrderItemViewByOrderItemId("20");
+
+        // THEN
+        assertNull(orderItem);
+    }
+
+    @Test
+    public void getCustomerOrderItemViewByOrderItemId_validOrderItemId_hasCorrectOrderItemId() {
+        // GIVEN
+        String orderItemId = oma.getCustomerOrderByOrderId("101-9374937-9275660")
+                                 .getCustomerOrderItemList().get(0).getCustomerOrderItemId();
+
+        // WHEN
+        CustomerOrderItem orderItem = oma.getCustomerOrderItemViewByOrderItemId(orderItemId);
+
+        // THEN
+        assertEquals(orderItemId, orderItem.getCustomerOrderItemId());
+    }
+
+    // delivery dates
+
+    @Test
+    public void getDeliveryDatesByOrderId_returnsNullForUnrecognizedOrderId() {
+        // WHEN
+        Map<String, ZonedDateTime> deliveryDates = oma.getDeliveryDatesByOrderId("NOT AN ORDER ID");
+
+        // THEN
+        assertNull(deliveryDates);
+    }
+
+    @Test
+    public void getDeliveryDatesByOrderId_eachFixture_matchesShipmentScan() {
+        for (String orderId : OrderDatastore.getDatastore().getOrderFixtures().keySet()) {
+            // GIVEN
+            OrderResult order = oma.getCustomerOrderByOrderId(orderId);
+            if (null == order) {
+                continue;
+            }
+
+            // WHEN
+            Map<String, ZonedDateTime> deliveryDates = oma.getDeliveryDatesByOrderId(orderId);
+
+            // THEN
+            assertEquals(scanForDeliveryDates(order), deliveryDates, "Delivery dates for order " + orderId);
+        }
+    }
+
+    @Test
+    public void getDeliveryDatesByOrderItemIds_itemsFromSeveralOrders_matchesShipmentScan() {
+        // GIVEN
+        OrderResult firstOrder = oma.getCustomerOrderByOrderId("900-3746401-0000001");
+        OrderResult secondOrder = oma.getCustomerOrderByOrderId("900-3746402-0000002");
+        Map<String, ZonedDateTime> expected = scanForDeliveryDates(firstOrder);
+        expected.putAll(scanForDeliveryDates(secondOrder));
+        List<String> orderItemIds = new ArrayList<>();
+        for (OrderResult order : Arrays.asList(firstOrder, secondOrder)) {
+            for (OrderResultItem item : order.getCustomerOrderItemList()) {
+                orderItemIds.add(item.getCustomerOrderItemId());
+            }
+        }
+
+        // WHEN
+        Map<String, ZonedDateTime> deliveryDates = oma.getDeliveryDatesByOrderItemIds(orderItemIds);
+
+        // THEN
+        assertEquals(expected, deliveryDates);
+    }
+
+    @Test
+    public void getDeliveryDatesByOrderItemIds_unknownOrderItemId_isLeftOut() {
+        // WHEN
+        Map<String, ZonedDateTime> deliveryDates = oma.getDeliveryDatesByOrderItemIds(Arrays.asList("20"));
+
+        // THEN
+        assertTrue(deliveryDates.isEmpty());
+    }
+
+    @Test
+    public void getCustomerOrderViewsByOrderDate_walkingEveryPage_returnsEachFixtureOnceInDateOrder() {
+        // GIVEN
+        ZonedDateTime from = ZonedDateTime.parse("2019-01-01T00:00:00Z");
+        ZonedDateTime to = ZonedDateTime.parse("2020-01-01T00:00:00Z");
+        Set<String> expectedOrderIds = new HashSet<>();
+        for (Map.Entry<String, OrderFixture> fixture : OrderDatastore.getDatastore().getOrderFixtures().entrySet()) {
+            if (null != fixture.getValue().getOrderData()) {
+                expectedOrderIds.add(fixture.getKey());
+            }
+        }
+
+        // WHEN
+        List<CustomerOrder> orders = new ArrayList<>();
+        String pageToken = null;
+        do {
+            CustomerOrderPage page = oma.getCustomerOrderViewsByOrderDate(from, to, pageToken, 2);
+            assertTrue(page.getOrders().size() <= 2);
+            orders.addAll(page.getOrders());
+            pageToken = page.getNextPageToken();
+        } while (null != pageToken);
+
+        // THEN
+        assertEquals(expectedOrderIds.size(), orders.size());
+        assertEquals(expectedOrderIds, orders.stream().map(CustomerOrder::getOrderId).collect(Collectors.toSet()));
+        for (int i = 0; i < orders.size(); i++) {
+            assertFalse(orders.get(i).getOrderDate().isBefore(from));
+            assertTrue(orders.get(i).getOrderDate().isBefore(to));
+            if (i > 0) {
+                assertFalse(orders.get(i).getOrderDate().isBefore(orders.get(i - 1).getOrderDate()));
+            }
+        }
+    }
+
+    @Test
+    public void getCustomerOrderViewsByOrderDate_rangeOfOneOrderDate_returnsOnlyThatOrder() {
+        // GIVEN
+        String orderId = "900-3746401-0000001";
+        ZonedDateTime orderDate = oma.getCustomerOrderByOrderId(orderId).getOrderDate();
+
+        // WHEN
+        CustomerOrderPage page = oma.getCustomerOrderViewsByOrderDate(orderDate, orderDate.plusSeconds(1), null, 10);
+
+        // THEN
+        assertEquals(1, page.getOrders().size());
+        assertEquals(orderId, page.getOrders().get(0).getOrderId());
+        assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void getCustomerOrderViewsByOrderDate_rangeBeforeAllOrders_returnsEmptyLastPage() {
+        // WHEN
+        CustomerOrderPage page = oma.getCustomerOrderViewsByOrderDate(
+            ZonedDateTime.parse("2000-01-01T00:00:00Z"), ZonedDateTime.parse("2000-01-02T00:00:00Z"), null, 10);
+
+        // THEN
+        assertTrue(page.getOrders().isEmpty());
+        assertNull(page.getNextPageToken());
+    }
+
+    @Test
+    public void getCustomerOrderViewsByOrderDate_nonPositivePageSize_throwsIllegalArgumentException() {
+        // GIVEN
+        ZonedDateTime from = ZonedDateTime.parse("2019-01-01T00:00:00Z");
+
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class,
+            () -> oma.getCustomerOrderViewsByOrderDate(from, from.plusYears(1), null, 0));
+    }
+
+    @Test
+    public void getCustomerOrderViewsByOrderDate_unknownPageToken_throwsIllegalArgumentException() {
+        // GIVEN
+        ZonedDateTime from = ZonedDateTime.parse("2019-01-01T00:00:00Z");
+
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class,
+            () -> oma.getCustomerOrderViewsByOrderDate(from, from.plusYears(1), "NOT A PAGE TOKEN", 10));
+    }
+
+    @Test
+    public void getCustomerOrderViewsByCustomerId_customerWithOrder_returnsOrder() {
+        // GIVEN
+        String orderId = "900-3746401-0000001";
+        String customerId = oma.getCustomerOrderByOrderId(orderId).getCustomerId();
+
+        // WHEN
+        CustomerOrderPage page = oma.getCustomerOrderViewsByCustomerId(customerId, null, 10);
+
+        // THEN
+        assertEquals(Arrays.asList(orderId),
+            page.getOrders().stream().map(CustomerOrder::getOrderId).collect(Collectors.toList()));
+        assertEquals(customerId, page.getOrders().get(0).getCustomerId());
+        assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void getCustomerOrderViewsByCustomerId_unknownCustomer_returnsEmptyLastPage() {
+        // WHEN
+        CustomerOrderPage page = oma.getCustomerOrderViewsByCustomerId("NOT A CUSTOMER ID", null, 10);
+
+        // THEN
+        assertTrue(page.getOrders().isEmpty());
+        assertNull(page.getNextPageToken());
+    }
+
+    @Test
+    public void getCustomerOrderViewsByCustomerId_otherCustomersPageToken_throwsIllegalArgumentException() {
+        // GIVEN
+        String customerId = oma.getCustomerOrderByOrderId("900-3746401-0000001").getCustomerId();
+        String otherCustomersOrderId = "900-3746401-0000002";
+
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class,
+            () -> oma.getCustomerOrderViewsByCustomerId(customerId, otherCustomersOrderId, 10));
+    }
+
+    @Test
+    public void getCustomerOrderViewsByCustomerId_nonPositivePageSize_throwsIllegalArgumentException() {
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class,
+            () -> oma.getCustomerOrderViewsByCustomerId("NOT A CUSTOMER ID", null, 0));
+    }
+
+    /*
+     * Finds each delivered item's delivery date the long way: the first shipment listing the item.
+     */
+    private Map<String, ZonedDateTime> scanForDeliveryDates(OrderResult order) {
+        Map<String, ZonedDateTime> deliveryDates = new HashMap<>();
+        for (OrderResultItem item : order.getCustomerOrderItemList()) {
+            for (OrderShipment shipment : order.getOrderShipmentList()) {
+                if (shipment.includesOrderItem(item.getCustomerOrderItemId())) {
+                    if (null != shipment.getDeliveryDate()) {
+                        deliveryDates.put(item.getCustomerOrderItemId(), shipment.getDeliveryDate());
+                    }
+                    break;
+                }
+            }
+        }
+        return deliveryDates;
+    }
 }
@@ -0,0 +1,116 @@
+package com.amazon.ata.deliveringonourpromise.benchmark;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderData;
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.data.OrderFixture;
+import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The order IDs and order item IDs a benchmark iterates over, chosen by item count and data source.
+ *
+ * GENERATED orders come from OrderDatastore's generated sample data, which returns the same OrderData for every
+ * order ID with the same suffix modulo the number of samples. FIXTURE orders are the hand-written fixtures. Only
+ * orders with exactly {@code itemCount} items are used, and a trial with none fails. The item counts are limited to
+ * those both sources have, so every GENERATED result has a FIXTURE result to compare with.
+ *
+ * Thread count is not a parameter here: JMH only takes it from {@code -t} ({@code -PjmhThreads} in Gradle), so sweep
+ * it with a separate run per thread count.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkOrders {
+    private static final String GENERATED_ORDER_ID_FORMAT = "111-7497760-%07d";
+    // how many distinct order IDs to cycle through for each generated sample
+    private static final int GENERATED_ORDERS_PER_SAMPLE = 16;
+
+    /**
+     * Which order data the benchmark reads.
+     */
+    public enum DataSource {
+        GENERATED, FIXTURE
+    }
+
+    @Param({"1", "3"})
+    private int itemCount;
+
+    @Param({"GENERATED", "FIXTURE"})
+    private DataSource dataSource;
+
+    private String[] orderIds;
+    private String[] orderItemIds;
+
+    /**
+     * Selects the orders for this trial.
+     */
+    @Setup(Level.Trial)
+    public void selectOrders() {
+        OrderDatastore datastore = OrderDatastore.getDatastore();
+        List<String> selectedOrderIds = dataSource == DataSource.FIXTURE ? fixtureOrderIds(datastore)
+            : generatedOrderIds(datastore);
+        if (selectedOrderIds.isEmpty()) {
+            throw new IllegalStateException(String.format("No %s orders with %d items", dataSource, itemCount));
+        }
+
+        List<String> selectedItemIds = new ArrayList<>();
+        for (String orderId : selectedOrderIds) {
+            for (OrderItemData item : datastore.getOrderData(orderId).getCustomerOrderItemList()) {
+                selectedItemIds.add(item.getCustomerOrderItemId());
+            }
+        }
+        orderIds = selectedOrderIds.toArray(new String[0]);
+        orderItemIds = selectedItemIds.toArray(new String[0]);
+    }
+
+    /**
+     * Returns a random one of the selected order IDs.
+     *
+     * @return an order ID
+     */
+    public String nextOrderId() {
+        return orderIds[ThreadLocalRandom.current().nextInt(orderIds.length)];
+    }
+
+    /**
+     * Returns a random one of the selected orders' item IDs.
+     *
+     * @return an order item ID
+     */
+    public String nextOrderItemId() {
+        return orderItemIds[ThreadLocalRandom.current().nextInt(orderItemIds.length)];
+    }
+
+    private List<String> generatedOrderIds(OrderDatastore datastore) {
+        List<String> ids = new ArrayList<>();
+        int samples = datastore.getNumOrders();
+        for (int sample = 0; sample < samples; sample++) {
+            if (datastore.getOrderData(String.format(GENERATED_ORDER_ID_FORMAT, sample))
+                    .getCustomerOrderItemList().size() != itemCount) {
+                continue;
+            }
+            for (int i = 0; i < GENERATED_ORDERS_PER_SAMPLE; i++) {
+                ids.add(String.format(GENERATED_ORDER_ID_FORMAT, sample + i * samples));
+            }
+        }
+        return ids;
+    }
+
+    private List<String> fixtureOrderIds(OrderDatastore datastore) {
+        List<String> ids = new ArrayList<>();
+        for (OrderFixture fixture : datastore.getOrderFixtures().values()) {
+            OrderData orderData = fixture.getOrderData();
+            if (orderData != null && orderData.getCustomerOrderItemList().size() == itemCount) {
+                ids.add(fixture.getOrderId());
+            }
+        }
+        return ids;
+    }
+}
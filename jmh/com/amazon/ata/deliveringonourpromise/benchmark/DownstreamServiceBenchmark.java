@@ -0,0 +1,85 @@
+package com.amazon.ata.deliveringonourpromise.benchmark;
+
+import com.amazon.ata.deliveringonourpromise.App;
+import com.amazon.ata.deliveringonourpromise.data.OrderData;
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.data.OrderItemData;
+import com.amazon.ata.deliverypromiseservice.service.DeliveryPromise;
+import com.amazon.ata.deliverypromiseservice.service.DeliveryPromiseService;
+import com.amazon.ata.ordermanipulationauthority.OrderManipulationAuthority;
+import com.amazon.ata.ordermanipulationauthority.OrderResult;
+import com.amazon.ata.ordermanipulationauthority.OrderResultItem;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the in-process downstream services directly, without the clients and their call policies: the
+ * OrderDatastore lookups, OMA's conversion of order data into OrderResults, and DPS promise computation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DownstreamServiceBenchmark {
+    private OrderDatastore orderDatastore;
+    private OrderManipulationAuthority orderManipulationAuthority;
+    private DeliveryPromiseService deliveryPromiseService;
+
+    /**
+     * Builds the services the same way the Shell does.
+     */
+    @Setup(Level.Trial)
+    public void createServices() {
+        orderDatastore = App.getOrderDatastore();
+        orderManipulationAuthority = App.getOrderManipulationAuthority();
+        deliveryPromiseService = App.getDeliveryPromiseService();
+    }
+
+    @Benchmark
+    public OrderData orderDatastoreGetOrderData(BenchmarkOrders orders) {
+        return orderDatastore.getOrderData(orders.nextOrderId());
+    }
+
+    @Benchmark
+    public OrderItemData orderDatastoreGetOrderItemData(BenchmarkOrders orders) {
+        return orderDatastore.getOrderItemData(orders.nextOrderItemId());
+    }
+
+    @Benchmark
+    public OrderResult omaGetCustomerOrderByOrderId(BenchmarkOrders orders) {
+        return orderManipulationAuthority.getCustomerOrderByOrderId(orders.nextOrderId());
+    }
+
+    @Benchmark
+    public OrderResultItem omaGetCustomerOrderItemByOrderItemId(BenchmarkOrders orders) {
+        return orderManipulationAuthority.getCustomerOrderItemByOrderItemId(orders.nextOrderItemId());
+    }
+
+    @Benchmark
+    public Map<String, ZonedDateTime> omaGetDeliveryDatesByOrderItemIds(BenchmarkOrders orders) {
+        return orderManipulationAuthority.getDeliveryDatesByOrderItemIds(
+            Collections.singletonList(orders.nextOrderItemId()));
+    }
+
+    @Benchmark
+    public DeliveryPromise dpsGetDeliveryPromise(BenchmarkOrders orders) {
+        return deliveryPromiseService.getDeliveryPromise(orders.nextOrderItemId());
+    }
+}
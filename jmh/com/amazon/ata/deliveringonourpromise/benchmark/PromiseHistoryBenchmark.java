@@ -0,0 +1,64 @@
+package com.amazon.ata.deliveringonourpromise.benchmark;
+
+import com.amazon.ata.deliveringonourpromise.App;
+import com.amazon.ata.deliveringonourpromise.activity.GetPromiseHistoryByOrderIdActivity;
+import com.amazon.ata.deliveringonourpromise.dao.OrderDao;
+import com.amazon.ata.deliveringonourpromise.dao.PromiseDao;
+import com.amazon.ata.deliveringonourpromise.types.Order;
+import com.amazon.ata.deliveringonourpromise.types.Promise;
+import com.amazon.ata.deliveringonourpromise.types.PromiseHistory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the promise history hot path: the activity end to end, and the two DAOs it calls.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromiseHistoryBenchmark {
+    private GetPromiseHistoryByOrderIdActivity activity;
+    private OrderDao orderDao;
+    private PromiseDao promiseDao;
+
+    /**
+     * Builds the object graph the same way the Shell does.
+     */
+    @Setup(Level.Trial)
+    public void createDependencies() {
+        activity = App.getPromiseHistoryByOrderIdActivity();
+        orderDao = App.getOrderDao();
+        promiseDao = App.getPromiseDao();
+    }
+
+    @Benchmark
+    public PromiseHistory getPromiseHistoryByOrderId(BenchmarkOrders orders) {
+        return activity.getPromiseHistoryByOrderId(orders.nextOrderId());
+    }
+
+    @Benchmark
+    public Order orderDaoGet(BenchmarkOrders orders) {
+        return orderDao.get(orders.nextOrderId());
+    }
+
+    @Benchmark
+    public List<Promise> promiseDaoGet(BenchmarkOrders orders) {
+        return promiseDao.get(orders.nextOrderItemId());
+    }
+}
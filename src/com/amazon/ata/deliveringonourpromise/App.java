@@ -1,22 +1,134 @@
 package com.amazon.ata.deliveringonourpromise;
 
 import com.amazon.ata.deliveringonourpromise.activity.GetPromiseHistoryByOrderIdActivity;
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallBudget;
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallBudgetViolationHandler;
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallCountingDeliveryPromiseService;
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallCountingPolicy;
+import com.amazon.ata.deliveringonourpromise.dao.InstrumentedReadOnlyDao;
 import com.amazon.ata.deliveringonourpromise.dao.OrderDao;
 import com.amazon.ata.deliveringonourpromise.dao.PromiseDao;
 import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
 import com.amazon.ata.deliveringonourpromise.deliverypromiseservice.DeliveryPromiseServiceClient;
+import com.amazon.ata.deliveringonourpromise.deliverypromiseservice.MemoizingDeliveryPromiseService;
+import com.amazon.ata.deliveringonourpromise.metrics.CallMetricsPolicy;
+import com.amazon.ata.deliveringonourpromise.metrics.MetricsRegistry;
 import com.amazon.ata.deliveringonourpromise.orderfulfillmentservice.OrderFulfillmentServiceClient;
 import com.amazon.ata.deliveringonourpromise.ordermanipulationauthority.OrderManipulationAuthorityClient;
 import com.amazon.ata.deliveringonourpromise.promisehistoryservice.PromiseHistoryClient;
+import com.amazon.ata.deliveringonourpromise.resilience.AdaptiveConcurrencyLimiter;
+import com.amazon.ata.deliveringonourpromise.resilience.CircuitBreaker;
+import com.amazon.ata.deliveringonourpromise.resilience.RetryBudget;
+import com.amazon.ata.deliveringonourpromise.resilience.RetryPolicy;
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+import com.amazon.ata.deliveringonourpromise.simulation.SimulatedServices;
+import com.amazon.ata.deliveringonourpromise.tracing.Tracer;
+import com.amazon.ata.deliveringonourpromise.types.Order;
+import com.amazon.ata.deliveringonourpromise.types.PromiseList;
 import com.amazon.ata.deliverypromiseservice.service.DeliveryPromiseService;
 import com.amazon.ata.orderfulfillmentservice.OrderFulfillmentService;
 import com.amazon.ata.ordermanipulationauthority.OrderManipulationAuthority;
 
+import java.time.Duration;
+
 /**
  * Provides inversion of control for the DeliveringOnOurPromise project by instantiating all of the
  * dependencies needed by the Shell and its dependency classes.
  */
 public class App {
+    // time budget for each promise history request made through the client
+    private static final Duration PROMISE_HISTORY_REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    // fraction of requests traced, and how many recent traces are kept. Tracing every request costs allocations on
+    // the hot path, so only a few are traced unless this system property says otherwise; when trying the Shell out,
+    // run with -Dtracing.sampleRate=1 to trace every request.
+    private static final String TRACE_SAMPLE_RATE_PROPERTY = "tracing.sampleRate";
+    private static final String DEFAULT_TRACE_SAMPLE_RATE = "0.001";
+    private static final Tracer TRACER = new Tracer(
+        Double.parseDouble(System.getProperty(TRACE_SAMPLE_RATE_PROPERTY, DEFAULT_TRACE_SAMPLE_RATE)), 50);
+
+    // downstream calls one GetPromiseHistoryByOrderId request may make: a fixed number plus a number per order item.
+    // Over-budget requests are logged, or fail if this system property is "fail", as it is in the tests.
+    private static final String CALL_BUDGET_VIOLATION_PROPERTY = "callBudget.onViolation";
+    private static final CallBudget PROMISE_HISTORY_CALL_BUDGET = CallBudget.builder()
+        .withApiName("GetPromiseHistoryByOrderId")
+        // once for the order, then once per item with promises to find its delivery date
+        .withLimit(OrderManipulationAuthorityClient.GET_ORDER_OPERATION, 1, 0)
+        .withLimit(OrderManipulationAuthorityClient.GET_DELIVERY_DATES_BY_ITEMS_OPERATION, 0, 1)
+        // once from PromiseDao; OFS reuses that promise rather than calling DPS again
+        .withLimit(DeliveryPromiseServiceClient.GET_DELIVERY_PROMISE_OPERATION, 0, 1)
+        .withLimit(OrderFulfillmentServiceClient.GET_ORDER_PROMISE_OPERATION, 0, 1)
+        .withViolationHandler("fail".equals(System.getProperty(CALL_BUDGET_VIOLATION_PROPERTY)) ?
+            CallBudgetViolationHandler.failing() : CallBudgetViolationHandler.logging())
+        .build();
+
+    // metrics for every layer, also exposed over JMX; set this system property to dump them to stderr periodically
+    private static final String METRICS_DUMP_INTERVAL_PROPERTY = "metrics.dumpIntervalSeconds";
+    private static final MetricsRegistry METRICS_REGISTRY =
+        new MetricsRegistry("com.amazon.ata.deliveringonourpromise");
+    private static final ServiceCallPolicy CALL_METRICS_POLICY = new CallMetricsPolicy(METRICS_REGISTRY);
+
+    // circuit breakers and concurrency limiters are shared by every client instance, so each service gets exactly one
+    private static final Duration MAX_CONCURRENCY_LIMIT_WAIT = Duration.ofMillis(100);
+    private static final CircuitBreaker OMA_CIRCUIT_BREAKER = CircuitBreaker.builder().withName("OMA").build();
+    private static final CircuitBreaker DPS_CIRCUIT_BREAKER = CircuitBreaker.builder().withName("DPS").build();
+    private static final CircuitBreaker OFS_CIRCUIT_BREAKER = CircuitBreaker.builder().withName("OFS").build();
+    private static final AdaptiveConcurrencyLimiter OMA_CONCURRENCY_LIMITER = AdaptiveConcurrencyLimiter.builder()
+        .withName("OMA").withMaxWait(MAX_CONCURRENCY_LIMIT_WAIT).build();
+    private static final AdaptiveConcurrencyLimiter DPS_CONCURRENCY_LIMITER = AdaptiveConcurrencyLimiter.builder()
+        .withName("DPS").withMaxWait(MAX_CONCURRENCY_LIMIT_WAIT).build();
+    private static final AdaptiveConcurrencyLimiter OFS_CONCURRENCY_LIMITER = AdaptiveConcurrencyLimiter.builder()
+        .withName("OFS").withMaxWait(MAX_CONCURRENCY_LIMIT_WAIT).build();
+    // one retry budget for the whole process: about one retry per ten successful calls, in bursts of up to 10
+    private static final RetryBudget RETRY_BUDGET = new RetryBudget(0.1, 10);
+    private static final RetryPolicy OMA_RETRY_POLICY = RetryPolicy.builder()
+        .withIdempotentOperations(OrderManipulationAuthorityClient.GET_ORDER_OPERATION,
+            OrderManipulationAuthorityClient.GET_ORDER_ITEM_OPERATION,
+            OrderManipulationAuthorityClient.GET_DELIVERY_DATES_BY_ORDER_OPERATION,
+            OrderManipulationAuthorityClient.GET_DELIVERY_DATES_BY_ITEMS_OPERATION,
+            OrderManipulationAuthorityClient.GET_ORDERS_BY_ORDER_DATE_OPERATION,
+            OrderManipulationAuthorityClient.GET_ORDERS_BY_CUSTOMER_OPERATION)
+        .withRetryBudget(RETRY_BUDGET)
+        .build();
+    private static final RetryPolicy DPS_RETRY_POLICY = RetryPolicy.builder()
+        .withIdempotentOperations(DeliveryPromiseServiceClient.GET_DELIVERY_PROMISE_OPERATION)
+        .withRetryBudget(RETRY_BUDGET)
+        .build();
+    private static final RetryPolicy OFS_RETRY_POLICY = RetryPolicy.builder()
+        .withIdempotentOperations(OrderFulfillmentServiceClient.GET_ORDER_PROMISE_OPERATION)
+        .withRetryBudget(RETRY_BUDGET)
+        .build();
+    private static final ServiceCallPolicy OMA_CALL_POLICY = CALL_METRICS_POLICY.wrapping(CallCountingPolicy.INSTANCE)
+        .wrapping(OMA_RETRY_POLICY).wrapping(OMA_CIRCUIT_BREAKER).wrapping(OMA_CONCURRENCY_LIMITER);
+    private static final ServiceCallPolicy DPS_CALL_POLICY = CALL_METRICS_POLICY.wrapping(CallCountingPolicy.INSTANCE)
+        .wrapping(DPS_RETRY_POLICY).wrapping(DPS_CIRCUIT_BREAKER).wrapping(DPS_CONCURRENCY_LIMITER);
+    private static final ServiceCallPolicy OFS_CALL_POLICY = CALL_METRICS_POLICY.wrapping(CallCountingPolicy.INSTANCE)
+        .wrapping(OFS_RETRY_POLICY).wrapping(OFS_CIRCUIT_BREAKER).wrapping(OFS_CONCURRENCY_LIMITER);
+
+    // OMA caches the OrderResults it builds, so every client shares one instance
+    private static final OrderManipulationAuthority ORDER_MANIPULATION_AUTHORITY =
+        new OrderManipulationAuthority(OrderDatastore.getDatastore());
+    // likewise DPS and OFS, which keep tables of the promises they have made. Both DPS instances share the
+    // request's DeliveryPromiseMemo, so OFS reuses the promise PromiseDao just fetched from DPS for the same item.
+    private static final DeliveryPromiseService DELIVERY_PROMISE_SERVICE =
+        new MemoizingDeliveryPromiseService(OrderDatastore.getDatastore(), true);
+    // OFS calls DPS itself; count those calls against the request's budget too
+    private static final OrderFulfillmentService ORDER_FULFILLMENT_SERVICE =
+        new OrderFulfillmentService(OrderDatastore.getDatastore(), new CallCountingDeliveryPromiseService(
+            OrderDatastore.getDatastore(), DeliveryPromiseServiceClient.GET_DELIVERY_PROMISE_OPERATION), true);
+
+    static {
+        for (CircuitBreaker breaker : new CircuitBreaker[] {
+            OMA_CIRCUIT_BREAKER, DPS_CIRCUIT_BREAKER, OFS_CIRCUIT_BREAKER}) {
+            breaker.addStateListener((cb, from, to) ->
+                METRICS_REGISTRY.getCounter(cb.getName() + " circuit breaker transitions to " + to).increment());
+        }
+        Long dumpIntervalSeconds = Long.getLong(METRICS_DUMP_INTERVAL_PROPERTY);
+        if (dumpIntervalSeconds != null && dumpIntervalSeconds > 0) {
+            METRICS_REGISTRY.startPeriodicDump(Duration.ofSeconds(dumpIntervalSeconds), System.err);
+        }
+    }
+
     /* don't instantiate me */
     private App() {}
 
@@ -25,46 +137,103 @@ public class App {
      * @return fully loaded PromiseHistoryClient, ready for service! (er, client)
      */
     public static PromiseHistoryClient getPromiseHistoryClient() {
-        return new PromiseHistoryClient(getPromiseHistoryByOrderIdActivity());
+        return getPromiseHistoryClient(SimulatedServices.none());
+    }
+
+    /**
+     * Fetch a new PromiseHistoryClient whose downstream services are slowed down or made to fail by the given
+     * stand-ins, for benchmarks and load tests.
+     * @param simulatedServices the stand-ins for OMA, DPS and OFS
+     * @return fully loaded PromiseHistoryClient, talking to simulated services
+     */
+    public static PromiseHistoryClient getPromiseHistoryClient(SimulatedServices simulatedServices) {
+        return new PromiseHistoryClient(getPromiseHistoryByOrderIdActivity(simulatedServices),
+                                        PROMISE_HISTORY_REQUEST_TIMEOUT, TRACER, PROMISE_HISTORY_CALL_BUDGET,
+                                        getOrderManipulationAuthorityClient(simulatedServices));
+    }
+
+    /**
+     * Returns the tracer that samples requests made through every client App creates.
+     * @return the app's tracer
+     */
+    public static Tracer getTracer() {
+        return TRACER;
+    }
+
+    /**
+     * Returns the registry holding the metrics recorded by every client App creates.
+     * @return the app's metrics
+     */
+    public static MetricsRegistry getMetricsRegistry() {
+        return METRICS_REGISTRY;
     }
 
     /* helpers */
 
     public static GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity() {
-        return new GetPromiseHistoryByOrderIdActivity(getOrderDao(), getPromiseDao());
+        return getPromiseHistoryByOrderIdActivity(SimulatedServices.none());
+    }
+    public static GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity(
+            SimulatedServices simulatedServices) {
+        return new GetPromiseHistoryByOrderIdActivity(
+            new InstrumentedReadOnlyDao<>(getOrderDao(simulatedServices),
+                METRICS_REGISTRY.getCallMetrics("OrderDao.get"), Order::getCustomerOrderItemCount),
+            new InstrumentedReadOnlyDao<>(getPromiseDao(simulatedServices)::getPromiseList,
+                METRICS_REGISTRY.getCallMetrics("PromiseDao.get"), PromiseList::size),
+            METRICS_REGISTRY.getCallMetrics(GetPromiseHistoryByOrderIdActivity.class.getSimpleName()));
     }
 
     // DAOs
     public static OrderDao getOrderDao() {
-        return new OrderDao(getOrderManipulationAuthorityClient());
+        return getOrderDao(SimulatedServices.none());
+    }
+    public static OrderDao getOrderDao(SimulatedServices simulatedServices) {
+        return new OrderDao(getOrderManipulationAuthorityClient(simulatedServices));
     }
     public static PromiseDao getPromiseDao() {
-        return new PromiseDao(getDeliveryPromiseServiceClient(),
-                            getOrderManipulationAuthorityClient(),
-                            getPromiseOrderFulfillmentServiceClient()
+        return getPromiseDao(SimulatedServices.none());
+    }
+    public static PromiseDao getPromiseDao(SimulatedServices simulatedServices) {
+        return new PromiseDao(getDeliveryPromiseServiceClient(simulatedServices),
+                            getOrderManipulationAuthorityClient(simulatedServices),
+                            getPromiseOrderFulfillmentServiceClient(simulatedServices)
         );
     }
 
     // service clients
     public static OrderManipulationAuthorityClient getOrderManipulationAuthorityClient() {
-        return new OrderManipulationAuthorityClient(getOrderManipulationAuthority());
+        return getOrderManipulationAuthorityClient(SimulatedServices.none());
+    }
+    public static OrderManipulationAuthorityClient getOrderManipulationAuthorityClient(
+            SimulatedServices simulatedServices) {
+        return new OrderManipulationAuthorityClient(getOrderManipulationAuthority(),
+            OMA_CALL_POLICY.wrapping(simulatedServices.getOrderManipulationAuthority()));
     }
     public static DeliveryPromiseServiceClient getDeliveryPromiseServiceClient() {
-        return new DeliveryPromiseServiceClient(getDeliveryPromiseService());
+        return getDeliveryPromiseServiceClient(SimulatedServices.none());
+    }
+    public static DeliveryPromiseServiceClient getDeliveryPromiseServiceClient(SimulatedServices simulatedServices) {
+        return new DeliveryPromiseServiceClient(getDeliveryPromiseService(),
+            DPS_CALL_POLICY.wrapping(simulatedServices.getDeliveryPromiseService()));
     }
     public static OrderFulfillmentServiceClient getPromiseOrderFulfillmentServiceClient() {
-        return new OrderFulfillmentServiceClient(getPromiseOrderFulfillmentService());
+        return getPromiseOrderFulfillmentServiceClient(SimulatedServices.none());
+    }
+    public static OrderFulfillmentServiceClient getPromiseOrderFulfillmentServiceClient(
+            SimulatedServices simulatedServices) {
+        return new OrderFulfillmentServiceClient(getPromiseOrderFulfillmentService(),
+            OFS_CALL_POLICY.wrapping(simulatedServices.getOrderFulfillmentService()));
     }
 
     // dependency services
     public static OrderManipulationAuthority getOrderManipulationAuthority() {
-        return new OrderManipulationAuthority(getOrderDatastore());
+        return ORDER_MANIPULATION_AUTHORITY;
     }
     public static DeliveryPromiseService getDeliveryPromiseService() {
-        return new DeliveryPromiseService(getOrderDatastore());
+        return DELIVERY_PROMISE_SERVICE;
     }
     public static OrderFulfillmentService getPromiseOrderFulfillmentService() {
-        return new OrderFulfillmentService(getOrderDatastore(), getDeliveryPromiseService());
+        return ORDER_FULFILLMENT_SERVICE;
     }
 
     // sample data
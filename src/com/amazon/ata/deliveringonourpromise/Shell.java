@@ -1,7 +1,9 @@
 package com.amazon.ata.deliveringonourpromise;
 
 import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
 import com.amazon.ata.deliveringonourpromise.promisehistoryservice.PromiseHistoryClient;
+import com.amazon.ata.deliveringonourpromise.tracing.Trace;
 import com.amazon.ata.deliveringonourpromise.types.Order;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
 import com.amazon.ata.deliveringonourpromise.types.PromiseHistory;
@@ -23,13 +25,23 @@ import java.util.List;
  */
 public class Shell {
     public static final String SHOW_FIXTURES_FLAG = "--show-fixtures";
+    public static final String SHOW_TRACES_COMMAND = "traces";
     private static final String CONTINUE_PROMPT = "Would you like to enter another orderId? (y/n)";
     private static final Collection<String> VALID_YES_NO_ANSWERS =
             Collections.unmodifiableList(Arrays.asList("y", "n", "Y", "N"));
     private static final String ORDER_ID_PROMPT =
-            "Please enter the orderId you would like to view the Promise History for.";
+            "Please enter the orderId you would like to view the Promise History for. " +
+            "(Enter '" + SHOW_TRACES_COMMAND + "' to see the most recent request traces.)";
     private static final String UNKNOWN_ORDER_MESSAGE =
             "Unable to find any order data for orderId: %s. Please check your order id and try again.";
+    private static final String TIMEOUT_MESSAGE =
+            "Timed out fetching order data for orderId: %s. Please try again.";
+    private static final String PARTIAL_HISTORY_MESSAGE =
+            "Note: the request timed out, so this promise history may be incomplete.\n";
+    private static final String MISSING_SOURCES_MESSAGE =
+            "Note: promises from %s could not be retrieved, so this promise history may be incomplete.\n";
+    private static final String NO_TRACES_MESSAGE =
+            "No requests have been traced yet. Run with -Dtracing.sampleRate=1 to trace every request.";
     private static final String INLINE_PROMPT = "> ";
 
     private PromiseHistoryClient promiseHistoryClient;
@@ -82,11 +94,44 @@ public class Shell {
             response = inputHandler.getString(ORDER_ID_PROMPT, INLINE_PROMPT).trim();
         } while ("".equals(response));
 
-        PromiseHistory promiseHistory = promiseHistoryClient.getPromiseHistoryByOrderId(response);
+        if (SHOW_TRACES_COMMAND.equalsIgnoreCase(response)) {
+            return renderRecentTraces();
+        }
+
+        PromiseHistory promiseHistory;
+        try {
+            promiseHistory = promiseHistoryClient.getPromiseHistoryByOrderId(response);
+        } catch (DeadlineExceededException e) {
+            return String.format(TIMEOUT_MESSAGE, response);
+        }
         if (promiseHistory.getOrder() == null) {
             return String.format(UNKNOWN_ORDER_MESSAGE, response);
         }
-        return renderOrderTable(promiseHistory.getOrder()) + renderPromiseHistoryTable(promiseHistory);
+        String output = renderOrderTable(promiseHistory.getOrder()) + renderPromiseHistoryTable(promiseHistory);
+        if (!promiseHistory.getMissingSources().isEmpty()) {
+            output += String.format(MISSING_SOURCES_MESSAGE, String.join(", ", promiseHistory.getMissingSources()));
+        }
+        if (promiseHistory.isPartial()) {
+            output += PARTIAL_HISTORY_MESSAGE;
+        }
+        return output;
+    }
+
+    /**
+     * Generates the user-facing representation of the recently traced requests, newest first.
+     *
+     * @return The String representation of the recent traces to display to user
+     */
+    private String renderRecentTraces() {
+        List<Trace> traces = promiseHistoryClient.getRecentTraces();
+        if (traces.isEmpty()) {
+            return NO_TRACES_MESSAGE;
+        }
+        StringBuilder output = new StringBuilder();
+        for (Trace trace : traces) {
+            output.append(trace);
+        }
+        return output.toString();
     }
 
     /**
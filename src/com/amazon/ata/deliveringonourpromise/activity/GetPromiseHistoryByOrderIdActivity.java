@@ -1,10 +1,14 @@
 package com.amazon.ata.deliveringonourpromise.activity;
 
 import com.amazon.ata.deliveringonourpromise.dao.ReadOnlyDao;
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
+import com.amazon.ata.deliveringonourpromise.metrics.CallMetrics;
 import com.amazon.ata.deliveringonourpromise.types.Order;
 import com.amazon.ata.deliveringonourpromise.types.OrderItem;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
 import com.amazon.ata.deliveringonourpromise.types.PromiseHistory;
+import com.amazon.ata.deliveringonourpromise.types.PromiseList;
 
 import java.util.List;
 
@@ -13,24 +17,50 @@ import java.util.List;
  */
 public class GetPromiseHistoryByOrderIdActivity {
     private ReadOnlyDao<String, Order> orderDao;
-    private ReadOnlyDao<String, List<Promise>> promiseDao;
+    private ReadOnlyDao<String, PromiseList> promiseDao;
+    private CallMetrics metrics;
 
     /**
      * Instantiates an activity for handling the API, accepting the relevant DAOs to
      * perform its work.
      *
+     * A plain list of promises carries no missing sources, so histories from this activity never report any;
+     * use {@link #GetPromiseHistoryByOrderIdActivity(ReadOnlyDao, ReadOnlyDao, CallMetrics)} with a DAO returning
+     * {@link PromiseList}s to have failed promise sources recorded.
+     *
      * @param orderDao data access object fo retrieving Orders by order ID
      * @param promiseDao data access object for retrieving Promises by order item ID
      */
     public GetPromiseHistoryByOrderIdActivity(ReadOnlyDao<String, Order> orderDao,
                                               ReadOnlyDao<String, List<Promise>> promiseDao) {
+        this(orderDao, customerOrderItemId -> new PromiseList(promiseDao.get(customerOrderItemId)),
+            new CallMetrics(GetPromiseHistoryByOrderIdActivity.class.getSimpleName()));
+    }
+
+    /**
+     * Instantiates an activity that records each request's latency, errors and number of promises returned.
+     *
+     * @param orderDao data access object fo retrieving Orders by order ID
+     * @param promiseDao data access object for retrieving Promises, and the promise sources that failed, by order
+     *                   item ID
+     * @param metrics where to record each request
+     */
+    public GetPromiseHistoryByOrderIdActivity(ReadOnlyDao<String, Order> orderDao,
+                                              ReadOnlyDao<String, PromiseList> promiseDao,
+                                              CallMetrics metrics) {
         this.orderDao = orderDao;
         this.promiseDao = promiseDao;
+        this.metrics = metrics;
     }
 
     /**
      * Returns the PromiseHistory for the given order ID, if the order exists. If the order does
      * not exist a PromiseHistory with a null order and no promises will be returned.
+     *
+     * If the current request's {@link Deadline} expires while promises are being fetched, the promises found so
+     * far are returned in a PromiseHistory marked as partial. If it expires before the order itself is fetched,
+     * DeadlineExceededException is thrown. Promise sources that failed are recorded on the history, see
+     * {@link PromiseHistory#getMissingSources()}.
      * @param orderId The order ID to fetch PromiseHistory for
      * @return PromiseHistory containing the order and promise history for that order
      */
@@ -39,6 +69,34 @@ public class GetPromiseHistoryByOrderIdActivity {
             throw new IllegalArgumentException("order ID cannot be null");
         }
 
+        PromiseHistoryRequestEvent event = new PromiseHistoryRequestEvent();
+        event.begin();
+        long start = System.nanoTime();
+        PromiseHistory history;
+        try {
+            history = fetchPromiseHistory(orderId);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(start);
+            if (event.shouldCommit()) {
+                event.orderId = orderId;
+                event.failure = e.getClass().getName();
+                event.commit();
+            }
+            throw e;
+        }
+        metrics.recordSuccess(start, history.getPromises().size());
+        if (event.shouldCommit()) {
+            event.orderId = orderId;
+            event.orderFound = history.getOrder() != null;
+            event.promiseCount = history.getPromises().size();
+            event.missingSources = String.join(",", history.getMissingSources());
+            event.partial = history.isPartial();
+            event.commit();
+        }
+        return history;
+    }
+
+    private PromiseHistory fetchPromiseHistory(String orderId) {
         Order order = orderDao.get(orderId);
 
         List<OrderItem> customerOrderItems = null;
@@ -47,26 +105,30 @@ public class GetPromiseHistoryByOrderIdActivity {
         }
 
         PromiseHistory history = new PromiseHistory(order);
-        OrderItem customerOrderItem;
         if (customerOrderItems != null && !customerOrderItems.isEmpty()) {
-            for (int i = 1; i < customerOrderItems.size(); i++) {
-                customerOrderItem = customerOrderItems.get(i);
-                List<Promise> promises = promiseDao.get(customerOrderItem.getCustomerOrderItemId());
-                for (Promise promise : promises) {
-                    promise.setConfidence(customerOrderItem.isConfidenceTracked(), customerOrderItem.getConfidence());
-                    history.addPromise(promise);
+            try {
+                for (int i = 1; i < customerOrderItems.size(); i++) {
+                    addPromisesForItem(history, customerOrderItems.get(i));
                 }
-            }
-            customerOrderItem = customerOrderItems.get(0);
-            if (customerOrderItem != null) {
-                List<Promise> promises = promiseDao.get(customerOrderItem.getCustomerOrderItemId());
-                for (Promise promise : promises) {
-                    promise.setConfidence(customerOrderItem.isConfidenceTracked(), customerOrderItem.getConfidence());
-                    history.addPromise(promise);
+                if (customerOrderItems.get(0) != null) {
+                    addPromisesForItem(history, customerOrderItems.get(0));
                 }
+            } catch (DeadlineExceededException e) {
+                // out of time: skip the remaining items and return the promises found so far
+                history.markPartial();
             }
         }
 
         return history;
     }
+
+    private void addPromisesForItem(PromiseHistory history, OrderItem customerOrderItem) {
+        Deadline.current().checkRemaining("PromiseDao get");
+        PromiseList promises = promiseDao.get(customerOrderItem.getCustomerOrderItemId());
+        for (Promise promise : promises) {
+            history.addPromise(
+                promise.withConfidence(customerOrderItem.isConfidenceTracked(), customerOrderItem.getConfidence()));
+        }
+        history.addMissingSources(promises.getMissingSources());
+    }
 }
@@ -0,0 +1,42 @@
+package com.amazon.ata.deliveringonourpromise.activity;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for one GetPromiseHistoryByOrderId request. Only requests slower than the threshold are
+ * recorded; the threshold can be changed per recording, e.g. in JMC or with src/resources/jfr/promise-history.jfc.
+ */
+@Name("com.amazon.ata.deliveringonourpromise.PromiseHistoryRequest")
+@Label("Promise History Request")
+@Category({"Delivering On Our Promise", "Activity"})
+@Description("A GetPromiseHistoryByOrderId request")
+@Threshold("20 ms")
+@StackTrace(false)
+class PromiseHistoryRequestEvent extends Event {
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Order Found")
+    boolean orderFound;
+
+    @Label("Promise Count")
+    int promiseCount;
+
+    @Label("Missing Sources")
+    @Description("Promise sources that failed, comma separated")
+    String missingSources;
+
+    @Label("Partial")
+    @Description("Whether the deadline expired before every item's promises were fetched")
+    boolean partial;
+
+    @Label("Failure")
+    @Description("Class of the exception the request failed with, if it failed")
+    String failure;
+}
@@ -0,0 +1,133 @@
+package com.amazon.ata.deliveringonourpromise.callaccounting;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The most downstream calls one request to an API may make, per operation. Each operation's limit is a fixed
+ * number of calls plus a number per unit of fan-out, e.g. per order item:
+ *
+ * <pre>{@code
+ *   CallBudget.builder()
+ *       .withApiName("GetPromiseHistoryByOrderId")
+ *       .withLimit("DPS getDeliveryPromise", 0, 1)
+ *       .withViolationHandler(CallBudgetViolationHandler.logging())
+ *       .build();
+ * }</pre>
+ *
+ * Calls to an operation the budget doesn't list are over budget, so a new hidden round-trip to another service
+ * is caught as well as an extra call to a known one.
+ */
+public final class CallBudget {
+    private static final CallBudget UNLIMITED = new CallBudget(builder().withApiName("unlimited"));
+
+    private final String apiName;
+    private final Map<String, int[]> limits;
+    private final CallBudgetViolationHandler violationHandler;
+
+    private CallBudget(Builder builder) {
+        this.apiName = builder.apiName;
+        this.limits = new HashMap<>(builder.limits);
+        this.violationHandler = builder.violationHandler;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a budget that allows any number of calls.
+     *
+     * @return the unlimited budget
+     */
+    public static CallBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    public String getApiName() {
+        return apiName;
+    }
+
+    /**
+     * Returns the most calls to the given operation a request with the given fan-out may make.
+     *
+     * @param operation the downstream operation
+     * @param fanOut the request's fan-out, e.g. its number of order items
+     * @return the operation's limit, or 0 if the budget doesn't list it
+     */
+    public int getLimit(String operation, int fanOut) {
+        int[] limit = limits.get(operation);
+        return limit == null ? 0 : limit[0] + limit[1] * fanOut;
+    }
+
+    /**
+     * Compares a finished request's call counts with this budget, passing any overruns to the violation handler.
+     *
+     * @param counts the request's downstream calls
+     * @param fanOut the request's fan-out, e.g. its number of order items
+     */
+    public void check(CallCounts counts, int fanOut) {
+        if (this == UNLIMITED) {
+            return;
+        }
+        List<String> overruns = new ArrayList<>();
+        for (Map.Entry<String, Integer> count : counts.getCounts().entrySet()) {
+            int limit = getLimit(count.getKey(), fanOut);
+            if (count.getValue() > limit) {
+                overruns.add(String.format("%s called %d times (budget %d)", count.getKey(), count.getValue(), limit));
+            }
+        }
+        if (!overruns.isEmpty()) {
+            violationHandler.onViolation(String.format("%s request with fan-out %d exceeded its call budget: %s",
+                apiName, fanOut, String.join("; ", overruns)));
+        }
+    }
+
+    /**
+     * CallBudget builder static inner class.
+     */
+    public static final class Builder {
+        private String apiName;
+        private Map<String, int[]> limits = new HashMap<>();
+        private CallBudgetViolationHandler violationHandler = CallBudgetViolationHandler.logging();
+
+        private Builder() {
+        }
+
+        //CHECKSTYLE:OFF:HiddenField
+        //CHECKSTYLE:OFF:JavadocMethod
+        public Builder withApiName(String apiName) {
+            this.apiName = apiName;
+            return this;
+        }
+
+        public Builder withLimit(String operation, int perRequest, int perFanOut) {
+            if (perRequest < 0 || perFanOut < 0) {
+                throw new IllegalArgumentException("Call budget limits must not be negative");
+            }
+            this.limits.put(operation, new int[] {perRequest, perFanOut});
+            return this;
+        }
+
+        public Builder withViolationHandler(CallBudgetViolationHandler violationHandler) {
+            this.violationHandler = violationHandler;
+            return this;
+        }
+        //CHECKSTYLE:ON:JavadocMethod
+        //CHECKSTYLE:ON:HiddenField
+
+        /**
+         * Returns a CallBudget built from the parameters previously set.
+         *
+         * @return a CallBudget
+         */
+        public CallBudget build() {
+            if (apiName == null) {
+                throw new IllegalArgumentException("A call budget needs the name of the API it applies to");
+            }
+            return new CallBudget(this);
+        }
+    }
+}
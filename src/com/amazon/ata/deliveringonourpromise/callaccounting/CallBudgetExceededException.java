@@ -0,0 +1,19 @@
+package com.amazon.ata.deliveringonourpromise.callaccounting;
+
+/**
+ * Thrown by {@link CallBudgetViolationHandler#failing()} when a request makes more downstream calls than its
+ * budget allows. An AssertionError, so that tests fail on it and no RuntimeException handler swallows it.
+ */
+public class CallBudgetExceededException extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs an exception with the given detail message.
+     *
+     * @param message describes which operations went over budget
+     */
+    public CallBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.amazon.ata.deliveringonourpromise.callaccounting;
+
+import java.util.logging.Logger;
+
+/**
+ * What to do when a request goes over its {@link CallBudget}: log a warning in production, fail in tests.
+ */
+@FunctionalInterface
+public interface CallBudgetViolationHandler {
+
+    /**
+     * Handles a request that made more downstream calls than its budget allows.
+     *
+     * @param message describes the request and which operations went over budget
+     */
+    void onViolation(String message);
+
+    /**
+     * Returns a handler that logs each violation as a warning.
+     *
+     * @return the logging handler
+     */
+    static CallBudgetViolationHandler logging() {
+        Logger logger = Logger.getLogger(CallBudget.class.getName());
+        return logger::warning;
+    }
+
+    /**
+     * Returns a handler that throws {@link CallBudgetExceededException} for each violation.
+     *
+     * @return the failing handler
+     */
+    static CallBudgetViolationHandler failing() {
+        return message -> {
+            throw new CallBudgetExceededException(message);
+        };
+    }
+}
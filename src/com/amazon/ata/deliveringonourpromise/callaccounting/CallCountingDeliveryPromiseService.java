@@ -0,0 +1,34 @@
+package com.amazon.ata.deliveringonourpromise.callaccounting;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.deliverypromiseservice.MemoizingDeliveryPromiseService;
+import com.amazon.ata.deliverypromiseservice.service.DeliveryPromise;
+
+/**
+ * A DeliveryPromiseService that counts the calls it receives in the current request's {@link CallCounts}.
+ *
+ * OrderFulfillmentService calls DPS directly rather than through a client, so give it one of these to make
+ * those calls visible to the request's call budget. Promises served from the request's
+ * {@link com.amazon.ata.deliveringonourpromise.deliverypromiseservice.DeliveryPromiseMemo} aren't calls, and
+ * aren't counted.
+ */
+public class CallCountingDeliveryPromiseService extends MemoizingDeliveryPromiseService {
+    private final String operation;
+
+    /**
+     * Constructs a DeliveryPromiseService that counts each call under the given operation name.
+     *
+     * @param orderDatastore The order datastore to use for fetching order/item data
+     * @param operation the operation name to count calls under
+     */
+    public CallCountingDeliveryPromiseService(OrderDatastore orderDatastore, String operation) {
+        super(orderDatastore, false);
+        this.operation = operation;
+    }
+
+    @Override
+    protected DeliveryPromise lookUpDeliveryPromise(String customerOrderItemId) {
+        CallCounts.current().record(operation);
+        return super.lookUpDeliveryPromise(customerOrderItemId);
+    }
+}
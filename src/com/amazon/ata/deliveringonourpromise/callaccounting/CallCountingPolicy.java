@@ -0,0 +1,24 @@
+package com.amazon.ata.deliveringonourpromise.callaccounting;
+
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts every downstream call in the current request's {@link CallCounts}, under the call's operation name.
+ *
+ * Apply it outside any retry policy, so that a call counts once however many attempts it takes; retries are
+ * limited by the retry budget instead.
+ */
+public final class CallCountingPolicy implements ServiceCallPolicy {
+    public static final CallCountingPolicy INSTANCE = new CallCountingPolicy();
+
+    private CallCountingPolicy() {
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> call) {
+        CallCounts.current().record(operation);
+        return call.get();
+    }
+}
@@ -0,0 +1,107 @@
+package com.amazon.ata.deliveringonourpromise.callaccounting;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Counts the downstream calls made on behalf of a single request, by operation name.
+ *
+ * Like a {@link com.amazon.ata.deliveringonourpromise.deadline.Deadline}, the counts are attached to the current
+ * thread for the duration of a request:
+ *
+ * <pre>{@code
+ *   CallCounts counts = new CallCounts();
+ *   try (CallCounts.Scope scope = counts.attach()) {
+ *       ...
+ *   }
+ *   callBudget.check(counts, fanOut);
+ * }</pre>
+ *
+ * Lower layers call {@code CallCounts.current().record(operation)} for each call. When no counts are attached,
+ * {@link #current()} returns an instance that ignores them. A CallCounts belongs to the request's thread and is
+ * not thread-safe.
+ */
+public final class CallCounts {
+    private static final CallCounts NONE = new CallCounts();
+    private static final ThreadLocal<CallCounts> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> counts = new TreeMap<>();
+
+    /**
+     * Returns the counts attached to the current thread, or an instance that ignores calls if there aren't any.
+     *
+     * @return the current request's call counts
+     */
+    public static CallCounts current() {
+        CallCounts callCounts = CURRENT.get();
+        return callCounts == null ? NONE : callCounts;
+    }
+
+    /**
+     * Attaches these counts to the current thread until the returned Scope is closed. Scopes nest; closing
+     * restores whatever counts were attached before.
+     *
+     * @return Scope to close when the request is finished
+     */
+    public Scope attach() {
+        CallCounts previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Counts one call to the given operation.
+     *
+     * @param operation the downstream operation called
+     */
+    public void record(String operation) {
+        if (this != NONE) {
+            counts.merge(operation, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns how many times the given operation was called.
+     *
+     * @param operation the downstream operation
+     * @return number of calls recorded
+     */
+    public int getCount(String operation) {
+        return counts.getOrDefault(operation, 0);
+    }
+
+    /**
+     * Returns the number of calls to each operation called at least once, sorted by operation name.
+     *
+     * @return operation name : call count
+     */
+    public Map<String, Integer> getCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @Override
+    public String toString() {
+        return counts.toString();
+    }
+
+    /**
+     * Restores the previously attached counts when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final CallCounts previous;
+
+        private Scope(CallCounts previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
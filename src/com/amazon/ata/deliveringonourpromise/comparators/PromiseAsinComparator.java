@@ -8,6 +8,6 @@ public class PromiseAsinComparator implements Comparator<Promise> {
 
     @Override
     public int compare(Promise o1, Promise o2) {
-        return o1.getAsin().compareTo(o2.getAsin());
+        return o1.compareAsinTo(o2);
     }
 }
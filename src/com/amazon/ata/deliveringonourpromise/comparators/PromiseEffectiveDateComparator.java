@@ -0,0 +1,34 @@
+package com.amazon.ata.deliveringonourpromise.comparators;
+
+import com.amazon.ata.deliveringonourpromise.data.EpochTime;
+import com.amazon.ata.deliveringonourpromise.types.Promise;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Orders Promises by promise effective date, earliest first. Promises without an effective date
+ * are ordered after those that have one.
+ */
+public class PromiseEffectiveDateComparator implements Comparator<Promise> {
+
+    @Override
+    public int compare(Promise o1, Promise o2) {
+        long effective1 = o1.getPromiseEffectiveEpochSecond();
+        long effective2 = o2.getPromiseEffectiveEpochSecond();
+        if (effective1 == EpochTime.NONE) {
+            return effective2 == EpochTime.NONE ? 0 : 1;
+        }
+        if (effective2 == EpochTime.NONE) {
+            return -1;
+        }
+        if (effective1 != effective2) {
+            return Long.compare(effective1, effective2);
+        }
+        if (Objects.equals(o1.getZone(), o2.getZone())) {
+            return 0;
+        }
+        // same instant in different zones: break the tie the way ZonedDateTime does
+        return o1.getPromiseEffectiveDate().compareTo(o2.getPromiseEffectiveDate());
+    }
+}
@@ -0,0 +1,42 @@
+package com.amazon.ata.deliveringonourpromise.dao;
+
+import com.amazon.ata.deliveringonourpromise.metrics.CallMetrics;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * Decorates a ReadOnlyDao, recording each get's latency, errors and result size.
+ * @param <I> - Input
+ * @param <O> - Output
+ */
+public class InstrumentedReadOnlyDao<I, O> implements ReadOnlyDao<I, O> {
+    private final ReadOnlyDao<I, O> delegate;
+    private final CallMetrics metrics;
+    private final ToIntFunction<O> resultSize;
+
+    /**
+     * Wraps the given DAO.
+     * @param delegate the DAO doing the work
+     * @param metrics where to record each call
+     * @param resultSize measures a non-null result, e.g. the number of items in an order
+     */
+    public InstrumentedReadOnlyDao(ReadOnlyDao<I, O> delegate, CallMetrics metrics, ToIntFunction<O> resultSize) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.resultSize = resultSize;
+    }
+
+    @Override
+    public O get(I id) {
+        long start = System.nanoTime();
+        O result;
+        try {
+            result = delegate.get(id);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(start);
+            throw e;
+        }
+        metrics.recordSuccess(start, result == null ? 0 : resultSize.applyAsInt(result));
+        return result;
+    }
+}
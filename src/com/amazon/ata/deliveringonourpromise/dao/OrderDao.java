@@ -1,6 +1,7 @@
 package com.amazon.ata.deliveringonourpromise.dao;
 
 import com.amazon.ata.deliveringonourpromise.ordermanipulationauthority.OrderManipulationAuthorityClient;
+import com.amazon.ata.deliveringonourpromise.tracing.Span;
 import com.amazon.ata.deliveringonourpromise.types.Order;
 import com.amazon.ata.deliveringonourpromise.types.OrderItem;
 import com.amazon.ata.order.OrderFieldValidator;
@@ -35,6 +36,13 @@ public class OrderDao implements ReadOnlyDao<String, Order> {
      */
     @Override
     public Order get(String orderId) {
+        try (Span span = Span.current().startChild("OrderDao.get")) {
+            span.setAttribute("orderId", orderId);
+            return getOrder(orderId);
+        }
+    }
+
+    private Order getOrder(String orderId) {
         OrderResult omaOrder = omaClient.getCustomerOrderByOrderId(orderId);
         if (null == omaOrder || !(new OrderFieldValidator().isValidOrderId(orderId))) {
             return null;
@@ -1,26 +1,38 @@
 package com.amazon.ata.deliveringonourpromise.dao;
 
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
 import com.amazon.ata.deliveringonourpromise.deliverypromiseservice.DeliveryPromiseServiceClient;
+import com.amazon.ata.deliveringonourpromise.interfaces.GetPromiseService;
 import com.amazon.ata.deliveringonourpromise.orderfulfillmentservice.OrderFulfillmentServiceClient;
 import com.amazon.ata.deliveringonourpromise.ordermanipulationauthority.OrderManipulationAuthorityClient;
+import com.amazon.ata.deliveringonourpromise.tracing.Span;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
-import com.amazon.ata.ordermanipulationauthority.OrderResult;
-import com.amazon.ata.ordermanipulationauthority.OrderResultItem;
-import com.amazon.ata.ordermanipulationauthority.OrderShipment;
+import com.amazon.ata.deliveringonourpromise.types.PromiseList;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * DAO implementation for Promises.
+ *
+ * Each promise source is isolated from the others: if a DPS or OFS client throws, its promises are skipped
+ * and the source is recorded as missing on the returned {@link PromiseList}, and the promises from the other
+ * sources are still returned. Likewise, if OMA fails while looking up the delivery date, the promises are
+ * returned without a delivery date and "OMA" is recorded as missing. An expired request deadline is not
+ * treated as a source failure; DeadlineExceededException is passed on to the caller.
  */
 public class PromiseDao implements ReadOnlyDao<String, List<Promise>> {
+    static final String DPS_SOURCE = "DPS";
+    static final String OFS_SOURCE = "OFS";
+    static final String OMA_SOURCE = "OMA";
+
     private List<DeliveryPromiseServiceClient> dpsClients = new ArrayList<>();
     private List<OrderManipulationAuthorityClient> omaClients = new ArrayList<>();
     private List<OrderFulfillmentServiceClient> ofsClients = new ArrayList<>();
-    private List<Promise> promises = new ArrayList<>();
-    private ZonedDateTime result = null;
 
     /**
      * PromiseDao constructor, accepting service clients for DPS and OMA.
@@ -48,67 +60,104 @@ public class PromiseDao implements ReadOnlyDao<String, List<Promise>> {
         this.ofsClients.addAll(ofsClients);
     }
     /**
-     * Returns a list of all Promises associated with the given order item ID.
+     * Returns a list of all Promises associated with the given order item ID. Failed promise sources are not
+     * reported through this method; use {@link #getPromiseList(String)} for those.
      * @param customerOrderItemId the order item ID to fetch promise for
      * @return a List of promises for the given order item ID
      */
     @Override
     public List<Promise> get(String customerOrderItemId) {
+        return getPromiseList(customerOrderItemId);
+    }
+
+    /**
+     * Returns all Promises associated with the given order item ID, along with the names of any promise sources
+     * that failed while they were being looked up.
+     * @param customerOrderItemId the order item ID to fetch promise for
+     * @return the promises for the given order item ID and the missing sources
+     */
+    public PromiseList getPromiseList(String customerOrderItemId) {
         if (customerOrderItemId == null || customerOrderItemId.equalsIgnoreCase("")) {
             throw new NullPointerException("Order Item id could not be null or empty.");
-        } else {
-            // fetch Promise from Delivery Promise Service. If exists, add to list of Promises to return.
-            // DeliveryPromiseServiceClient
-            for (DeliveryPromiseServiceClient dpsClient : dpsClients) {
-                Promise promise = dpsClient.getPromiseByOrderItemId(customerOrderItemId);
-                if (promise != null) {
-                    isPromiseValid(promise, customerOrderItemId);
-                }
+        }
+
+        PromiseLookupEvent event = new PromiseLookupEvent();
+        event.begin();
+        try (Span span = Span.current().startChild("PromiseDao.get")) {
+            span.setAttribute("itemId", customerOrderItemId);
+            PromiseList promises = getPromises(customerOrderItemId);
+            span.setAttribute("promises", promises.size());
+            if (event.shouldCommit()) {
+                event.customerOrderItemId = customerOrderItemId;
+                event.promiseCount = promises.size();
+                event.sourcesHit = promises.stream().map(Promise::getPromiseProvidedBy).distinct()
+                    .collect(Collectors.joining(","));
+                event.missingSources = String.join(",", promises.getMissingSources());
+                event.commit();
             }
+            return promises;
+        }
+    }
 
-            // fetch Promise from OrderFulfillment Promise Service. If exists, add to list of Promises to return.
-            // OrderFulfillmentServiceClient
-            for (OrderFulfillmentServiceClient ofsClient : ofsClients) {
-                Promise promise = ofsClient.getPromiseByOrderItemId(customerOrderItemId);
-                if (promise != null) {
-                    isPromiseValid(promise, customerOrderItemId);
-                }
+    private PromiseList getPromises(String customerOrderItemId) {
+        PromiseList promises = new PromiseList();
+        // fetch Promise from Delivery Promise Service. If exists, add to list of Promises to return.
+        for (DeliveryPromiseServiceClient dpsClient : dpsClients) {
+            addPromiseFromSource(promises, dpsClient, DPS_SOURCE, customerOrderItemId);
+        }
+
+        // fetch Promise from OrderFulfillment Promise Service. If exists, add to list of Promises to return.
+        for (OrderFulfillmentServiceClient ofsClient : ofsClients) {
+            addPromiseFromSource(promises, ofsClient, OFS_SOURCE, customerOrderItemId);
+        }
+
+        if (!promises.isEmpty()) {
+            // Fetch the delivery date, so we can add to any promises that we find
+            ZonedDateTime itemDeliveryDate = getDeliveryDateForOrderItem(promises, customerOrderItemId);
+            for (int i = 0; i < promises.size(); i++) {
+                promises.set(i, promises.get(i).withDeliveryDate(itemDeliveryDate));
             }
         }
         return promises;
     }
-    private void isPromiseValid(Promise promise, String customerOrderItemId) {
-        // Fetch the delivery date, so we can add to any promises that we find
-        ZonedDateTime itemDeliveryDate = getDeliveryDateForOrderItem(customerOrderItemId);
-        // Set delivery date
-        promise.setDeliveryDate(itemDeliveryDate);
-        promises.add(promise);
+
+    private void addPromiseFromSource(PromiseList promises, GetPromiseService client, String source,
+                                      String customerOrderItemId) {
+        Promise promise;
+        try {
+            promise = client.getPromiseByOrderItemId(customerOrderItemId);
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            promises.addMissingSource(source);
+            Span.current().setAttribute("missingSource", source);
+            return;
+        }
+        if (promise != null) {
+            promises.add(promise);
+        }
     }
 
     /**
      * Fetches the delivery date of the shipment containing the order item specified by the given order item ID,
      * if there is one.
-     * If the order item ID doesn't correspond to a valid order item, or if the shipment hasn't been delivered
-     * yet, return null.
+     * If the order item ID doesn't correspond to a valid order item, if the shipment hasn't been delivered
+     * yet, or if OMA fails (recorded on promises as a missing source), return null.
      */
-    private ZonedDateTime getDeliveryDateForOrderItem(String customerOrderItemId) {
-        OrderResultItem orderResultItem = null;
-        OrderResult orderResult = null;
-        for (OrderManipulationAuthorityClient omaClient : omaClients) {
-            orderResultItem = omaClient.getCustomerOrderItemByOrderItemId(customerOrderItemId);
-            orderResult = omaClient.getCustomerOrderByOrderId(orderResultItem.getOrderId());
-        }
-        if (orderResultItem == null) {
-            return result;
-        }
-        for (OrderShipment shipment : orderResult.getOrderShipmentList()) {
-            for (OrderShipment.ShipmentItem shipmentItem : shipment.getCustomerShipmentItems()) {
-                if (shipmentItem.getCustomerOrderItemId().equals(customerOrderItemId)) {
-                    result = shipment.getDeliveryDate();
-                    break;
-                }
+    private ZonedDateTime getDeliveryDateForOrderItem(PromiseList promises, String customerOrderItemId) {
+        Map<String, ZonedDateTime> deliveryDates = null;
+        try {
+            for (OrderManipulationAuthorityClient omaClient : omaClients) {
+                deliveryDates = omaClient.getDeliveryDatesByOrderItemIds(
+                    Collections.singletonList(customerOrderItemId));
             }
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            promises.addMissingSource(OMA_SOURCE);
+            Span.current().setAttribute("missingSource", OMA_SOURCE);
+            return null;
         }
-        return result;
+        return deliveryDates == null ? null : deliveryDates.get(customerOrderItemId);
     }
 }
@@ -0,0 +1,35 @@
+package com.amazon.ata.deliveringonourpromise.dao;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for fetching the promises of one order item from every promise source. Only lookups
+ * slower than the threshold are recorded.
+ */
+@Name("com.amazon.ata.deliveringonourpromise.PromiseLookup")
+@Label("Promise Lookup")
+@Category({"Delivering On Our Promise", "DAO"})
+@Description("PromiseDao lookup of one order item's promises")
+@Threshold("5 ms")
+@StackTrace(false)
+class PromiseLookupEvent extends Event {
+    @Label("Order Item ID")
+    String customerOrderItemId;
+
+    @Label("Promise Count")
+    int promiseCount;
+
+    @Label("Sources Hit")
+    @Description("Promise sources that returned a promise, comma separated")
+    String sourcesHit;
+
+    @Label("Missing Sources")
+    @Description("Promise sources that failed, comma separated")
+    String missingSources;
+}
@@ -0,0 +1,146 @@
+package com.amazon.ata.deliveringonourpromise.deadline;
+
+import java.time.Duration;
+
+/**
+ * The time budget for a single promise history request, shared by every layer that does work on the
+ * request's behalf (activity, DAOs and service clients).
+ *
+ * A Deadline is attached to the current thread for the duration of a request:
+ *
+ * <pre>{@code
+ *   try (Deadline.Scope scope = Deadline.after(timeout).attach()) {
+ *       ...
+ *   }
+ * }</pre>
+ *
+ * Lower layers then call {@code Deadline.current().checkRemaining(...)} before doing downstream work.
+ * When no deadline is attached, {@link #current()} returns a deadline that never expires. A deadline can
+ * also be cancelled (for example by a caller that has given up), which fails the next check the same way
+ * as running out of time.
+ */
+public final class Deadline {
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE, "none");
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final String description;
+    private volatile boolean cancelled;
+
+    private Deadline(long expiresAtNanos, String description) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.description = description;
+    }
+
+    /**
+     * Returns a deadline that expires the given amount of time from now.
+     *
+     * @param timeout the time budget; must be non-null and not negative
+     * @return a new Deadline
+     */
+    public static Deadline after(Duration timeout) {
+        if (null == timeout || timeout.isNegative()) {
+            throw new IllegalArgumentException("Deadline timeout must be non-null and not negative");
+        }
+        return new Deadline(System.nanoTime() + timeout.toNanos(), timeout.toString());
+    }
+
+    /**
+     * Returns a deadline that never expires and can't be cancelled.
+     *
+     * @return the shared no-deadline instance
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * Returns the deadline attached to the current thread, or {@link #none()} if there isn't one.
+     *
+     * @return the current request's deadline
+     */
+    public static Deadline current() {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? NONE : deadline;
+    }
+
+    /**
+     * Attaches this deadline to the current thread until the returned Scope is closed. Scopes nest; closing
+     * restores whatever deadline was attached before.
+     *
+     * @return Scope to close when the request is finished
+     */
+    public Scope attach() {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Returns the time left before this deadline expires, never negative.
+     *
+     * @return remaining time budget
+     */
+    public Duration remaining() {
+        if (this == NONE) {
+            return Duration.ofNanos(Long.MAX_VALUE);
+        }
+        return Duration.ofNanos(Math.max(0L, expiresAtNanos - System.nanoTime()));
+    }
+
+    /**
+     * Indicates whether this deadline has run out of time or been cancelled.
+     *
+     * @return true if no more work should be done for this request; false otherwise
+     */
+    public boolean isExpired() {
+        return cancelled || (this != NONE && System.nanoTime() - expiresAtNanos >= 0);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Cancels this deadline, so that any remaining downstream work for the request is abandoned at its next check.
+     * Cancelling {@link #none()} has no effect.
+     */
+    public void cancel() {
+        if (this != NONE) {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Throws DeadlineExceededException if this deadline has expired or been cancelled.
+     *
+     * @param operation description of the work about to be done, for the exception message
+     */
+    public void checkRemaining(String operation) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(String.format(
+                "%s abandoned: deadline (%s) %s", operation, description, cancelled ? "was cancelled" : "exceeded"
+            ));
+        }
+    }
+
+    /**
+     * Restores the previously attached deadline when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Deadline previous;
+
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.amazon.ata.deliveringonourpromise.deadline;
+
+/**
+ * Thrown when work is abandoned because the request's {@link Deadline} expired or was cancelled.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception with the given message.
+     *
+     * @param message describes the work that was abandoned
+     */
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+}
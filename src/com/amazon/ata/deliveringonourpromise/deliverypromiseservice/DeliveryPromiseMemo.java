@@ -0,0 +1,94 @@
+package com.amazon.ata.deliveringonourpromise.deliverypromiseservice;
+
+import com.amazon.ata.deliverypromiseservice.service.DeliveryPromise;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Remembers the DPS promises already looked up for a single request, by order item ID, so that each item's
+ * promise is only resolved once per request however many callers ask for it. PromiseDao asks DPS for an item's
+ * promise, and then OFS asks DPS for the same promise again while building its own.
+ *
+ * Like {@link com.amazon.ata.deliveringonourpromise.callaccounting.CallCounts}, a memo is attached to the current
+ * thread for the duration of a request:
+ *
+ * <pre>{@code
+ *   try (DeliveryPromiseMemo.Scope scope = new DeliveryPromiseMemo().attach()) {
+ *       ...
+ *   }
+ * }</pre>
+ *
+ * When no memo is attached, {@link #current()} returns an instance that remembers nothing. A memo belongs to the
+ * request's thread and is not thread-safe.
+ */
+public final class DeliveryPromiseMemo {
+    private static final DeliveryPromiseMemo NONE = new DeliveryPromiseMemo();
+    private static final ThreadLocal<DeliveryPromiseMemo> CURRENT = new ThreadLocal<>();
+
+    // null promises are remembered too: DPS had none for the item
+    private final Map<String, DeliveryPromise> promises = new HashMap<>();
+
+    /**
+     * Returns the memo attached to the current thread, or an instance that remembers nothing if there isn't one.
+     *
+     * @return the current request's memo
+     */
+    public static DeliveryPromiseMemo current() {
+        DeliveryPromiseMemo memo = CURRENT.get();
+        return memo == null ? NONE : memo;
+    }
+
+    /**
+     * Attaches this memo to the current thread until the returned Scope is closed. Scopes nest; closing
+     * restores whatever memo was attached before.
+     *
+     * @return Scope to close when the request is finished
+     */
+    public Scope attach() {
+        DeliveryPromiseMemo previous = CURRENT.get();
+        CURRENT.set(this);
+        return new Scope(previous);
+    }
+
+    /**
+     * Returns the promise remembered for the given order item, looking it up (and remembering it) first if this
+     * request hasn't already. An exception from the lookup is passed on, and nothing is remembered.
+     *
+     * @param customerOrderItemId the order item to get the promise for
+     * @param lookup looks up the item's promise from DPS
+     * @return the item's DPS promise; null if DPS has none
+     */
+    public DeliveryPromise get(String customerOrderItemId, Function<String, DeliveryPromise> lookup) {
+        if (this == NONE) {
+            return lookup.apply(customerOrderItemId);
+        }
+        if (promises.containsKey(customerOrderItemId)) {
+            return promises.get(customerOrderItemId);
+        }
+        DeliveryPromise promise = lookup.apply(customerOrderItemId);
+        promises.put(customerOrderItemId, promise);
+        return promise;
+    }
+
+    /**
+     * Restores the previously attached memo when closed.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final DeliveryPromiseMemo previous;
+
+        private Scope(DeliveryPromiseMemo previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.amazon.ata.deliveringonourpromise.deliverypromiseservice;
 
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
 import com.amazon.ata.deliveringonourpromise.interfaces.GetPromiseService;
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+import com.amazon.ata.deliveringonourpromise.tracing.Span;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
 import com.amazon.ata.deliverypromiseservice.service.DeliveryPromise;
 import com.amazon.ata.deliverypromiseservice.service.DeliveryPromiseService;
@@ -9,7 +12,11 @@ import com.amazon.ata.deliverypromiseservice.service.DeliveryPromiseService;
  * Client for accessing the DeliveryPromiseService to retrieve Promises.
  */
 public class DeliveryPromiseServiceClient implements GetPromiseService {
+    // downstream operation names, as seen by deadline checks and call policies
+    public static final String GET_DELIVERY_PROMISE_OPERATION = "DPS getDeliveryPromise";
+
     private DeliveryPromiseService dpService;
+    private ServiceCallPolicy callPolicy;
 
     /**
      * Create new client that calls DPS with the given service object.
@@ -17,7 +24,18 @@ public class DeliveryPromiseServiceClient implements GetPromiseService {
      * @param dpService The DeliveryPromiseService that this client will call.
      */
     public DeliveryPromiseServiceClient(DeliveryPromiseService dpService) {
+        this(dpService, ServiceCallPolicy.direct());
+    }
+
+    /**
+     * Create new client that calls DPS with the given service object, routing each call through the given policy.
+     *
+     * @param dpService The DeliveryPromiseService that this client will call.
+     * @param callPolicy The policy (circuit breaker, concurrency limiter, ...) guarding calls to DPS.
+     */
+    public DeliveryPromiseServiceClient(DeliveryPromiseService dpService, ServiceCallPolicy callPolicy) {
         this.dpService = dpService;
+        this.callPolicy = callPolicy;
     }
 
     /**
@@ -25,10 +43,21 @@ public class DeliveryPromiseServiceClient implements GetPromiseService {
      *
      * @param customerOrderItemId String representing the order item ID to fetch the order for.
      * @return the Promise for the given order item ID.
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
      */
     @Override
     public Promise getPromiseByOrderItemId(String customerOrderItemId) {
-        DeliveryPromise deliveryPromise = dpService.getDeliveryPromise(customerOrderItemId);
+        DeliveryPromise deliveryPromise;
+        try (Span span = Span.current().startChild(GET_DELIVERY_PROMISE_OPERATION)) {
+            span.setAttribute("itemId", customerOrderItemId);
+            Deadline.current().checkRemaining(GET_DELIVERY_PROMISE_OPERATION);
+            deliveryPromise = callPolicy.execute(GET_DELIVERY_PROMISE_OPERATION,
+                () -> dpService.getDeliveryPromise(customerOrderItemId));
+            span.setAttribute("found", deliveryPromise != null ? 1 : 0);
+        }
 
         if (null == deliveryPromise) {
             return null;
@@ -38,9 +67,10 @@ public class DeliveryPromiseServiceClient implements GetPromiseService {
                 .withCustomerOrderItemId(deliveryPromise.getCustomerOrderItemId())
                 .withAsin(deliveryPromise.getAsin())
                 .withIsActive(deliveryPromise.isActive())
-                .withPromiseEffectiveDate(deliveryPromise.getPromiseEffectiveDate())
-                .withPromiseLatestArrivalDate(deliveryPromise.getPromiseLatestArrivalDate())
-                .withPromiseLatestShipDate(deliveryPromise.getPromiseLatestShipDate())
+                .withPromiseEffectiveEpochSecond(deliveryPromise.getPromiseEffectiveEpochSecond())
+                .withPromiseLatestArrivalEpochSecond(deliveryPromise.getPromiseLatestArrivalEpochSecond())
+                .withPromiseLatestShipEpochSecond(deliveryPromise.getPromiseLatestShipEpochSecond())
+                .withZone(deliveryPromise.getZone())
                 .withDeliveryDate(null)
                 .withPromiseProvidedBy(deliveryPromise.getPromiseProvidedBy())
                 .build();
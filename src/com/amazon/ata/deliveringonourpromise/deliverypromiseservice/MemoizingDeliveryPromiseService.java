@@ -0,0 +1,40 @@
+package com.amazon.ata.deliveringonourpromise.deliverypromiseservice;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliverypromiseservice.service.DeliveryPromise;
+import com.amazon.ata.deliverypromiseservice.service.DeliveryPromiseService;
+
+/**
+ * A DeliveryPromiseService that serves promises already looked up in the current request from its
+ * {@link DeliveryPromiseMemo}, and remembers the ones it looks up.
+ *
+ * Give one of these to both the DPS client and OrderFulfillmentService, so that OFS reuses the promise PromiseDao
+ * fetched for the same item instead of resolving it again.
+ */
+public class MemoizingDeliveryPromiseService extends DeliveryPromiseService {
+
+    /**
+     * Constructs a memoizing DeliveryPromiseService.
+     *
+     * @param orderDatastore The order datastore to use for fetching order/item data
+     * @param materializePromises true to keep a promise table; false to build a new promise on every lookup
+     */
+    public MemoizingDeliveryPromiseService(OrderDatastore orderDatastore, boolean materializePromises) {
+        super(orderDatastore, materializePromises);
+    }
+
+    @Override
+    public DeliveryPromise getDeliveryPromise(String customerOrderItemId) {
+        return DeliveryPromiseMemo.current().get(customerOrderItemId, this::lookUpDeliveryPromise);
+    }
+
+    /**
+     * Looks up the given order item's promise from DPS itself, when the request hasn't already.
+     *
+     * @param customerOrderItemId The order item ID to fetch the promise for
+     * @return The delivery promise for the order item, or null if no promise is found.
+     */
+    protected DeliveryPromise lookUpDeliveryPromise(String customerOrderItemId) {
+        return super.getDeliveryPromise(customerOrderItemId);
+    }
+}
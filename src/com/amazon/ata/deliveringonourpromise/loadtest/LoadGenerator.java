@@ -0,0 +1,241 @@
+package com.amazon.ata.deliveringonourpromise.loadtest;
+
+import com.amazon.ata.deliveringonourpromise.metrics.LatencyHistogram;
+import com.amazon.ata.deliveringonourpromise.promisehistoryservice.PromiseHistoryClient;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a PromiseHistoryClient with sustained concurrent load, in-process, and measures request latency.
+ *
+ * In closed-loop mode (no target rate) each worker sends its next request as soon as the previous one returns,
+ * which measures capacity. In open-loop mode requests are scheduled at a fixed target rate, whatever the client's
+ * latency, and each latency is measured from the request's scheduled start rather than from when a worker got to
+ * it. When the client falls behind, the queueing delay therefore shows up in the percentiles instead of being
+ * hidden ("coordinated omission"). The workers then only bound how many requests can be in flight.
+ *
+ * While running, a line of throughput and latency percentiles is printed for every report interval.
+ *
+ * Construct a LoadGenerator via {@code LoadGenerator.builder()...build();}.
+ */
+public final class LoadGenerator {
+    private final PromiseHistoryClient client;
+    private final OrderIdDistribution orderIds;
+    private final int workers;
+    private final double targetRate;
+    private final Duration duration;
+    private final Duration reportInterval;
+    private final long seed;
+    private final PrintStream out;
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicReference<LatencyHistogram> intervalLatencies = new AtomicReference<>(new LatencyHistogram());
+    private final LongAdder successes = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    private LoadGenerator(Builder builder) {
+        this.client = builder.client;
+        this.orderIds = builder.orderIds;
+        this.workers = builder.workers;
+        this.targetRate = builder.targetRate;
+        this.duration = builder.duration;
+        this.reportInterval = builder.reportInterval;
+        this.seed = builder.seed;
+        this.out = builder.out;
+    }
+
+    /**
+     * Returns a new Builder.
+     *
+     * @return a new LoadGenerator.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the load for the configured duration and waits for the workers to finish.
+     *
+     * @return the measured result
+     */
+    public LoadTestResult run() {
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        AtomicLong nextRequest = new AtomicLong();
+        SplittableRandom seedRandom = new SplittableRandom(seed);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            SplittableRandom random = seedRandom.split();
+            Runnable worker = targetRate > 0 ? () -> runOpenLoop(random, nextRequest, startNanos, endNanos)
+                : () -> runClosedLoop(random, endNanos);
+            Thread thread = new Thread(worker, "load-generator-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        threads.forEach(Thread::start);
+
+        long nextReportNanos = startNanos + reportInterval.toNanos();
+        for (Thread thread : threads) {
+            while (thread.isAlive()) {
+                joinUntil(thread, nextReportNanos);
+                if (System.nanoTime() >= nextReportNanos) {
+                    report(nextReportNanos - startNanos);
+                    nextReportNanos += reportInterval.toNanos();
+                }
+            }
+        }
+
+        Map<String, Long> failureCounts = new HashMap<>();
+        failures.forEach((type, count) -> failureCounts.put(type, count.sum()));
+        return new LoadTestResult(latencies, successes.sum(), failureCounts,
+                                  Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private void runClosedLoop(SplittableRandom random, long endNanos) {
+        while (System.nanoTime() < endNanos) {
+            long start = System.nanoTime();
+            sendRequest(random, start);
+        }
+    }
+
+    private void runOpenLoop(SplittableRandom random, AtomicLong nextRequest, long startNanos, long endNanos) {
+        double periodNanos = TimeUnit.SECONDS.toNanos(1) / targetRate;
+        while (true) {
+            long intendedStart = startNanos + (long) (nextRequest.getAndIncrement() * periodNanos);
+            // stop at the end of the run even if the client has fallen behind the schedule
+            if (intendedStart >= endNanos || System.nanoTime() >= endNanos) {
+                return;
+            }
+            long wait;
+            while ((wait = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            sendRequest(random, intendedStart);
+        }
+    }
+
+    private void sendRequest(SplittableRandom random, long measuredFromNanos) {
+        String orderId = orderIds.next(random);
+        try {
+            client.getPromiseHistoryByOrderId(orderId);
+            successes.increment();
+        } catch (RuntimeException e) {
+            failures.computeIfAbsent(e.getClass().getSimpleName(), type -> new LongAdder()).increment();
+        }
+        long latency = System.nanoTime() - measuredFromNanos;
+        latencies.record(latency);
+        intervalLatencies.get().record(latency);
+    }
+
+    private void report(long elapsedNanos) {
+        LatencyHistogram interval = intervalLatencies.getAndSet(new LatencyHistogram());
+        if (out == null) {
+            return;
+        }
+        double seconds = (double) reportInterval.toNanos() / TimeUnit.SECONDS.toNanos(1);
+        out.printf("[%6.1fs] %8.1f req/s  %s%n", (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1),
+                   interval.getCount() / seconds, interval.toLatencySummary());
+    }
+
+    private static void joinUntil(Thread thread, long deadlineNanos) {
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        try {
+            thread.join(Math.max(1L, waitMillis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for load generator workers", e);
+        }
+    }
+
+    /**
+     * Builder for LoadGenerators.
+     */
+    public static class Builder {
+        private PromiseHistoryClient client;
+        private OrderIdDistribution orderIds;
+        private int workers = 1;
+        private double targetRate;
+        private Duration duration = Duration.ofSeconds(10);
+        private Duration reportInterval = Duration.ofSeconds(1);
+        private long seed;
+        private PrintStream out;
+
+        //CHECKSTYLE:OFF:HiddenField
+        //CHECKSTYLE:OFF:JavadocMethod
+        public Builder withClient(PromiseHistoryClient client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder withOrderIds(OrderIdDistribution orderIds) {
+            this.orderIds = orderIds;
+            return this;
+        }
+
+        public Builder withWorkers(int workers) {
+            this.workers = workers;
+            return this;
+        }
+
+        public Builder withTargetRate(double requestsPerSecond) {
+            this.targetRate = requestsPerSecond;
+            return this;
+        }
+
+        public Builder withDuration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder withReportInterval(Duration reportInterval) {
+            this.reportInterval = reportInterval;
+            return this;
+        }
+
+        public Builder withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder withOutput(PrintStream out) {
+            this.out = out;
+            return this;
+        }
+        //CHECKSTYLE:ON:JavadocMethod
+        //CHECKSTYLE:ON:HiddenField
+
+        /**
+         * Builds the LoadGenerator. A target rate of zero (the default) selects closed-loop mode. Throws
+         * IllegalArgumentException if the settings are inconsistent.
+         *
+         * @return the new LoadGenerator
+         */
+        public LoadGenerator build() {
+            if (client == null || orderIds == null) {
+                throw new IllegalArgumentException("Load generator needs a client and an order ID distribution");
+            }
+            if (workers < 1 || targetRate < 0) {
+                throw new IllegalArgumentException("Load generator needs at least one worker and a rate >= 0");
+            }
+            if (duration == null || duration.isNegative() || reportInterval == null || reportInterval.isZero()
+                    || reportInterval.isNegative()) {
+                throw new IllegalArgumentException("Load generator needs a duration and a positive report interval");
+            }
+            return new LoadGenerator(this);
+        }
+    }
+}
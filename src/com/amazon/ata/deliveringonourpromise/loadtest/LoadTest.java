@@ -0,0 +1,105 @@
+package com.amazon.ata.deliveringonourpromise.loadtest;
+
+import com.amazon.ata.deliveringonourpromise.App;
+import com.amazon.ata.deliveringonourpromise.simulation.LatencyDistribution;
+import com.amazon.ata.deliveringonourpromise.simulation.OperationProfile;
+import com.amazon.ata.deliveringonourpromise.simulation.SimulatedServices;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line entry point for load testing the in-process PromiseHistoryClient. Options, all optional:
+ *
+ * <pre>
+ *   --mode=closed|open          closed: workers send back to back; open: send at --rate   (default closed)
+ *   --workers=N                 worker threads, i.e. the most requests in flight            (default 8)
+ *   --rate=R                    open-loop target requests per second                         (default 1000)
+ *   --duration=S                seconds to run                                               (default 30)
+ *   --distribution=uniform|zipf|fixtures   how order IDs are chosen                         (default zipf)
+ *   --orders=N                  distinct generated order IDs for uniform and zipf            (default 1000)
+ *   --zipf-exponent=X           Zipf skew                                                    (default 1.0)
+ *   --service-latency-ms=M      median lognormal latency added to every OMA/DPS/OFS call     (default 0)
+ *   --service-error-rate=X      fraction of OMA/DPS/OFS calls that fail                      (default 0)
+ *   --seed=N                    seed for order IDs and simulated services                    (default 1)
+ *   --trace-sample-rate=X       fraction of requests traced, overriding -Dtracing.sampleRate (default 0.001)
+ * </pre>
+ *
+ * For example: {@code ./gradlew loadTest -PloadTestArgs="--mode=open --rate=2000 --service-latency-ms=2"}
+ */
+public class LoadTest {
+    private static final double SERVICE_LATENCY_SIGMA = 0.5;
+
+    /* don't instantiate me */
+    private LoadTest() {}
+
+    /**
+     * Runs one load test and prints interval and summary results to standard out.
+     *
+     * @param args options as described in the class documentation
+     */
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        boolean openLoop = "open".equals(options.getOrDefault("mode", "closed"));
+        if (options.containsKey("trace-sample-rate")) {
+            App.getTracer().setSampleRate(Double.parseDouble(options.get("trace-sample-rate")));
+        }
+
+        LoadGenerator generator = LoadGenerator.builder()
+            .withClient(App.getPromiseHistoryClient(simulatedServices(options, seed)))
+            .withOrderIds(orderIdDistribution(options))
+            .withWorkers(Integer.parseInt(options.getOrDefault("workers", "8")))
+            .withTargetRate(openLoop ? Double.parseDouble(options.getOrDefault("rate", "1000")) : 0)
+            .withDuration(Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))))
+            .withSeed(seed)
+            .withOutput(System.out)
+            .build();
+
+        System.out.println("Running load test with " + options);
+        LoadTestResult result = generator.run();
+        System.out.println(result);
+        App.getMetricsRegistry().dump(System.out);
+    }
+
+    private static OrderIdDistribution orderIdDistribution(Map<String, String> options) {
+        String distribution = options.getOrDefault("distribution", "zipf");
+        int orders = Integer.parseInt(options.getOrDefault("orders", "1000"));
+        switch (distribution) {
+            case "uniform":
+                return OrderIdDistribution.uniform(OrderIdDistribution.generatedOrderIds(orders));
+            case "zipf":
+                return OrderIdDistribution.zipf(OrderIdDistribution.generatedOrderIds(orders),
+                                                Double.parseDouble(options.getOrDefault("zipf-exponent", "1.0")));
+            case "fixtures":
+                return OrderIdDistribution.fixturesOnly(App.getOrderDatastore());
+            default:
+                throw new IllegalArgumentException("Unknown order ID distribution: " + distribution);
+        }
+    }
+
+    private static SimulatedServices simulatedServices(Map<String, String> options, long seed) {
+        long latencyMillis = Long.parseLong(options.getOrDefault("service-latency-ms", "0"));
+        double errorRate = Double.parseDouble(options.getOrDefault("service-error-rate", "0"));
+        if (latencyMillis == 0 && errorRate == 0) {
+            return SimulatedServices.none();
+        }
+        LatencyDistribution latency = latencyMillis == 0 ? LatencyDistribution.none()
+            : LatencyDistribution.lognormal(Duration.ofMillis(latencyMillis), SERVICE_LATENCY_SIGMA);
+        return SimulatedServices.uniform(
+            OperationProfile.builder().withLatency(latency).withErrorRate(errorRate).build(), seed);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --option=value but got: " + arg);
+            }
+            int equals = arg.indexOf('=');
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        return options;
+    }
+}
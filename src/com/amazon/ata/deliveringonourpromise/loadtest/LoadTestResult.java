@@ -0,0 +1,81 @@
+package com.amazon.ata.deliveringonourpromise.loadtest;
+
+import com.amazon.ata.deliveringonourpromise.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The outcome of a {@link LoadGenerator} run.
+ */
+public final class LoadTestResult {
+    private final LatencyHistogram latencies;
+    private final long successCount;
+    private final Map<String, Long> failureCounts;
+    private final Duration elapsed;
+
+    /**
+     * Constructs the result.
+     *
+     * @param latencies latency of every request, successful or not, in nanoseconds
+     * @param successCount number of requests that returned a promise history
+     * @param failureCounts number of failed requests by exception type
+     * @param elapsed how long the run took
+     */
+    public LoadTestResult(LatencyHistogram latencies, long successCount, Map<String, Long> failureCounts,
+                          Duration elapsed) {
+        this.latencies = latencies;
+        this.successCount = successCount;
+        this.failureCounts = Collections.unmodifiableMap(new TreeMap<>(failureCounts));
+        this.elapsed = elapsed;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public Map<String, Long> getFailureCounts() {
+        return failureCounts;
+    }
+
+    /**
+     * Returns the total number of failed requests.
+     *
+     * @return failed request count
+     */
+    public long getFailureCount() {
+        long failures = 0;
+        for (long count : failureCounts.values()) {
+            failures += count;
+        }
+        return failures;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the achieved throughput over the whole run.
+     *
+     * @return completed requests per second
+     */
+    public double getThroughput() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0.0 : (successCount + getFailureCount()) * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests in %.1fs (%.1f req/s), %d failed %s%n  latency: %s",
+            successCount + getFailureCount(), elapsed.toMillis() / 1000.0, getThroughput(), getFailureCount(),
+            failureCounts, latencies.toLatencySummary());
+    }
+}
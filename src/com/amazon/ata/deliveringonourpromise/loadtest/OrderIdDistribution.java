@@ -0,0 +1,92 @@
+package com.amazon.ata.deliveringonourpromise.loadtest;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.data.OrderFixture;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Chooses which order ID each load-test request asks for.
+ */
+@FunctionalInterface
+public interface OrderIdDistribution {
+
+    /**
+     * Draws the next order ID.
+     *
+     * @param random the requesting worker's source of randomness
+     * @return an order ID
+     */
+    String next(SplittableRandom random);
+
+    /**
+     * Returns a distribution that picks each of the given order IDs equally often.
+     *
+     * @param orderIds the order IDs to pick from
+     * @return the uniform distribution
+     */
+    static OrderIdDistribution uniform(List<String> orderIds) {
+        String[] ids = orderIds.toArray(new String[0]);
+        return random -> ids[random.nextInt(ids.length)];
+    }
+
+    /**
+     * Returns a Zipf distribution over the given order IDs: the k-th ID is picked with probability proportional to
+     * 1/k^exponent, so a few hot orders get most of the traffic, as in real lookups.
+     *
+     * @param orderIds the order IDs, most popular first
+     * @param exponent the skew; 0 is uniform, around 1 is typical
+     * @return the Zipf distribution
+     */
+    static OrderIdDistribution zipf(List<String> orderIds, double exponent) {
+        String[] ids = orderIds.toArray(new String[0]);
+        double[] cumulative = new double[ids.length];
+        double total = 0;
+        for (int k = 0; k < ids.length; k++) {
+            total += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        double sum = total;
+        return random -> {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            return ids[Math.min(ids.length - 1, index >= 0 ? index : -index - 1)];
+        };
+    }
+
+    /**
+     * Returns a distribution that picks uniformly among the datastore's fixture orders that have order data.
+     *
+     * @param datastore the datastore holding the fixtures
+     * @return the fixture-only distribution
+     */
+    static OrderIdDistribution fixturesOnly(OrderDatastore datastore) {
+        List<String> ids = new ArrayList<>();
+        for (Map.Entry<String, OrderFixture> fixture : datastore.getOrderFixtures().entrySet()) {
+            if (fixture.getValue().getOrderData() != null) {
+                ids.add(fixture.getKey());
+            }
+        }
+        Collections.sort(ids);
+        return uniform(ids);
+    }
+
+    /**
+     * Returns {@code count} distinct, well-formed order IDs that resolve to OrderDatastore's generated samples.
+     *
+     * @param count how many order IDs to generate
+     * @return the order IDs
+     */
+    static List<String> generatedOrderIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            // OrderDatastore maps each ID to a generated sample by its numeric suffix
+            ids.add(String.format("111-7497760-%07d", i));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,120 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Call count, error count, latency and result size for one layer or downstream operation.
+ *
+ * Callers time their own calls, so that recording allocates nothing:
+ *
+ * <pre>{@code
+ *   long start = System.nanoTime();
+ *   try {
+ *       List<Promise> promises = ...;
+ *       metrics.recordSuccess(start, promises.size());
+ *       return promises;
+ *   } catch (RuntimeException e) {
+ *       metrics.recordFailure(start);
+ *       throw e;
+ *   }
+ * }</pre>
+ */
+public final class CallMetrics implements CallMetricsMBean {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String name;
+    private final Counter calls = new Counter();
+    private final Counter errors = new Counter();
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LatencyHistogram resultSizes = new LatencyHistogram();
+
+    /**
+     * Constructs empty metrics. Use {@link MetricsRegistry#getCallMetrics(String)} to get registered metrics.
+     *
+     * @param name the layer or operation measured, e.g. "PromiseDao.get"
+     */
+    public CallMetrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records a call that returned normally.
+     *
+     * @param startNanos {@link System#nanoTime()} when the call started
+     * @param resultSize size of the result, e.g. the number of promises returned
+     */
+    public void recordSuccess(long startNanos, int resultSize) {
+        latencies.recordSince(startNanos);
+        calls.increment();
+        resultSizes.record(resultSize);
+    }
+
+    /**
+     * Records a call that threw.
+     *
+     * @param startNanos {@link System#nanoTime()} when the call started
+     */
+    public void recordFailure(long startNanos) {
+        latencies.recordSince(startNanos);
+        calls.increment();
+        errors.increment();
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public LatencyHistogram getResultSizes() {
+        return resultSizes;
+    }
+
+    @Override
+    public long getCalls() {
+        return calls.getCount();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.getCount();
+    }
+
+    @Override
+    public double getMeanLatencyMillis() {
+        return latencies.getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50LatencyMillis() {
+        return latencies.getValueAtPercentile(50.0) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP99LatencyMillis() {
+        return latencies.getValueAtPercentile(99.0) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP999LatencyMillis() {
+        return latencies.getValueAtPercentile(99.9) / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMaxLatencyMillis() {
+        return latencies.getMax() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getMeanResultSize() {
+        return resultSizes.getMean();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s calls=%d errors=%d meanResultSize=%.1f %s", name, getCalls(), getErrors(),
+                             getMeanResultSize(), latencies.toLatencySummary());
+    }
+}
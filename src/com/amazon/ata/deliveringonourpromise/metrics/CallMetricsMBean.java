@@ -0,0 +1,63 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+/**
+ * JMX view of a {@link CallMetrics}.
+ */
+public interface CallMetricsMBean {
+
+    /**
+     * Returns the number of calls made, successful or not.
+     *
+     * @return call count
+     */
+    long getCalls();
+
+    /**
+     * Returns the number of calls that threw.
+     *
+     * @return error count
+     */
+    long getErrors();
+
+    /**
+     * Returns the mean call latency.
+     *
+     * @return mean latency in milliseconds
+     */
+    double getMeanLatencyMillis();
+
+    /**
+     * Returns the median call latency.
+     *
+     * @return p50 latency in milliseconds
+     */
+    double getP50LatencyMillis();
+
+    /**
+     * Returns the 99th percentile call latency.
+     *
+     * @return p99 latency in milliseconds
+     */
+    double getP99LatencyMillis();
+
+    /**
+     * Returns the 99.9th percentile call latency.
+     *
+     * @return p999 latency in milliseconds
+     */
+    double getP999LatencyMillis();
+
+    /**
+     * Returns the slowest call's latency.
+     *
+     * @return max latency in milliseconds
+     */
+    double getMaxLatencyMillis();
+
+    /**
+     * Returns the mean size of successful calls' results (e.g. number of promises returned).
+     *
+     * @return mean result size
+     */
+    double getMeanResultSize();
+}
@@ -0,0 +1,39 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+
+import java.util.function.Supplier;
+
+/**
+ * Records the call count, errors and latency of every downstream call in the registry, under the call's
+ * operation name. The result size recorded is 1 for a non-null result and 0 for null (not found).
+ *
+ * Apply it outermost, so that the latency includes retries and waiting for a concurrency limiter.
+ */
+public final class CallMetricsPolicy implements ServiceCallPolicy {
+    private final MetricsRegistry registry;
+
+    /**
+     * Constructs a policy recording into the given registry.
+     *
+     * @param registry where to record
+     */
+    public CallMetricsPolicy(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> call) {
+        CallMetrics metrics = registry.getCallMetrics(operation);
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            metrics.recordFailure(start);
+            throw e;
+        }
+        metrics.recordSuccess(start, result == null ? 0 : 1);
+        return result;
+    }
+}
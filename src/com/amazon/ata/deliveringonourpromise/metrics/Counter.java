@@ -0,0 +1,35 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count. Backed by a striped LongAdder, so concurrent increments don't contend.
+ */
+public final class Counter {
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Adds one to the count.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds to the count.
+     *
+     * @param amount how much to add; must not be negative
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(getCount());
+    }
+}
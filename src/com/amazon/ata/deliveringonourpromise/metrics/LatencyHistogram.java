@@ -0,0 +1,164 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of non-negative values (usually latencies in nanoseconds), in the style of HdrHistogram.
+ *
+ * Values below 128 are counted exactly. Larger values fall into log-linear buckets: each power of two is split into
+ * 64 equal sub-buckets, so any recorded value is reported to within about 1.6%. All buckets are allocated up front
+ * and {@link #record(long)} only increments atomic counters. It never locks or allocates, so it is safe to call
+ * from many threads on the hot path.
+ *
+ * Percentiles are computed from a snapshot of the counters, so they are approximate while recording is in progress.
+ */
+public final class LatencyHistogram {
+    // values below 2^SUB_BUCKET_BITS get one bucket each
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int EXACT_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKETS_PER_POWER = EXACT_BUCKETS / 2;
+    private static final int MAX_SHIFT = Long.SIZE - SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = EXACT_BUCKETS + MAX_SHIFT * SUB_BUCKETS_PER_POWER;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalValue = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+
+    /**
+     * Records one value. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long v = Math.max(0L, value);
+        counts.incrementAndGet(bucketIndex(v));
+        totalCount.incrementAndGet();
+        totalValue.addAndGet(v);
+        long max = maxValue.get();
+        while (v > max && !maxValue.compareAndSet(max, v)) {
+            max = maxValue.get();
+        }
+    }
+
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading.
+     *
+     * @param startNanos the nanoTime at which the timed operation started
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0.0 : (double) totalValue.get() / count;
+    }
+
+    /**
+     * Returns the value at the given percentile, i.e. the smallest bucket value that at least {@code percentile}
+     * percent of recorded values are less than or equal to.
+     *
+     * @param percentile the percentile, in [0, 100]
+     * @return the highest value equivalent to the bucket holding that percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(Math.min(100.0, percentile) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears every count. Values recorded concurrently with a reset may or may not survive it.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        totalCount.set(0L);
+        totalValue.set(0L);
+        maxValue.set(0L);
+    }
+
+    /**
+     * Adds every value recorded in another histogram to this one.
+     *
+     * @param other the histogram to add
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long c = other.counts.get(i);
+            if (c != 0) {
+                counts.addAndGet(i, c);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalValue.addAndGet(other.totalValue.get());
+        long otherMax = other.maxValue.get();
+        maxValue.accumulateAndGet(otherMax, Math::max);
+    }
+
+    /**
+     * Summarizes the histogram as nanosecond latencies in milliseconds, e.g.
+     * {@code count=1000 mean=1.204ms p50=1.102ms p99=4.915ms p999=9.830ms max=12.001ms}.
+     *
+     * @return a one-line summary
+     */
+    public String toLatencySummary() {
+        return String.format("count=%d mean=%s p50=%s p99=%s p999=%s max=%s",
+            getCount(), millis((long) getMean()), millis(getValueAtPercentile(50.0)),
+            millis(getValueAtPercentile(99.0)), millis(getValueAtPercentile(99.9)), millis(getMax()));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3fms", (double) nanos / TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    static int bucketIndex(long value) {
+        if (value < EXACT_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS_PER_POWER;
+        return EXACT_BUCKETS + (shift - 1) * SUB_BUCKETS_PER_POWER + subBucket;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < EXACT_BUCKETS) {
+            return index;
+        }
+        int shift = (index - EXACT_BUCKETS) / SUB_BUCKETS_PER_POWER + 1;
+        long subBucket = (index - EXACT_BUCKETS) % SUB_BUCKETS_PER_POWER + SUB_BUCKETS_PER_POWER;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,140 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Holds the app's named metrics: {@link CallMetrics} per layer or downstream operation, and plain
+ * {@link Counter}s for events such as circuit breaker transitions.
+ *
+ * Metrics are created on first use and live as long as the registry. Callers on the hot path should look up their
+ * metrics once and keep them; a lookup never allocates once the metric exists, though.
+ *
+ * If constructed with a JMX domain, each CallMetrics is also registered as an MBean named
+ * {@code <domain>:type=CallMetrics,name="<name>"}. The registry can print all its metrics as text, either on
+ * demand with {@link #dump(PrintStream)} or periodically with {@link #startPeriodicDump(Duration, PrintStream)}.
+ */
+public final class MetricsRegistry {
+    private static final Logger LOGGER = Logger.getLogger(MetricsRegistry.class.getName());
+
+    private final String jmxDomain;
+    private final ConcurrentMap<String, CallMetrics> callMetrics = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a registry that does not register MBeans.
+     */
+    public MetricsRegistry() {
+        this(null);
+    }
+
+    /**
+     * Constructs a registry that registers its CallMetrics with the platform MBean server.
+     *
+     * @param jmxDomain the MBean domain, e.g. "com.amazon.ata.deliveringonourpromise"; null to skip JMX
+     */
+    public MetricsRegistry(String jmxDomain) {
+        this.jmxDomain = jmxDomain;
+    }
+
+    /**
+     * Returns the CallMetrics with the given name, creating (and registering) it on first use.
+     *
+     * @param name the layer or operation measured
+     * @return the metrics
+     */
+    public CallMetrics getCallMetrics(String name) {
+        CallMetrics metrics = callMetrics.get(name);
+        if (metrics != null) {
+            return metrics;
+        }
+        return callMetrics.computeIfAbsent(name, this::newCallMetrics);
+    }
+
+    /**
+     * Returns the Counter with the given name, creating it on first use.
+     *
+     * @param name what is counted
+     * @return the counter
+     */
+    public Counter getCounter(String name) {
+        Counter counter = counters.get(name);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Prints every metric, one per line, sorted by name.
+     *
+     * @param out where to print
+     */
+    public void dump(PrintStream out) {
+        StringBuilder text = new StringBuilder();
+        text.append("--- metrics at ").append(Instant.now()).append(" ---").append(System.lineSeparator());
+        for (CallMetrics metrics : callMetrics.values()) {
+            text.append(metrics).append(System.lineSeparator());
+        }
+        for (Map.Entry<String, Counter> counter : new ConcurrentSkipListMap<>(counters).entrySet()) {
+            text.append(counter.getKey()).append(" count=").append(counter.getValue())
+                .append(System.lineSeparator());
+        }
+        out.print(text);
+    }
+
+    /**
+     * Starts printing every metric at a fixed interval, from a daemon thread.
+     *
+     * @param interval time between dumps
+     * @param out where to print
+     * @return handle for cancelling the periodic dump
+     */
+    public ScheduledFuture<?> startPeriodicDump(Duration interval, PrintStream out) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        return executor.scheduleAtFixedRate(() -> dump(out), millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    private CallMetrics newCallMetrics(String name) {
+        CallMetrics metrics = new CallMetrics(name);
+        if (jmxDomain != null) {
+            registerMBean(metrics);
+        }
+        return metrics;
+    }
+
+    private void registerMBean(CallMetrics metrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName objectName = new ObjectName(String.format("%s:type=CallMetrics,name=%s", jmxDomain,
+                                                                 ObjectName.quote(metrics.getName())));
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(metrics, objectName);
+        } catch (JMException e) {
+            // metrics still work without JMX; don't fail the call being measured
+            LOGGER.log(Level.WARNING, "Unable to register MBean for metrics " + metrics.getName(), e);
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package com.amazon.ata.deliveringonourpromise.orderfulfillmentservice;
 
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
 import com.amazon.ata.deliveringonourpromise.interfaces.GetPromiseService;
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+import com.amazon.ata.deliveringonourpromise.tracing.Span;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
 import com.amazon.ata.orderfulfillmentservice.OrderFulfillmentService;
 import com.amazon.ata.orderfulfillmentservice.OrderPromise;
 
 public class OrderFulfillmentServiceClient implements GetPromiseService {
+    // downstream operation names, as seen by deadline checks and call policies
+    public static final String GET_ORDER_PROMISE_OPERATION = "OFS getOrderPromise";
+
     private OrderFulfillmentService ofService;
+    private ServiceCallPolicy callPolicy;
 
     /**
      * Create new client that calls DPS with the given service object.
@@ -14,7 +21,18 @@ public class OrderFulfillmentServiceClient implements GetPromiseService {
      * @param ofService The OrderFulfillmentService that this client will call.
      */
     public OrderFulfillmentServiceClient(OrderFulfillmentService ofService) {
+        this(ofService, ServiceCallPolicy.direct());
+    }
+
+    /**
+     * Create new client that calls OFS with the given service object, routing each call through the given policy.
+     *
+     * @param ofService The OrderFulfillmentService that this client will call.
+     * @param callPolicy The policy (circuit breaker, concurrency limiter, ...) guarding calls to OFS.
+     */
+    public OrderFulfillmentServiceClient(OrderFulfillmentService ofService, ServiceCallPolicy callPolicy) {
         this.ofService = ofService;
+        this.callPolicy = callPolicy;
     }
 
     /**
@@ -22,10 +40,21 @@ public class OrderFulfillmentServiceClient implements GetPromiseService {
      *
      * @param customerOrderItemId String representing the order item ID to fetch the order for.
      * @return the Promise for the given order item ID.
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
      */
     @Override
     public Promise getPromiseByOrderItemId(String customerOrderItemId) {
-        OrderPromise orderPromise = ofService.getOrderPromise(customerOrderItemId);
+        OrderPromise orderPromise;
+        try (Span span = Span.current().startChild(GET_ORDER_PROMISE_OPERATION)) {
+            span.setAttribute("itemId", customerOrderItemId);
+            Deadline.current().checkRemaining(GET_ORDER_PROMISE_OPERATION);
+            orderPromise = callPolicy.execute(GET_ORDER_PROMISE_OPERATION,
+                () -> ofService.getOrderPromise(customerOrderItemId));
+            span.setAttribute("found", orderPromise != null ? 1 : 0);
+        }
 
         if (orderPromise == null) {
             return null;
@@ -35,9 +64,10 @@ public class OrderFulfillmentServiceClient implements GetPromiseService {
                 .withCustomerOrderItemId(orderPromise.getCustomerOrderItemId())
                 .withAsin(orderPromise.getAsin())
                 .withIsActive(orderPromise.isActive())
-                .withPromiseEffectiveDate(orderPromise.getPromiseEffectiveDate())
-                .withPromiseLatestArrivalDate(orderPromise.getPromiseLatestArrivalDate())
-                .withPromiseLatestShipDate(orderPromise.getPromiseLatestShipDate())
+                .withPromiseEffectiveEpochSecond(orderPromise.getPromiseEffectiveEpochSecond())
+                .withPromiseLatestArrivalEpochSecond(orderPromise.getPromiseLatestArrivalEpochSecond())
+                .withPromiseLatestShipEpochSecond(orderPromise.getPromiseLatestShipEpochSecond())
+                .withZone(orderPromise.getZone())
                 .withDeliveryDate(null)
                 .withPromiseProvidedBy(orderPromise.getPromiseProvidedBy())
                 .build();
@@ -1,38 +1,204 @@
 package com.amazon.ata.deliveringonourpromise.ordermanipulationauthority;
 
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+import com.amazon.ata.deliveringonourpromise.tracing.Span;
+import com.amazon.ata.ordermanipulationauthority.CustomerOrder;
+import com.amazon.ata.ordermanipulationauthority.CustomerOrderItem;
+import com.amazon.ata.ordermanipulationauthority.CustomerOrderPage;
 import com.amazon.ata.ordermanipulationauthority.OrderManipulationAuthority;
 import com.amazon.ata.ordermanipulationauthority.OrderResult;
 import com.amazon.ata.ordermanipulationauthority.OrderResultItem;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Client for accessing the OrderManipulationAuthority service.
  */
 public class OrderManipulationAuthorityClient {
+    // downstream operation names, as seen by deadline checks and call policies
+    public static final String GET_ORDER_OPERATION = "OMA getCustomerOrderByOrderId";
+    public static final String GET_ORDER_ITEM_OPERATION = "OMA getCustomerOrderItemByOrderItemId";
+    public static final String GET_DELIVERY_DATES_BY_ORDER_OPERATION = "OMA getDeliveryDatesByOrderId";
+    public static final String GET_DELIVERY_DATES_BY_ITEMS_OPERATION = "OMA getDeliveryDatesByOrderItemIds";
+    public static final String GET_ORDERS_BY_ORDER_DATE_OPERATION = "OMA getCustomerOrderViewsByOrderDate";
+    public static final String GET_ORDERS_BY_CUSTOMER_OPERATION = "OMA getCustomerOrderViewsByCustomerId";
+
     private OrderManipulationAuthority omaService;
+    private ServiceCallPolicy callPolicy;
 
     /**
      * Create new client that calls OMA with the given service object.
      * @param service The OrderManipulationAuthority that this client will call
      */
     public OrderManipulationAuthorityClient(OrderManipulationAuthority service) {
+        this(service, ServiceCallPolicy.direct());
+    }
+
+    /**
+     * Create new client that calls OMA with the given service object, routing each call through the given policy.
+     * @param service The OrderManipulationAuthority that this client will call
+     * @param callPolicy The policy (circuit breaker, concurrency limiter, ...) guarding calls to OMA
+     */
+    public OrderManipulationAuthorityClient(OrderManipulationAuthority service, ServiceCallPolicy callPolicy) {
         this.omaService = service;
+        this.callPolicy = callPolicy;
     }
 
     /**
      * Fetches the Order for the given order ID.
      * @param orderId String representing the order ID to fetch the order for.
      * @return the Order for the given order ID if found; or null, otherwise
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
      */
     public OrderResult getCustomerOrderByOrderId(String orderId) {
-        return omaService.getCustomerOrderByOrderId(orderId);
+        try (Span span = Span.current().startChild(GET_ORDER_OPERATION)) {
+            span.setAttribute("orderId", orderId);
+            Deadline.current().checkRemaining(GET_ORDER_OPERATION);
+            return callPolicy.execute(GET_ORDER_OPERATION, () -> omaService.getCustomerOrderByOrderId(orderId));
+        }
     }
 
     /**
      * Fetches the OrderItem for the given order item ID, if it exists.
      * @param orderItemId the order item ID to fetch the order item ID for
      * @return the OrderItem for the given order Item ID if found; or null, otherwise
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
      */
     public OrderResultItem getCustomerOrderItemByOrderItemId(String orderItemId) {
-        return omaService.getCustomerOrderItemByOrderItemId(orderItemId);
+        try (Span span = Span.current().startChild(GET_ORDER_ITEM_OPERATION)) {
+            span.setAttribute("itemId", orderItemId);
+            Deadline.current().checkRemaining(GET_ORDER_ITEM_OPERATION);
+            return callPolicy.execute(GET_ORDER_ITEM_OPERATION,
+                () -> omaService.getCustomerOrderItemByOrderItemId(orderItemId));
+        }
+    }
+
+    /**
+     * Fetches a read-through view of the order for the given order ID, without OMA copying it into an OrderResult.
+     * @param orderId String representing the order ID to fetch the order for.
+     * @return a view of the order for the given order ID if found; or null, otherwise
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
+     */
+    public CustomerOrder getCustomerOrderViewByOrderId(String orderId) {
+        try (Span span = Span.current().startChild(GET_ORDER_OPERATION)) {
+            span.setAttribute("orderId", orderId);
+            Deadline.current().checkRemaining(GET_ORDER_OPERATION);
+            return callPolicy.execute(GET_ORDER_OPERATION, () -> omaService.getCustomerOrderViewByOrderId(orderId));
+        }
+    }
+
+    /**
+     * Fetches a read-through view of the order item for the given order item ID, without OMA copying it into an
+     * OrderResultItem.
+     * @param orderItemId the order item ID to fetch the order item for
+     * @return a view of the order item for the given order item ID if found; or null, otherwise
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
+     */
+    public CustomerOrderItem getCustomerOrderItemViewByOrderItemId(String orderItemId) {
+        try (Span span = Span.current().startChild(GET_ORDER_ITEM_OPERATION)) {
+            span.setAttribute("itemId", orderItemId);
+            Deadline.current().checkRemaining(GET_ORDER_ITEM_OPERATION);
+            return callPolicy.execute(GET_ORDER_ITEM_OPERATION,
+                () -> omaService.getCustomerOrderItemViewByOrderItemId(orderItemId));
+        }
+    }
+
+    /**
+     * Fetches the delivery date of each delivered item in the given order, in a single call.
+     * @param orderId String representing the order ID to fetch delivery dates for.
+     * @return Map from order item ID : delivery date, holding only delivered items; or null if the order isn't found
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
+     */
+    public Map<String, ZonedDateTime> getDeliveryDatesByOrderId(String orderId) {
+        try (Span span = Span.current().startChild(GET_DELIVERY_DATES_BY_ORDER_OPERATION)) {
+            span.setAttribute("orderId", orderId);
+            Deadline.current().checkRemaining(GET_DELIVERY_DATES_BY_ORDER_OPERATION);
+            return callPolicy.execute(GET_DELIVERY_DATES_BY_ORDER_OPERATION,
+                () -> omaService.getDeliveryDatesByOrderId(orderId));
+        }
+    }
+
+    /**
+     * Fetches the delivery date of each of the given order items that has been delivered, in a single call.
+     * @param orderItemIds the order item IDs to fetch delivery dates for
+     * @return Map from order item ID : delivery date, holding only delivered items
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
+     */
+    public Map<String, ZonedDateTime> getDeliveryDatesByOrderItemIds(Collection<String> orderItemIds) {
+        try (Span span = Span.current().startChild(GET_DELIVERY_DATES_BY_ITEMS_OPERATION)) {
+            span.setAttribute("items", orderItemIds.size());
+            Deadline.current().checkRemaining(GET_DELIVERY_DATES_BY_ITEMS_OPERATION);
+            return callPolicy.execute(GET_DELIVERY_DATES_BY_ITEMS_OPERATION,
+                () -> omaService.getDeliveryDatesByOrderItemIds(orderItemIds));
+        }
+    }
+
+    /**
+     * Fetches one page of read-through views of the orders placed in [from, to), earliest order date first.
+     * @param from the earliest order date to include
+     * @param to the order date to stop before
+     * @param pageToken the previous page's next page token; null for the first page
+     * @param pageSize the most orders to return on the page
+     * @return the page of orders, with the token for the next page if there are more orders in the range
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
+     */
+    public CustomerOrderPage getCustomerOrderViewsByOrderDate(ZonedDateTime from, ZonedDateTime to,
+                                                              String pageToken, int pageSize) {
+        try (Span span = Span.current().startChild(GET_ORDERS_BY_ORDER_DATE_OPERATION)) {
+            if (!span.isNoop()) {
+                // formatting the dates allocates, so only do it for traced requests
+                span.setAttribute("from", String.valueOf(from));
+                span.setAttribute("to", String.valueOf(to));
+            }
+            span.setAttribute("pageSize", pageSize);
+            Deadline.current().checkRemaining(GET_ORDERS_BY_ORDER_DATE_OPERATION);
+            return callPolicy.execute(GET_ORDERS_BY_ORDER_DATE_OPERATION,
+                () -> omaService.getCustomerOrderViewsByOrderDate(from, to, pageToken, pageSize));
+        }
+    }
+
+    /**
+     * Fetches one page of read-through views of the given customer's orders, newest order date first.
+     * @param customerId the customer to list the orders of
+     * @param pageToken the previous page's next page token; null for the first page
+     * @param pageSize the most orders to return on the page
+     * @return the page of orders, with the token for the next page if the customer has more orders
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the current request's
+     *         deadline has expired
+     * @throws com.amazon.ata.deliveringonourpromise.resilience.ServiceUnavailableException if the call policy
+     *         rejected the call
+     */
+    public CustomerOrderPage getCustomerOrderViewsByCustomerId(String customerId, String pageToken, int pageSize) {
+        try (Span span = Span.current().startChild(GET_ORDERS_BY_CUSTOMER_OPERATION)) {
+            span.setAttribute("customerId", customerId);
+            span.setAttribute("pageSize", pageSize);
+            Deadline.current().checkRemaining(GET_ORDERS_BY_CUSTOMER_OPERATION);
+            return callPolicy.execute(GET_ORDERS_BY_CUSTOMER_OPERATION,
+                () -> omaService.getCustomerOrderViewsByCustomerId(customerId, pageToken, pageSize));
+        }
     }
 }
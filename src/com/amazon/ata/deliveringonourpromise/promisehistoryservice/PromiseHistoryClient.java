@@ -1,25 +1,107 @@
 package com.amazon.ata.deliveringonourpromise.promisehistoryservice;
 
 import com.amazon.ata.deliveringonourpromise.activity.GetPromiseHistoryByOrderIdActivity;
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallBudget;
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.ordermanipulationauthority.OrderManipulationAuthorityClient;
+import com.amazon.ata.deliveringonourpromise.tracing.Span;
+import com.amazon.ata.deliveringonourpromise.tracing.Trace;
+import com.amazon.ata.deliveringonourpromise.tracing.Tracer;
+import com.amazon.ata.deliveringonourpromise.types.Order;
 import com.amazon.ata.deliveringonourpromise.types.PromiseHistory;
+import com.amazon.ata.deliveringonourpromise.types.PromiseHistoryPage;
+import com.amazon.ata.ordermanipulationauthority.CustomerOrder;
+import com.amazon.ata.ordermanipulationauthority.CustomerOrderPage;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Client class for accessing the Promise History APIs.
- * Currently supports the GetPromiseHistoryByOrderId API.
+ * Currently supports the GetPromiseHistoryByOrderId API, and paging through a customer's promise histories.
  */
 public class PromiseHistoryClient {
+    static final String GET_PROMISE_HISTORY_TRACE = "GetPromiseHistoryByOrderId";
+    static final String LIST_CUSTOMER_ORDERS_TRACE = "ListOrdersByCustomerId";
 
     private GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity;
+    private Duration requestTimeout;
+    private Tracer tracer;
+    private CallBudget callBudget;
+    private OrderManipulationAuthorityClient omaClient;
 
     /**
      * Constructs a PromiseHistoryClient that will provide access the activity/ies needed
-     * to access promise history data.
+     * to access promise history data. Requests made through this client have no deadline.
      *
      * @param getPromiseHistoryByOrderIdActivity the activity for
      *                                           handling GetPromiseHistoryByOrderId API
      */
     public PromiseHistoryClient(GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity) {
+        this(getPromiseHistoryByOrderIdActivity, null);
+    }
+
+    /**
+     * Constructs a PromiseHistoryClient whose requests are each given the provided time budget.
+     *
+     * @param getPromiseHistoryByOrderIdActivity the activity for
+     *                                           handling GetPromiseHistoryByOrderId API
+     * @param requestTimeout time budget for each request, or null for no deadline
+     */
+    public PromiseHistoryClient(GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity,
+                                Duration requestTimeout) {
+        this(getPromiseHistoryByOrderIdActivity, requestTimeout, Tracer.disabled());
+    }
+
+    /**
+     * Constructs a PromiseHistoryClient whose requests are each given the provided time budget, and traced
+     * when the given tracer samples them.
+     *
+     * @param getPromiseHistoryByOrderIdActivity the activity for
+     *                                           handling GetPromiseHistoryByOrderId API
+     * @param requestTimeout time budget for each request, or null for no deadline
+     * @param tracer decides which requests are traced, and keeps the recent traces
+     */
+    public PromiseHistoryClient(GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity,
+                                Duration requestTimeout, Tracer tracer) {
+        this(getPromiseHistoryByOrderIdActivity, requestTimeout, tracer, CallBudget.unlimited());
+    }
+
+    /**
+     * Constructs a PromiseHistoryClient whose requests are each given the provided time budget, traced when the
+     * given tracer samples them, and checked against the given downstream call budget once they complete.
+     *
+     * @param getPromiseHistoryByOrderIdActivity the activity for
+     *                                           handling GetPromiseHistoryByOrderId API
+     * @param requestTimeout time budget for each request, or null for no deadline
+     * @param tracer decides which requests are traced, and keeps the recent traces
+     * @param callBudget the most downstream calls each request may make, with one unit of fan-out per order item
+     */
+    public PromiseHistoryClient(GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity,
+                                Duration requestTimeout, Tracer tracer, CallBudget callBudget) {
+        this(getPromiseHistoryByOrderIdActivity, requestTimeout, tracer, callBudget, null);
+    }
+
+    /**
+     * Constructs a PromiseHistoryClient like the one above, which can also list a customer's orders through the
+     * given OMA client, to page through the customer's promise histories.
+     *
+     * @param getPromiseHistoryByOrderIdActivity the activity for
+     *                                           handling GetPromiseHistoryByOrderId API
+     * @param requestTimeout time budget for each request, or null for no deadline
+     * @param tracer decides which requests are traced, and keeps the recent traces
+     * @param callBudget the most downstream calls each request may make, with one unit of fan-out per order item
+     * @param omaClient the client to list customers' orders with, or null if this client can't list them
+     */
+    public PromiseHistoryClient(GetPromiseHistoryByOrderIdActivity getPromiseHistoryByOrderIdActivity,
+                                Duration requestTimeout, Tracer tracer, CallBudget callBudget,
+                                OrderManipulationAuthorityClient omaClient) {
         this.getPromiseHistoryByOrderIdActivity = getPromiseHistoryByOrderIdActivity;
+        this.requestTimeout = requestTimeout;
+        this.tracer = tracer;
+        this.callBudget = callBudget;
+        this.omaClient = omaClient;
     }
 
     /**
@@ -31,8 +113,81 @@ public class PromiseHistoryClient {
      * @param orderId The order ID to retrieve the history for.
      * @return PromiseHistory for the order; may be empty if order not found
      *         or if no history is found.
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the client's request
+     *         timeout expires before the order could be fetched
      */
     public PromiseHistory getPromiseHistoryByOrderId(String orderId) {
-        return getPromiseHistoryByOrderIdActivity.getPromiseHistoryByOrderId(orderId);
+        Deadline deadline = requestTimeout == null ? Deadline.none() : Deadline.after(requestTimeout);
+        return getPromiseHistoryByOrderId(orderId, deadline);
+    }
+
+    /**
+     * Fetches the promise history for the given order ID within the given deadline. The caller may
+     * {@link Deadline#cancel()} the deadline from another thread to abandon the remaining work. If the deadline
+     * expires part way through, the promises found so far are returned and the history is marked partial.
+     * Once the request completes, its downstream calls are checked against this client's call budget.
+     *
+     * @param orderId The order ID to retrieve the history for.
+     * @param deadline The time budget for this request.
+     * @return PromiseHistory for the order; may be empty if order not found
+     *         or if no history is found.
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the deadline expires
+     *         before the order could be fetched
+     */
+    public PromiseHistory getPromiseHistoryByOrderId(String orderId, Deadline deadline) {
+        try (RequestScope request = RequestScope.attach(deadline);
+             Span span = tracer.startTrace(GET_PROMISE_HISTORY_TRACE)) {
+            span.setAttribute("orderId", orderId);
+            PromiseHistory promiseHistory = getPromiseHistoryByOrderIdActivity.getPromiseHistoryByOrderId(orderId);
+            span.setAttribute("promises", promiseHistory.getPromises().size());
+            Order order = promiseHistory.getOrder();
+            callBudget.check(request.getCallCounts(), order == null ? 0 : order.getCustomerOrderItemCount());
+            return promiseHistory;
+        }
+    }
+
+    /**
+     * Fetches one page of the given customer's promise histories, one per order, newest order first. The page's
+     * orders are listed in a single call to OMA's per-customer order index, so a page costs the same however many
+     * orders the customer has. Each order's history is then fetched as its own GetPromiseHistoryByOrderId request,
+     * with its own deadline and call budget.
+     *
+     * @param customerId the customer to fetch promise histories for
+     * @param pageToken the previous page's next page token; null for the first page
+     * @param pageSize the most orders to fetch promise histories for; must be positive
+     * @return the page of promise histories, with the token for the next page if the customer has more orders
+     * @throws IllegalStateException if this client was constructed without an OMA client
+     * @throws com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException if the client's request
+     *         timeout expires before the customer's orders, or one of the orders, could be fetched
+     */
+    // the deadline scope is never read here; the OMA client finds the deadline through Deadline.current()
+    @SuppressWarnings("try")
+    public PromiseHistoryPage getPromiseHistoriesByCustomerId(String customerId, String pageToken, int pageSize) {
+        if (null == omaClient) {
+            throw new IllegalStateException("PromiseHistoryClient needs an OMA client to list a customer's orders");
+        }
+
+        Deadline deadline = requestTimeout == null ? Deadline.none() : Deadline.after(requestTimeout);
+        CustomerOrderPage orderPage;
+        try (Deadline.Scope scope = deadline.attach(); Span span = tracer.startTrace(LIST_CUSTOMER_ORDERS_TRACE)) {
+            span.setAttribute("customerId", customerId);
+            orderPage = omaClient.getCustomerOrderViewsByCustomerId(customerId, pageToken, pageSize);
+            span.setAttribute("orders", orderPage.getOrders().size());
+        }
+
+        List<PromiseHistory> promiseHistories = new ArrayList<>(orderPage.getOrders().size());
+        for (CustomerOrder order : orderPage.getOrders()) {
+            promiseHistories.add(getPromiseHistoryByOrderId(order.getOrderId()));
+        }
+        return new PromiseHistoryPage(promiseHistories, orderPage.getNextPageToken());
+    }
+
+    /**
+     * Returns the most recent traced requests made through this client's tracer, newest first.
+     *
+     * @return recent traces; empty if tracing is disabled
+     */
+    public List<Trace> getRecentTraces() {
+        return tracer.getRecentTraces();
     }
 }
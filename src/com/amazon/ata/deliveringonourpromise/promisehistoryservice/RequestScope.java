@@ -0,0 +1,58 @@
+package com.amazon.ata.deliveringonourpromise.promisehistoryservice;
+
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallCounts;
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.deliverypromiseservice.DeliveryPromiseMemo;
+
+/**
+ * Attaches everything one GetPromiseHistoryByOrderId request keeps on its thread, for as long as the request runs:
+ * its {@link Deadline}, the {@link CallCounts} of its downstream calls and its {@link DeliveryPromiseMemo}.
+ * Per-request state added later belongs here too, rather than in another scope on the client's try statement.
+ *
+ * <pre>{@code
+ *   try (RequestScope request = RequestScope.attach(deadline)) {
+ *       ...
+ *       callBudget.check(request.getCallCounts(), fanOut);
+ *   }
+ * }</pre>
+ *
+ * Closing the scope detaches them in reverse order, restoring whatever was attached before.
+ */
+final class RequestScope implements AutoCloseable {
+    private final CallCounts callCounts = new CallCounts();
+    private final Deadline.Scope deadlineScope;
+    private final CallCounts.Scope callCountsScope;
+    private final DeliveryPromiseMemo.Scope memoScope;
+
+    private RequestScope(Deadline deadline) {
+        deadlineScope = deadline.attach();
+        callCountsScope = callCounts.attach();
+        memoScope = new DeliveryPromiseMemo().attach();
+    }
+
+    /**
+     * Attaches a new request's state, with the given deadline, to the current thread.
+     *
+     * @param deadline the request's time budget
+     * @return the scope to close when the request is finished
+     */
+    static RequestScope attach(Deadline deadline) {
+        return new RequestScope(deadline);
+    }
+
+    /**
+     * Returns the downstream calls this request has made so far.
+     *
+     * @return the request's call counts
+     */
+    CallCounts getCallCounts() {
+        return callCounts;
+    }
+
+    @Override
+    public void close() {
+        memoScope.close();
+        callCountsScope.close();
+        deadlineScope.close();
+    }
+}
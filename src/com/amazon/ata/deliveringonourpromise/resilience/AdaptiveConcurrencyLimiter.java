@@ -0,0 +1,290 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Limits in-flight calls to a downstream service, with a limit that tunes itself to the service's capacity
+ * (additive increase, multiplicative decrease).
+ *
+ * Each completed call is a sample of the service's round-trip time. The limiter keeps a baseline RTT that
+ * follows the fastest samples and drifts up slowly. If a call fails, or its RTT exceeds
+ * {@code latencyTolerance} times the baseline, the service is treated as overloaded and the limit is multiplied
+ * by {@code backoffRatio}. Otherwise, if the limit was actually in use (at least half of it in flight), it grows
+ * by one. The limit always stays between {@code minLimit} and {@code maxLimit}.
+ *
+ * One overload episode only cuts the limit once: after a decrease, further slow or failed calls don't decrease it
+ * again until a baseline RTT has passed, nor if they were already in flight when it was cut. Otherwise a single
+ * latency spike hitting N concurrent calls would multiply the limit by {@code backoffRatio} N times.
+ *
+ * A caller that finds the limiter full waits up to {@code maxWait} (or less, if the request's {@link Deadline}
+ * has less time left) and is then rejected with {@link ConcurrencyLimitExceededException}. Calls rejected by an
+ * inner policy or abandoned at the deadline are not counted as samples; anything else a call throws, Errors
+ * included, counts as a failure and frees its slot.
+ *
+ * Construct an AdaptiveConcurrencyLimiter via {@code AdaptiveConcurrencyLimiter.builder()...build();}.
+ */
+public final class AdaptiveConcurrencyLimiter implements ServiceCallPolicy {
+    // how quickly the baseline RTT drifts up towards slower samples
+    private static final double BASELINE_DRIFT = 0.01;
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double latencyTolerance;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    // guarded by lock
+    private double limit;
+    private int inFlight;
+    private double baselineRttNanos = Double.NaN;
+    private boolean hasDecreased;
+    private long lastDecreaseNanos;
+
+    private AdaptiveConcurrencyLimiter(Builder builder) {
+        this.name = builder.name;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyTolerance = builder.latencyTolerance;
+        this.maxWaitNanos = builder.maxWait.toNanos();
+        this.nanoClock = builder.nanoClock;
+        this.limit = builder.initialLimit;
+    }
+
+    /**
+     * Returns a new Builder, populated with defaults suitable for an in-process service client.
+     *
+     * @return a new AdaptiveConcurrencyLimiter.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the current concurrency limit.
+     *
+     * @return number of calls currently allowed in flight
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of calls currently in flight.
+     *
+     * @return in-flight call count
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedCallCount() {
+        return rejectedCalls.sum();
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> call) {
+        int inFlightAtStart = acquire(operation);
+        long start = nanoClock.getAsLong();
+        T result;
+        try {
+            result = call.get();
+        } catch (ServiceUnavailableException | DeadlineExceededException e) {
+            release(inFlightAtStart, start, nanoClock.getAsLong(), Outcome.IGNORED);
+            throw e;
+        } catch (Throwable e) {
+            release(inFlightAtStart, start, nanoClock.getAsLong(), Outcome.FAILED);
+            throw e;
+        }
+        release(inFlightAtStart, start, nanoClock.getAsLong(), Outcome.SUCCEEDED);
+        return result;
+    }
+
+    private int acquire(String operation) {
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                long waitNanos = Math.min(maxWaitNanos, Deadline.current().remaining().toNanos());
+                while (inFlight >= (int) limit && waitNanos > 0) {
+                    waitNanos = slotFreed.awaitNanos(waitNanos);
+                }
+                if (inFlight >= (int) limit) {
+                    rejectedCalls.increment();
+                    throw new ConcurrencyLimitExceededException(String.format(
+                        "Concurrency limiter '%s' is at its limit of %d; rejected call to %s",
+                        name, (int) limit, operation));
+                }
+            }
+            return ++inFlight;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCalls.increment();
+            throw new ConcurrencyLimitExceededException(String.format(
+                "Interrupted waiting for concurrency limiter '%s'; rejected call to %s", name, operation));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(int inFlightAtStart, long startNanos, long endNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (outcome == Outcome.FAILED) {
+                decreaseLimit(startNanos, endNanos);
+            } else if (outcome == Outcome.SUCCEEDED) {
+                onSample(inFlightAtStart, startNanos, endNanos);
+            }
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSample(int inFlightAtStart, long startNanos, long endNanos) {
+        long rttNanos = endNanos - startNanos;
+        if (Double.isNaN(baselineRttNanos) || rttNanos < baselineRttNanos) {
+            baselineRttNanos = rttNanos;
+        } else {
+            baselineRttNanos += (rttNanos - baselineRttNanos) * BASELINE_DRIFT;
+        }
+
+        if (rttNanos > baselineRttNanos * latencyTolerance) {
+            decreaseLimit(startNanos, endNanos);
+        } else if (inFlightAtStart * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /*
+     * Cuts the limit for a slow or failed call, unless the limit was already cut for the same overload: less than
+     * a baseline RTT ago, or since this call started.
+     */
+    private void decreaseLimit(long startNanos, long endNanos) {
+        if (hasDecreased) {
+            double windowNanos = Double.isNaN(baselineRttNanos) ? 0 : baselineRttNanos;
+            if (startNanos - lastDecreaseNanos <= 0 || endNanos - lastDecreaseNanos < windowNanos) {
+                return;
+            }
+        }
+        limit = Math.max(minLimit, limit * backoffRatio);
+        hasDecreased = true;
+        lastDecreaseNanos = endNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyLimiter{name='" + name + "', limit=" + getLimit() + '}';
+    }
+
+    private enum Outcome {
+        SUCCEEDED, FAILED, IGNORED
+    }
+
+    /**
+     * Builder for AdaptiveConcurrencyLimiters. See AdaptiveConcurrencyLimiter documentation for the meaning of
+     * each setting.
+     */
+    public static class Builder {
+        private String name = "unnamed";
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private double latencyTolerance = 2.0;
+        private Duration maxWait = Duration.ZERO;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        //CHECKSTYLE:OFF:HiddenField
+        //CHECKSTYLE:OFF:JavadocMethod
+        public Builder withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder withInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder withMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder withMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        public Builder withBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        public Builder withLatencyTolerance(double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+            return this;
+        }
+
+        public Builder withMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        Builder withNanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+        //CHECKSTYLE:ON:JavadocMethod
+        //CHECKSTYLE:ON:HiddenField
+
+        /**
+         * Builds the AdaptiveConcurrencyLimiter. Throws IllegalArgumentException if the settings are inconsistent.
+         *
+         * @return the new AdaptiveConcurrencyLimiter
+         */
+        public AdaptiveConcurrencyLimiter build() {
+            if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException(
+                    "Concurrency limiter needs 1 <= minLimit <= initialLimit <= maxLimit");
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1 || latencyTolerance < 1) {
+                throw new IllegalArgumentException(
+                    "Concurrency limiter needs 0 < backoffRatio < 1 and latencyTolerance >= 1");
+            }
+            if (maxWait == null || maxWait.isNegative()) {
+                throw new IllegalArgumentException("Concurrency limiter needs a non-negative maxWait");
+            }
+            return new AdaptiveConcurrencyLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker for a single downstream service.
+ *
+ * While CLOSED, the outcome of the last {@code slidingWindowSize} calls is kept. Once at least
+ * {@code minimumNumberOfCalls} have been seen and the failure rate in the window reaches
+ * {@code failureRateThreshold} percent, the breaker OPENs and rejects calls with
+ * {@link CircuitBreakerOpenException}. After {@code openDuration} it goes HALF_OPEN and lets
+ * {@code permittedCallsInHalfOpen} probe calls through: if they all succeed it CLOSEs again, and if any fails it
+ * re-OPENs. Only calls let in during the current HALF_OPEN period count as probes; a call that started earlier
+ * (while CLOSED, or in a previous HALF_OPEN period) and finishes now is not counted either way.
+ *
+ * A call counts as failed if it throws anything, Errors included: a call that died with, say, a StackOverflowError
+ * has not shown the service to be healthy, and a half-open probe must give its permit back however it ends. Calls
+ * rejected by an inner policy ({@link ServiceUnavailableException}) or abandoned because the request's deadline
+ * expired ({@link DeadlineExceededException}) are not counted either way.
+ *
+ * State transitions are counted (see {@link #getTransitionCount(State)}) and reported to any registered
+ * {@link StateListener}.
+ *
+ * Construct a CircuitBreaker via {@code CircuitBreaker.builder()...build();}.
+ */
+public final class CircuitBreaker implements ServiceCallPolicy {
+    // permit for a call let in while CLOSED; half-open generations start at 1
+    private static final long NOT_A_PROBE = 0;
+
+    /**
+     * The states a circuit breaker moves through.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Notified when a circuit breaker changes state. Called while the breaker's lock is held, so
+     * implementations must be quick and must not call back into the breaker.
+     */
+    public interface StateListener {
+        /**
+         * Called on each state transition.
+         *
+         * @param breaker the breaker that changed state
+         * @param from the previous state
+         * @param to the new state
+         */
+        void onStateTransition(CircuitBreaker breaker, State from, State to);
+    }
+
+    private final String name;
+    private final int minimumNumberOfCalls;
+    private final float failureRateThreshold;
+    private final long openDurationNanos;
+    private final int permittedCallsInHalfOpen;
+    private final LongSupplier nanoClock;
+
+    private final Map<State, LongAdder> transitionCounts = new EnumMap<>(State.class);
+    private final List<StateListener> listeners = new CopyOnWriteArrayList<>();
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private final boolean[] windowOutcomes;
+    private int windowNextIndex;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenCallsInFlight;
+    private int halfOpenSuccesses;
+    // incremented on each move to HALF_OPEN, so a completing call can tell whether it is one of the current probes
+    private long halfOpenGeneration;
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.windowOutcomes = new boolean[builder.slidingWindowSize];
+        this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.openDurationNanos = builder.openDuration.toNanos();
+        this.permittedCallsInHalfOpen = builder.permittedCallsInHalfOpen;
+        this.nanoClock = builder.nanoClock;
+        for (State s : State.values()) {
+            transitionCounts.put(s, new LongAdder());
+        }
+    }
+
+    /**
+     * Returns a new Builder, populated with defaults suitable for an in-process service client.
+     *
+     * @return a new CircuitBreaker.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the current state, moving from OPEN to HALF_OPEN first if the open duration has passed.
+     *
+     * @return the breaker's state
+     */
+    public synchronized State getState() {
+        moveToHalfOpenIfOpenDurationElapsed();
+        return state;
+    }
+
+    /**
+     * Returns how many times this breaker has transitioned into the given state.
+     *
+     * @param to the target state
+     * @return number of transitions into that state
+     */
+    public long getTransitionCount(State to) {
+        return transitionCounts.get(to).sum();
+    }
+
+    /**
+     * Registers a listener to be told about future state transitions.
+     *
+     * @param listener the listener to add
+     */
+    public void addStateListener(StateListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> call) {
+        long permit = acquirePermission(operation);
+        T result;
+        try {
+            result = call.get();
+        } catch (ServiceUnavailableException | DeadlineExceededException e) {
+            releasePermission(permit);
+            throw e;
+        } catch (Throwable e) {
+            onFailure(permit);
+            throw e;
+        }
+        onSuccess(permit);
+        return result;
+    }
+
+    /*
+     * Lets the call through or throws CircuitBreakerOpenException. Returns the half-open generation the call was let
+     * in during, or NOT_A_PROBE if it was let in while CLOSED.
+     */
+    private synchronized long acquirePermission(String operation) {
+        moveToHalfOpenIfOpenDurationElapsed();
+        if (state == State.OPEN
+            || (state == State.HALF_OPEN && halfOpenCallsInFlight + halfOpenSuccesses >= permittedCallsInHalfOpen)) {
+            throw new CircuitBreakerOpenException(String.format(
+                "Circuit breaker '%s' is %s; rejected call to %s", name, state, operation));
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenCallsInFlight++;
+            return halfOpenGeneration;
+        }
+        return NOT_A_PROBE;
+    }
+
+    private boolean isCurrentProbe(long permit) {
+        return state == State.HALF_OPEN && permit == halfOpenGeneration;
+    }
+
+    private synchronized void releasePermission(long permit) {
+        if (isCurrentProbe(permit)) {
+            halfOpenCallsInFlight--;
+        }
+    }
+
+    private synchronized void onSuccess(long permit) {
+        if (isCurrentProbe(permit)) {
+            halfOpenCallsInFlight--;
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= permittedCallsInHalfOpen) {
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            recordInWindow(false);
+        }
+    }
+
+    private synchronized void onFailure(long permit) {
+        if (isCurrentProbe(permit)) {
+            transitionTo(State.OPEN);
+        } else if (state == State.CLOSED) {
+            recordInWindow(true);
+            if (windowCount >= minimumNumberOfCalls && windowFailures * 100f >= failureRateThreshold * windowCount) {
+                transitionTo(State.OPEN);
+            }
+        }
+    }
+
+    private void recordInWindow(boolean failed) {
+        if (windowCount == windowOutcomes.length) {
+            if (windowOutcomes[windowNextIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        windowOutcomes[windowNextIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowNextIndex = (windowNextIndex + 1) % windowOutcomes.length;
+    }
+
+    private void moveToHalfOpenIfOpenDurationElapsed() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+    }
+
+    private void transitionTo(State to) {
+        State from = state;
+        state = to;
+        switch (to) {
+            case OPEN:
+                openedAtNanos = nanoClock.getAsLong();
+                break;
+            case HALF_OPEN:
+                halfOpenGeneration++;
+                halfOpenCallsInFlight = 0;
+                halfOpenSuccesses = 0;
+                break;
+            case CLOSED:
+                windowNextIndex = 0;
+                windowCount = 0;
+                windowFailures = 0;
+                break;
+            default:
+                break;
+        }
+        transitionCounts.get(to).increment();
+        for (StateListener listener : listeners) {
+            listener.onStateTransition(this, from, to);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{name='" + name + "', state=" + getState() + '}';
+    }
+
+    /**
+     * Builder for CircuitBreakers. See CircuitBreaker documentation for the meaning of each setting.
+     */
+    public static class Builder {
+        private String name = "unnamed";
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private float failureRateThreshold = 50f;
+        private Duration openDuration = Duration.ofSeconds(5);
+        private int permittedCallsInHalfOpen = 3;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        //CHECKSTYLE:OFF:HiddenField
+        //CHECKSTYLE:OFF:JavadocMethod
+        public Builder withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder withSlidingWindowSize(int slidingWindowSize) {
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        public Builder withMinimumNumberOfCalls(int minimumNumberOfCalls) {
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        public Builder withFailureRateThreshold(float failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        public Builder withOpenDuration(Duration openDuration) {
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        public Builder withPermittedCallsInHalfOpen(int permittedCallsInHalfOpen) {
+            this.permittedCallsInHalfOpen = permittedCallsInHalfOpen;
+            return this;
+        }
+
+        Builder withNanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+        //CHECKSTYLE:ON:JavadocMethod
+        //CHECKSTYLE:ON:HiddenField
+
+        /**
+         * Builds the CircuitBreaker. Throws IllegalArgumentException if the settings are inconsistent.
+         *
+         * @return the new CircuitBreaker, initially CLOSED
+         */
+        public CircuitBreaker build() {
+            if (slidingWindowSize < 1 || minimumNumberOfCalls < 1 || minimumNumberOfCalls > slidingWindowSize) {
+                throw new IllegalArgumentException(
+                    "Circuit breaker needs 1 <= minimumNumberOfCalls <= slidingWindowSize");
+            }
+            if (failureRateThreshold <= 0f || failureRateThreshold > 100f) {
+                throw new IllegalArgumentException("Circuit breaker failureRateThreshold must be in (0, 100]");
+            }
+            if (openDuration == null || openDuration.isNegative() || permittedCallsInHalfOpen < 1) {
+                throw new IllegalArgumentException(
+                    "Circuit breaker needs a non-negative openDuration and at least one half-open call");
+            }
+            return new CircuitBreaker(this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+/**
+ * Thrown when a call is rejected because its {@link CircuitBreaker} is open.
+ */
+public class CircuitBreakerOpenException extends ServiceUnavailableException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception with the given message.
+     *
+     * @param message describes the rejected call
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
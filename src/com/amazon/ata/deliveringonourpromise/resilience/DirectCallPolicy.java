@@ -0,0 +1,17 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import java.util.function.Supplier;
+
+/**
+ * Pass-through ServiceCallPolicy. See {@link ServiceCallPolicy#direct()}.
+ */
+final class DirectCallPolicy implements ServiceCallPolicy {
+    static final DirectCallPolicy INSTANCE = new DirectCallPolicy();
+
+    private DirectCallPolicy() {}
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> call) {
+        return call.get();
+    }
+}
@@ -0,0 +1,68 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket that bounds retries to a fraction of successful calls, so that retries can't turn a
+ * struggling service into a retry storm. Every successful call deposits {@code tokensPerSuccess} (e.g. 0.1 allows
+ * roughly one retry per ten successes), up to {@code maxTokens}. Every retry withdraws one whole token, and a
+ * retry is only allowed if a whole token is available.
+ *
+ * One budget is meant to be shared by every {@link RetryPolicy} in the process.
+ */
+public final class RetryBudget {
+    // tokens are held in fixed point so the bucket can be updated lock-free
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000L;
+
+    private final long milliTokensPerSuccess;
+    private final long maxMilliTokens;
+    private final AtomicLong milliTokens;
+
+    /**
+     * Constructs a full retry budget.
+     *
+     * @param tokensPerSuccess tokens earned by each successful call, in (0, 1]
+     * @param maxTokens most tokens the bucket can hold, i.e. the largest burst of retries allowed; at least 1
+     */
+    public RetryBudget(double tokensPerSuccess, int maxTokens) {
+        if (tokensPerSuccess <= 0 || tokensPerSuccess > 1 || maxTokens < 1) {
+            throw new IllegalArgumentException("Retry budget needs 0 < tokensPerSuccess <= 1 and maxTokens >= 1");
+        }
+        this.milliTokensPerSuccess = Math.max(1L, Math.round(tokensPerSuccess * MILLI_TOKENS_PER_TOKEN));
+        this.maxMilliTokens = maxTokens * MILLI_TOKENS_PER_TOKEN;
+        this.milliTokens = new AtomicLong(maxMilliTokens);
+    }
+
+    /**
+     * Records a successful call, earning a fraction of a token.
+     */
+    public void onSuccess() {
+        milliTokens.accumulateAndGet(milliTokensPerSuccess, (current, deposit) -> Math.min(maxMilliTokens,
+            current + deposit));
+    }
+
+    /**
+     * Withdraws one token for a retry, if one is available.
+     *
+     * @return true if the retry may proceed; false if the budget is exhausted
+     */
+    public boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = milliTokens.get();
+            if (current < MILLI_TOKENS_PER_TOKEN) {
+                return false;
+            }
+        } while (!milliTokens.compareAndSet(current, current - MILLI_TOKENS_PER_TOKEN));
+        return true;
+    }
+
+    /**
+     * Returns the number of tokens currently available.
+     *
+     * @return available tokens, possibly fractional
+     */
+    public double getAvailableTokens() {
+        return (double) milliTokens.get() / MILLI_TOKENS_PER_TOKEN;
+    }
+}
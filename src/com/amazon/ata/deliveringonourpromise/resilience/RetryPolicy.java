@@ -0,0 +1,196 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retries downstream calls that fail with a transient error.
+ *
+ * Only operations declared idempotent are retried; any other operation is called exactly once. A failed attempt
+ * is retried if it threw a RuntimeException other than {@link ServiceUnavailableException} (the call was
+ * rejected locally, so retrying would only add load) or {@link DeadlineExceededException}. At most
+ * {@code maxAttempts} attempts are made.
+ *
+ * Before attempt n+1 the policy sleeps a random time between zero and min(maxDelay, baseDelay * 2^(n-1))
+ * ("full jitter"), so clients that failed together don't retry together. It gives up early if the sleep would
+ * outlast the request's {@link Deadline}, or if the shared {@link RetryBudget} has no token to spare.
+ *
+ * Apply a RetryPolicy outside any circuit breaker, so that each attempt is judged by the breaker.
+ *
+ * Construct a RetryPolicy via {@code RetryPolicy.builder()...build();}.
+ */
+public final class RetryPolicy implements ServiceCallPolicy {
+
+    /**
+     * Waits between attempts. Package-private so tests can avoid real sleeps.
+     */
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final Set<String> idempotentOperations;
+    private final RetryBudget retryBudget;
+    private final DoubleSupplier jitter;
+    private final Sleeper sleeper;
+
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder retriesDeniedByBudget = new LongAdder();
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelayNanos = builder.baseDelay.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.idempotentOperations = Collections.unmodifiableSet(new HashSet<>(builder.idempotentOperations));
+        this.retryBudget = builder.retryBudget;
+        this.jitter = builder.jitter;
+        this.sleeper = builder.sleeper;
+    }
+
+    /**
+     * Returns a new Builder, populated with defaults suitable for an in-process service client.
+     *
+     * @return a new RetryPolicy.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long getRetryCount() {
+        return retries.sum();
+    }
+
+    public long getRetriesDeniedByBudgetCount() {
+        return retriesDeniedByBudget.sum();
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> call) {
+        boolean idempotent = idempotentOperations.contains(operation);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = call.get();
+                retryBudget.onSuccess();
+                return result;
+            } catch (ServiceUnavailableException | DeadlineExceededException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                if (!idempotent || attempt >= maxAttempts || !backOff(attempt)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sleeps before the next attempt, if the deadline and retry budget allow one.
+     *
+     * @param failedAttempt the number of the attempt that just failed, starting from 1
+     * @return true if the caller should retry; false to give up
+     */
+    private boolean backOff(int failedAttempt) {
+        long ceiling = maxDelayNanos;
+        if (failedAttempt - 1 < Long.SIZE - 1 && baseDelayNanos <= (maxDelayNanos >> (failedAttempt - 1))) {
+            ceiling = baseDelayNanos << (failedAttempt - 1);
+        }
+        long delayNanos = (long) (jitter.getAsDouble() * ceiling);
+        if (delayNanos >= Deadline.current().remaining().toNanos()) {
+            return false;
+        }
+        if (!retryBudget.tryAcquireRetry()) {
+            retriesDeniedByBudget.increment();
+            return false;
+        }
+        try {
+            sleeper.sleep(delayNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        retries.increment();
+        return true;
+    }
+
+    /**
+     * Builder for RetryPolicies. See RetryPolicy documentation for the meaning of each setting.
+     */
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofMillis(200);
+        private Set<String> idempotentOperations = new HashSet<>();
+        private RetryBudget retryBudget;
+        private DoubleSupplier jitter = () -> ThreadLocalRandom.current().nextDouble();
+        private Sleeper sleeper = TimeUnit.NANOSECONDS::sleep;
+
+        //CHECKSTYLE:OFF:HiddenField
+        //CHECKSTYLE:OFF:JavadocMethod
+        public Builder withMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder withBaseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        public Builder withMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder withIdempotentOperations(String... idempotentOperations) {
+            this.idempotentOperations.addAll(Arrays.asList(idempotentOperations));
+            return this;
+        }
+
+        public Builder withRetryBudget(RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
+        Builder withJitter(DoubleSupplier jitter) {
+            this.jitter = jitter;
+            return this;
+        }
+
+        Builder withSleeper(Sleeper sleeper) {
+            this.sleeper = sleeper;
+            return this;
+        }
+        //CHECKSTYLE:ON:JavadocMethod
+        //CHECKSTYLE:ON:HiddenField
+
+        /**
+         * Builds the RetryPolicy. Throws IllegalArgumentException if the settings are inconsistent.
+         *
+         * @return the new RetryPolicy
+         */
+        public RetryPolicy build() {
+            if (maxAttempts < 1) {
+                throw new IllegalArgumentException("Retry policy needs maxAttempts >= 1");
+            }
+            if (baseDelay == null || maxDelay == null || baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException("Retry policy needs 0 <= baseDelay <= maxDelay");
+            }
+            if (retryBudget == null) {
+                throw new IllegalArgumentException("Retry policy needs a retry budget");
+            }
+            return new RetryPolicy(this);
+        }
+    }
+}
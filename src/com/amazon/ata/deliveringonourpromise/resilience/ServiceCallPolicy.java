@@ -0,0 +1,55 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import java.util.function.Supplier;
+
+/**
+ * A policy applied around every call a service client makes to its downstream service (circuit breaking,
+ * concurrency limiting, and so on). Service clients route each downstream call through their policy:
+ *
+ * <pre>{@code
+ *   return policy.execute("getDeliveryPromise", () -> dpService.getDeliveryPromise(customerOrderItemId));
+ * }</pre>
+ *
+ * Policies compose with {@link #wrapping(ServiceCallPolicy)}, the outer policy seeing the call first.
+ */
+public interface ServiceCallPolicy {
+
+    /**
+     * Executes the downstream call under this policy.
+     *
+     * @param operation name of the downstream API being called, e.g. "getDeliveryPromise"
+     * @param call the downstream call
+     * @param <T> the call's result type
+     * @return the call's result
+     * @throws ServiceUnavailableException if the policy rejected the call without making it
+     */
+    <T> T execute(String operation, Supplier<T> call);
+
+    /**
+     * Returns a policy that applies this policy around the given inner policy.
+     *
+     * @param inner the policy applied closer to the downstream call
+     * @return the composed policy
+     */
+    default ServiceCallPolicy wrapping(ServiceCallPolicy inner) {
+        if (inner == DirectCallPolicy.INSTANCE) {
+            return this;
+        }
+        ServiceCallPolicy outer = this;
+        return new ServiceCallPolicy() {
+            @Override
+            public <T> T execute(String operation, Supplier<T> call) {
+                return outer.execute(operation, () -> inner.execute(operation, call));
+            }
+        };
+    }
+
+    /**
+     * Returns the policy that makes each call directly, with no protection.
+     *
+     * @return the pass-through policy
+     */
+    static ServiceCallPolicy direct() {
+        return DirectCallPolicy.INSTANCE;
+    }
+}
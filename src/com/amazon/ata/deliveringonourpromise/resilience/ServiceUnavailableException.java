@@ -0,0 +1,19 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+/**
+ * Thrown when a {@link ServiceCallPolicy} rejects a downstream call without making it, because the
+ * downstream service is considered unhealthy or overloaded.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception with the given message.
+     *
+     * @param message describes why the call was rejected
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
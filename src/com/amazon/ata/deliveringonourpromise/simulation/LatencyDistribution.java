@@ -0,0 +1,67 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * A distribution of simulated call latencies.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * Draws one latency from this distribution.
+     *
+     * @param random the source of randomness; callers seed it for reproducible runs
+     * @return the latency in nanoseconds, never negative
+     */
+    long sampleNanos(Random random);
+
+    /**
+     * Returns a distribution that always adds zero latency.
+     *
+     * @return the zero-latency distribution
+     */
+    static LatencyDistribution none() {
+        return random -> 0L;
+    }
+
+    /**
+     * Returns a distribution that always produces the same latency.
+     *
+     * @param latency the latency of every call
+     * @return the fixed distribution
+     */
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    /**
+     * Returns a lognormal distribution, the usual shape of service latencies: most calls near the median, with a
+     * long tail of slow ones.
+     *
+     * @param median the median latency
+     * @param sigma the standard deviation of the latency's logarithm; 0.5 gives a p99 of roughly 3x the median
+     * @return the lognormal distribution
+     */
+    static LatencyDistribution lognormal(Duration median, double sigma) {
+        double mu = Math.log(median.toNanos());
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * Returns a distribution that usually draws from {@code normal} but, with probability {@code pauseProbability},
+     * draws from {@code pause} instead. This models things like GC pauses on the server.
+     *
+     * @param normal the usual latency distribution
+     * @param pause the latency distribution during a pause
+     * @param pauseProbability probability that a call hits a pause, in [0, 1]
+     * @return the bimodal distribution
+     */
+    static LatencyDistribution bimodal(LatencyDistribution normal, LatencyDistribution pause,
+                                       double pauseProbability) {
+        return random -> random.nextDouble() < pauseProbability ? pause.sampleNanos(random)
+            : normal.sampleNanos(random);
+    }
+}
@@ -0,0 +1,128 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+import java.time.Duration;
+
+/**
+ * How a {@link SimulatedService} behaves for one downstream operation: how long calls take, how often they fail
+ * or time out, and how many calls per second the operation can serve.
+ *
+ * Construct an OperationProfile via {@code OperationProfile.builder()...build();}.
+ */
+public final class OperationProfile {
+    private static final OperationProfile INSTANT = builder().build();
+
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final double timeoutRate;
+    private final Duration timeout;
+    private final int maxCallsPerSecond;
+
+    private OperationProfile(Builder builder) {
+        this.latency = builder.latency;
+        this.errorRate = builder.errorRate;
+        this.timeoutRate = builder.timeoutRate;
+        this.timeout = builder.timeout;
+        this.maxCallsPerSecond = builder.maxCallsPerSecond;
+    }
+
+    /**
+     * Returns a new Builder. Unless configured otherwise, calls take no extra time and never fail.
+     *
+     * @return a new OperationProfile.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the profile of an operation that answers instantly and never fails, like the unwrapped services.
+     *
+     * @return the instant profile
+     */
+    public static OperationProfile instant() {
+        return INSTANT;
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public double getTimeoutRate() {
+        return timeoutRate;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns the operation's throughput cap.
+     *
+     * @return most calls served per second, or 0 if uncapped
+     */
+    public int getMaxCallsPerSecond() {
+        return maxCallsPerSecond;
+    }
+
+    /**
+     * Builder for OperationProfiles.
+     */
+    public static class Builder {
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private double errorRate;
+        private double timeoutRate;
+        private Duration timeout = Duration.ofSeconds(1);
+        private int maxCallsPerSecond;
+
+        //CHECKSTYLE:OFF:HiddenField
+        //CHECKSTYLE:OFF:JavadocMethod
+        public Builder withLatency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        public Builder withErrorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        public Builder withTimeoutRate(double timeoutRate) {
+            this.timeoutRate = timeoutRate;
+            return this;
+        }
+
+        public Builder withTimeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public Builder withMaxCallsPerSecond(int maxCallsPerSecond) {
+            this.maxCallsPerSecond = maxCallsPerSecond;
+            return this;
+        }
+        //CHECKSTYLE:ON:JavadocMethod
+        //CHECKSTYLE:ON:HiddenField
+
+        /**
+         * Builds the OperationProfile. Throws IllegalArgumentException if the settings are inconsistent.
+         *
+         * @return the new OperationProfile
+         */
+        public OperationProfile build() {
+            if (latency == null || timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException("Operation profile needs a latency and a non-negative timeout");
+            }
+            if (errorRate < 0 || timeoutRate < 0 || errorRate + timeoutRate > 1) {
+                throw new IllegalArgumentException("Operation profile error and timeout rates must sum to at most 1");
+            }
+            if (maxCallsPerSecond < 0) {
+                throw new IllegalArgumentException("Operation profile maxCallsPerSecond must not be negative");
+            }
+            return new OperationProfile(this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+/**
+ * Thrown by a {@link SimulatedService} to simulate a downstream service error.
+ */
+public class SimulatedFailureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception with the given message.
+     *
+     * @param message describes the simulated failure
+     */
+    public SimulatedFailureException(String message) {
+        super(message);
+    }
+}
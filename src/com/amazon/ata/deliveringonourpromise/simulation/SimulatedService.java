@@ -0,0 +1,212 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stands in for a real downstream service in local benchmarks. OMA, DPS and OFS answer instantly from the
+ * OrderDatastore, so a SimulatedService is placed in front of one of them (as the innermost
+ * {@link ServiceCallPolicy} of its client) to give each operation realistic latency, errors, timeouts and a
+ * throughput cap, as described by its {@link OperationProfile}.
+ *
+ * For each call the service first enforces the throughput cap, failing excess calls immediately with
+ * {@link SimulatedThrottlingException}. Then it either hangs for the profile's timeout and throws
+ * {@link SimulatedTimeoutException}, or waits a sampled latency and either throws
+ * {@link SimulatedFailureException} or makes the real call.
+ *
+ * Each operation draws from its own Random, seeded from the service's seed and the operation name, so a
+ * single-threaded run with the same seed injects exactly the same latencies and faults.
+ *
+ * Construct a SimulatedService via {@code SimulatedService.builder()...build();}.
+ */
+public final class SimulatedService implements ServiceCallPolicy {
+
+    /**
+     * Waits out simulated latency. Package-private so tests can avoid real sleeps.
+     */
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final String name;
+    private final long seed;
+    private final OperationProfile defaultProfile;
+    private final Map<String, OperationProfile> profiles;
+    private final Sleeper sleeper;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, OperationState> operationStates = new ConcurrentHashMap<>();
+
+    private SimulatedService(Builder builder) {
+        this.name = builder.name;
+        this.seed = builder.seed;
+        this.defaultProfile = builder.defaultProfile;
+        this.profiles = new HashMap<>(builder.profiles);
+        this.sleeper = builder.sleeper;
+        this.nanoClock = builder.nanoClock;
+    }
+
+    /**
+     * Returns a new Builder. Unless configured otherwise, every operation uses {@link OperationProfile#instant()}.
+     *
+     * @return a new SimulatedService.Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public <T> T execute(String operation, Supplier<T> call) {
+        OperationState state = operationStates.computeIfAbsent(operation, this::newOperationState);
+        OperationProfile profile = state.profile;
+
+        if (!state.tryAcquireThroughput()) {
+            throw new SimulatedThrottlingException(String.format(
+                "Simulated %s throttled %s above %d calls/second", name, operation, profile.getMaxCallsPerSecond()));
+        }
+
+        double outcome;
+        long latencyNanos;
+        synchronized (state.random) {
+            outcome = state.random.nextDouble();
+            latencyNanos = profile.getLatency().sampleNanos(state.random);
+        }
+
+        if (outcome < profile.getTimeoutRate()) {
+            pause(profile.getTimeout().toNanos());
+            throw new SimulatedTimeoutException(String.format(
+                "Simulated %s timed out %s after %s", name, operation, profile.getTimeout()));
+        }
+        pause(latencyNanos);
+        if (outcome < profile.getTimeoutRate() + profile.getErrorRate()) {
+            throw new SimulatedFailureException(String.format("Simulated %s failed %s", name, operation));
+        }
+        return call.get();
+    }
+
+    private OperationState newOperationState(String operation) {
+        OperationProfile profile = profiles.getOrDefault(operation, defaultProfile);
+        return new OperationState(profile, new Random(seed ^ operation.hashCode()), nanoClock.getAsLong());
+    }
+
+    private void pause(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            sleeper.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SimulatedTimeoutException(String.format("Simulated %s call interrupted", name));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SimulatedService{name='" + name + "', seed=" + seed + '}';
+    }
+
+    /**
+     * Per-operation state: the profile, its Random, and a token bucket enforcing the throughput cap.
+     */
+    private final class OperationState {
+        private final OperationProfile profile;
+        private final Random random;
+        private final long nanosPerCall;
+
+        // guarded by this
+        private long nextFreeNanos;
+
+        private OperationState(OperationProfile profile, Random random, long nowNanos) {
+            this.profile = profile;
+            this.random = random;
+            this.nanosPerCall = profile.getMaxCallsPerSecond() == 0 ? 0L
+                : TimeUnit.SECONDS.toNanos(1) / profile.getMaxCallsPerSecond();
+            // start with a full bucket
+            this.nextFreeNanos = nowNanos - TimeUnit.SECONDS.toNanos(1) + nanosPerCall;
+        }
+
+        private synchronized boolean tryAcquireThroughput() {
+            if (nanosPerCall == 0L) {
+                return true;
+            }
+            long now = nanoClock.getAsLong();
+            // allow bursts of up to one second's worth of calls
+            long earliest = now - TimeUnit.SECONDS.toNanos(1) + nanosPerCall;
+            if (nextFreeNanos < earliest) {
+                nextFreeNanos = earliest;
+            }
+            if (nextFreeNanos > now) {
+                return false;
+            }
+            nextFreeNanos += nanosPerCall;
+            return true;
+        }
+    }
+
+    /**
+     * Builder for SimulatedServices.
+     */
+    public static class Builder {
+        private String name = "unnamed";
+        private long seed;
+        private OperationProfile defaultProfile = OperationProfile.instant();
+        private Map<String, OperationProfile> profiles = new HashMap<>();
+        private Sleeper sleeper = TimeUnit.NANOSECONDS::sleep;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        //CHECKSTYLE:OFF:HiddenField
+        //CHECKSTYLE:OFF:JavadocMethod
+        public Builder withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder withDefaultProfile(OperationProfile defaultProfile) {
+            this.defaultProfile = defaultProfile;
+            return this;
+        }
+
+        public Builder withOperationProfile(String operation, OperationProfile profile) {
+            this.profiles.put(operation, profile);
+            return this;
+        }
+
+        Builder withSleeper(Sleeper sleeper) {
+            this.sleeper = sleeper;
+            return this;
+        }
+
+        Builder withNanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+        //CHECKSTYLE:ON:JavadocMethod
+        //CHECKSTYLE:ON:HiddenField
+
+        /**
+         * Builds the SimulatedService.
+         *
+         * @return the new SimulatedService
+         */
+        public SimulatedService build() {
+            return new SimulatedService(this);
+        }
+    }
+}
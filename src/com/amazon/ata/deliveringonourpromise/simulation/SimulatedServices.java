@@ -0,0 +1,67 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+import com.amazon.ata.deliveringonourpromise.resilience.ServiceCallPolicy;
+
+/**
+ * The stand-ins used for OMA, DPS and OFS by one App configuration. {@link #none()} leaves every service
+ * answering instantly.
+ */
+public final class SimulatedServices {
+    private static final SimulatedServices NONE =
+        new SimulatedServices(ServiceCallPolicy.direct(), ServiceCallPolicy.direct(), ServiceCallPolicy.direct());
+
+    private final ServiceCallPolicy orderManipulationAuthority;
+    private final ServiceCallPolicy deliveryPromiseService;
+    private final ServiceCallPolicy orderFulfillmentService;
+
+    /**
+     * Constructs the set of stand-ins. Pass {@link ServiceCallPolicy#direct()} for a service that should not be
+     * simulated.
+     *
+     * @param orderManipulationAuthority stand-in for OMA
+     * @param deliveryPromiseService stand-in for DPS
+     * @param orderFulfillmentService stand-in for OFS
+     */
+    public SimulatedServices(ServiceCallPolicy orderManipulationAuthority, ServiceCallPolicy deliveryPromiseService,
+                             ServiceCallPolicy orderFulfillmentService) {
+        this.orderManipulationAuthority = orderManipulationAuthority;
+        this.deliveryPromiseService = deliveryPromiseService;
+        this.orderFulfillmentService = orderFulfillmentService;
+    }
+
+    /**
+     * Returns the configuration with no simulation at all.
+     *
+     * @return stand-ins that call every service directly
+     */
+    public static SimulatedServices none() {
+        return NONE;
+    }
+
+    /**
+     * Returns stand-ins giving every operation of all three services the same profile, each service seeded
+     * differently from the given seed.
+     *
+     * @param profile the profile for every operation
+     * @param seed the seed for reproducible runs
+     * @return the uniform stand-ins
+     */
+    public static SimulatedServices uniform(OperationProfile profile, long seed) {
+        return new SimulatedServices(
+            SimulatedService.builder().withName("OMA").withSeed(seed).withDefaultProfile(profile).build(),
+            SimulatedService.builder().withName("DPS").withSeed(seed + 1).withDefaultProfile(profile).build(),
+            SimulatedService.builder().withName("OFS").withSeed(seed + 2).withDefaultProfile(profile).build());
+    }
+
+    public ServiceCallPolicy getOrderManipulationAuthority() {
+        return orderManipulationAuthority;
+    }
+
+    public ServiceCallPolicy getDeliveryPromiseService() {
+        return deliveryPromiseService;
+    }
+
+    public ServiceCallPolicy getOrderFulfillmentService() {
+        return orderFulfillmentService;
+    }
+}
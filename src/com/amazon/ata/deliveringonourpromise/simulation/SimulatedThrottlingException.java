@@ -0,0 +1,18 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+/**
+ * Thrown by a {@link SimulatedService} when a call exceeds the simulated service's throughput cap.
+ */
+public class SimulatedThrottlingException extends SimulatedFailureException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception with the given message.
+     *
+     * @param message describes the throttled call
+     */
+    public SimulatedThrottlingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+/**
+ * Thrown by a {@link SimulatedService} to simulate a downstream call that timed out.
+ */
+public class SimulatedTimeoutException extends SimulatedFailureException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs the exception with the given message.
+     *
+     * @param message describes the simulated timeout
+     */
+    public SimulatedTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,184 @@
+package com.amazon.ata.deliveringonourpromise.tracing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One timed step of a traced request, e.g. a DAO or service client call. Spans form a tree under the request's
+ * root span; see {@link Tracer#startTrace(String)}.
+ *
+ * Code that wants to show up in traces opens a child of the current span around its work:
+ *
+ * <pre>{@code
+ *   try (Span span = Span.current().startChild("PromiseDao.get")) {
+ *       span.setAttribute("itemId", customerOrderItemId);
+ *       ...
+ *   }
+ * }</pre>
+ *
+ * When the request isn't being traced, {@link #current()} returns a no-op span whose methods do nothing and
+ * allocate nothing, so instrumented code costs one ThreadLocal lookup. A span belongs to the thread that
+ * started it and is not thread-safe.
+ */
+public final class Span implements AutoCloseable {
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final Span NOOP = new Span(null, null, "noop");
+
+    private final Trace trace;
+    private final Span parent;
+    private final String name;
+    private final long startNanos;
+    private long endNanos;
+    private List<String> attributes;
+    private List<Span> children;
+
+    Span(Trace trace, Span parent, String name) {
+        this.trace = trace;
+        this.parent = parent;
+        this.name = name;
+        this.startNanos = trace == null ? 0L : System.nanoTime();
+    }
+
+    /**
+     * Returns the innermost open span on this thread, or a no-op span if this thread isn't in a sampled trace.
+     *
+     * @return the current span
+     */
+    public static Span current() {
+        Span current = CURRENT.get();
+        return current == null ? NOOP : current;
+    }
+
+    /**
+     * Returns the span that does nothing, used for requests that aren't sampled.
+     *
+     * @return the no-op span
+     */
+    static Span noop() {
+        return NOOP;
+    }
+
+    /**
+     * Starts a child of this span and makes it the current span until it is closed.
+     *
+     * @param childName what the child span measures
+     * @return the child, or the no-op span if this span is the no-op span
+     */
+    public Span startChild(String childName) {
+        if (trace == null) {
+            return NOOP;
+        }
+        Span child = new Span(trace, this, childName);
+        if (children == null) {
+            children = new ArrayList<>();
+        }
+        children.add(child);
+        CURRENT.set(child);
+        return child;
+    }
+
+    /**
+     * Attaches a key attribute, such as an order ID, to this span.
+     *
+     * @param key attribute name
+     * @param value attribute value
+     * @return this span
+     */
+    public Span setAttribute(String key, String value) {
+        if (trace != null) {
+            if (attributes == null) {
+                attributes = new ArrayList<>(4);
+            }
+            attributes.add(key);
+            attributes.add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Attaches a numeric attribute, such as a result count, to this span. Allocates nothing if not sampled.
+     *
+     * @param key attribute name
+     * @param value attribute value
+     * @return this span
+     */
+    public Span setAttribute(String key, long value) {
+        return trace == null ? this : setAttribute(key, String.valueOf(value));
+    }
+
+    /**
+     * Ends this span, making its parent the current span again. Ending a trace's root span completes the trace.
+     */
+    @Override
+    public void close() {
+        if (trace == null || endNanos != 0L) {
+            return;
+        }
+        endNanos = System.nanoTime();
+        if (parent == null) {
+            CURRENT.remove();
+            trace.complete();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    /**
+     * Makes this span the current span on this thread. Used when starting a trace's root span.
+     */
+    void makeCurrent() {
+        CURRENT.set(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns this span's duration.
+     *
+     * @return nanoseconds from start to close, or 0 if not closed yet
+     */
+    public long getDurationNanos() {
+        return endNanos == 0L ? 0L : endNanos - startNanos;
+    }
+
+    /**
+     * Returns this span's attributes as alternating keys and values.
+     *
+     * @return key, value, key, value, ...
+     */
+    public List<String> getAttributes() {
+        return attributes == null ? Collections.emptyList() : Collections.unmodifiableList(attributes);
+    }
+
+    public List<Span> getChildren() {
+        return children == null ? Collections.emptyList() : Collections.unmodifiableList(children);
+    }
+
+    /**
+     * Returns whether this is the no-op span of an unsampled request.
+     *
+     * @return true if this span records nothing
+     */
+    public boolean isNoop() {
+        return trace == null;
+    }
+
+    void render(StringBuilder text, int depth) {
+        for (int i = 0; i < depth; i++) {
+            text.append("  ");
+        }
+        text.append(name).append(' ')
+            .append(String.format("%.3fms", (double) getDurationNanos() / TimeUnit.MILLISECONDS.toNanos(1)));
+        for (int i = 0; attributes != null && i < attributes.size(); i += 2) {
+            text.append(' ').append(attributes.get(i)).append('=').append(attributes.get(i + 1));
+        }
+        text.append(System.lineSeparator());
+        for (Span child : getChildren()) {
+            child.render(text, depth + 1);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.amazon.ata.deliveringonourpromise.tracing;
+
+import java.time.Instant;
+
+/**
+ * The tree of spans recorded for one sampled request.
+ */
+public final class Trace {
+    private final Tracer tracer;
+    private final String traceId;
+    private final Instant startTime;
+    private final Span root;
+
+    Trace(Tracer tracer, String traceId, String rootName) {
+        this.tracer = tracer;
+        this.traceId = traceId;
+        this.startTime = Instant.now();
+        this.root = new Span(this, null, rootName);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public Span getRoot() {
+        return root;
+    }
+
+    void complete() {
+        tracer.record(this);
+    }
+
+    /**
+     * Renders the trace as an indented tree, one span per line with its duration and attributes.
+     *
+     * @return the rendered trace
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append("trace ").append(traceId).append(" at ").append(startTime).append(System.lineSeparator());
+        root.render(text, 1);
+        return text.toString();
+    }
+}
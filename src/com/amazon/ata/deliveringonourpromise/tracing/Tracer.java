@@ -0,0 +1,104 @@
+package com.amazon.ata.deliveringonourpromise.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Decides which requests are traced and keeps the most recently completed traces.
+ *
+ * A request is sampled with probability {@code sampleRate}. Sampled requests record spans; unsampled requests run
+ * with the no-op span and cost almost nothing. Completed traces go into a fixed-size ring buffer, overwriting the
+ * oldest, and can be read back with {@link #getRecentTraces()}.
+ */
+public final class Tracer {
+    private static final Tracer DISABLED = new Tracer(0.0, 1);
+
+    private final AtomicReferenceArray<Trace> recentTraces;
+    private final AtomicLong tracesRecorded = new AtomicLong();
+    private volatile double sampleRate;
+
+    /**
+     * Constructs a tracer.
+     *
+     * @param sampleRate fraction of requests to trace, in [0, 1]
+     * @param capacity how many recent traces to keep
+     */
+    public Tracer(double sampleRate, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Tracer needs room for at least one trace");
+        }
+        setSampleRate(sampleRate);
+        this.recentTraces = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Returns a tracer that never samples.
+     *
+     * @return the disabled tracer
+     */
+    public static Tracer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Changes the fraction of requests traced from now on.
+     *
+     * @param sampleRate fraction of requests to trace, in [0, 1]
+     */
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Trace sample rate must be in [0, 1]");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Starts tracing a request, if it is sampled, and makes the root span current on this thread. If this thread
+     * is already inside a trace, starts a child span instead.
+     *
+     * @param name the request being traced
+     * @return the root span to close when the request completes, or the no-op span if the request isn't sampled
+     */
+    public Span startTrace(String name) {
+        Span current = Span.current();
+        if (!current.isNoop()) {
+            return current.startChild(name);
+        }
+        double rate = sampleRate;
+        if (rate == 0.0 || (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            return current;
+        }
+        Trace trace = new Trace(this, Long.toHexString(ThreadLocalRandom.current().nextLong()), name);
+        trace.getRoot().makeCurrent();
+        return trace.getRoot();
+    }
+
+    /**
+     * Returns the completed traces still in the ring buffer, newest first.
+     *
+     * @return recent traces
+     */
+    public List<Trace> getRecentTraces() {
+        List<Trace> traces = new ArrayList<>();
+        long newest = tracesRecorded.get() - 1;
+        for (long i = newest; i >= 0 && i > newest - recentTraces.length(); i--) {
+            Trace trace = recentTraces.get((int) (i % recentTraces.length()));
+            if (trace != null) {
+                traces.add(trace);
+            }
+        }
+        return traces;
+    }
+
+    void record(Trace trace) {
+        long slot = tracesRecorded.getAndIncrement();
+        recentTraces.set((int) (slot % recentTraces.length()), trace);
+    }
+}
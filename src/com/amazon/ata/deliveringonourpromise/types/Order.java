@@ -74,6 +74,15 @@ public class Order {
         return condition;
     }
 
+    /**
+     * Returns the number of order items in this order, without copying them.
+     *
+     * @return the number of order items in this order
+     */
+    public int getCustomerOrderItemCount() {
+        return customerOrderItemList == null ? 0 : customerOrderItemList.size();
+    }
+
     /**
      * Returns a list containing all the order items in this order.
      *
@@ -0,0 +1,62 @@
+package com.amazon.ata.deliveringonourpromise.types;
+
+/**
+ * Packs an ASIN into a long: a standard ASIN is 10 characters, each 0-9 or A-Z, which fits in 10 base-36 digits.
+ * Because every packed ASIN has the same length and digits sort before letters, packed ASINs compare in the same
+ * order as the ASIN strings.
+ */
+final class PackedAsin {
+    /**
+     * Stands in for an ASIN that can't be packed (null, or not a standard ASIN).
+     */
+    static final long NONE = -1;
+
+    private static final int LENGTH = 10;
+    private static final int RADIX = 36;
+
+    private PackedAsin() {
+    }
+
+    /**
+     * Packs the given ASIN.
+     *
+     * @param asin the ASIN to pack; may be null
+     * @return the packed ASIN, or NONE if asin isn't 10 characters of 0-9 and A-Z
+     */
+    static long pack(String asin) {
+        if (null == asin || asin.length() != LENGTH) {
+            return NONE;
+        }
+        long packed = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = asin.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'A' && c <= 'Z') {
+                digit = c - 'A' + 10;
+            } else {
+                return NONE;
+            }
+            packed = packed * RADIX + digit;
+        }
+        return packed;
+    }
+
+    /**
+     * Rebuilds the ASIN string from a packed ASIN.
+     *
+     * @param packed a value returned by pack, other than NONE
+     * @return the ASIN
+     */
+    static String unpack(long packed) {
+        char[] asin = new char[LENGTH];
+        long remaining = packed;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            int digit = (int) (remaining % RADIX);
+            asin[i] = (char) (digit < 10 ? '0' + digit : 'A' + digit - 10);
+            remaining /= RADIX;
+        }
+        return new String(asin);
+    }
+}
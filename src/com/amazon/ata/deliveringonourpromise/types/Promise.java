@@ -1,6 +1,10 @@
 package com.amazon.ata.deliveringonourpromise.types;
 
+import com.amazon.ata.deliveringonourpromise.data.EpochTime;
+
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Objects;
 
 /**
  * Represents a customer promise, regardless of which service/stage of the order process
@@ -28,16 +32,31 @@ import java.time.ZonedDateTime;
  * * promiseLatestShipDate: timestamp of latest time item can be shipped and meet customer promise
  * * deliveryDate: timestamp of when the item was delivered (or null if it hasn't been delivered yet)
  * * promiseProvidedBy: where the promise came from (which service)
+ * * zone: the zone the promise dates are in. The promise dates are kept as epoch seconds (see EpochTime) and
+ *         only built into ZonedDateTimes by their getters, e.g. when the Shell renders them.
+ *
+ * Promises are immutable and kept compact: a standard ASIN is packed into a long (see PackedAsin), the provider
+ * is stored as a PromiseProvider ordinal, and all dates are epoch seconds. To change the delivery date or
+ * confidence, use withDeliveryDate/withConfidence, which return a changed copy.
  */
 public class Promise {
+    private static final byte NO_PROVIDER = -1;
+
     private String customerOrderItemId;
-    private String asin;
+    // see PackedAsin; the ASIN string is only kept if it can't be packed
+    private long packedAsin;
+    private String unpackedAsin;
     private boolean active;
-    private ZonedDateTime promiseEffectiveDate;
-    private ZonedDateTime promiseLatestArrivalDate;
-    private ZonedDateTime promiseLatestShipDate;
-    private ZonedDateTime deliveryDate;
-    private String promiseProvidedBy;
+    private long promiseEffectiveEpochSecond;
+    private long promiseLatestArrivalEpochSecond;
+    private long promiseLatestShipEpochSecond;
+    // the zone all of the promise's dates are in; see EpochTime
+    private ZoneId zone;
+    private long deliveryEpochSecond;
+    private ZoneId deliveryZone;
+    // a PromiseProvider ordinal; the provider's name is only kept if it isn't a PromiseProvider
+    private byte provider;
+    private String otherProvider;
     private int confidence;
 
     private Promise() {}
@@ -51,7 +70,15 @@ public class Promise {
     }
 
     public ZonedDateTime getPromiseLatestArrivalDate() {
-        return promiseLatestArrivalDate;
+        return EpochTime.toZonedDateTime(promiseLatestArrivalEpochSecond, zone);
+    }
+
+    public long getPromiseLatestArrivalEpochSecond() {
+        return promiseLatestArrivalEpochSecond;
+    }
+
+    public ZoneId getZone() {
+        return zone;
     }
 
     public String getCustomerOrderItemId() {
@@ -59,7 +86,11 @@ public class Promise {
     }
 
     public ZonedDateTime getPromiseEffectiveDate() {
-        return promiseEffectiveDate;
+        return EpochTime.toZonedDateTime(promiseEffectiveEpochSecond, zone);
+    }
+
+    public long getPromiseEffectiveEpochSecond() {
+        return promiseEffectiveEpochSecond;
     }
 
     public boolean isActive() {
@@ -67,19 +98,56 @@ public class Promise {
     }
 
     public ZonedDateTime getPromiseLatestShipDate() {
-        return promiseLatestShipDate;
+        return EpochTime.toZonedDateTime(promiseLatestShipEpochSecond, zone);
+    }
+
+    public long getPromiseLatestShipEpochSecond() {
+        return promiseLatestShipEpochSecond;
     }
 
     public ZonedDateTime getDeliveryDate() {
-        return deliveryDate;
+        return EpochTime.toZonedDateTime(deliveryEpochSecond, deliveryZone);
+    }
+
+    public long getDeliveryEpochSecond() {
+        return deliveryEpochSecond;
     }
 
     public String getPromiseProvidedBy() {
-        return promiseProvidedBy;
+        return NO_PROVIDER == provider ? otherProvider : PromiseProvider.fromOrdinal(provider).name();
+    }
+
+    /**
+     * Returns the service the promise came from.
+     *
+     * @return the provider, or null if the promise has no provider or one that isn't a PromiseProvider
+     */
+    public PromiseProvider getPromiseProvider() {
+        return NO_PROVIDER == provider ? null : PromiseProvider.fromOrdinal(provider);
     }
 
+    /**
+     * Returns the ASIN. A packed ASIN is rebuilt into a new String on each call; to order promises by ASIN, use
+     * compareAsinTo instead.
+     *
+     * @return the ASIN
+     */
     public String getAsin() {
-        return asin;
+        return PackedAsin.NONE == packedAsin ? unpackedAsin : PackedAsin.unpack(packedAsin);
+    }
+
+    /**
+     * Compares this promise's ASIN to another's, in the same order as comparing the getAsin() strings, but
+     * without rebuilding packed ASINs.
+     *
+     * @param other the promise to compare ASINs with
+     * @return negative, zero or positive as this promise's ASIN sorts before, the same as, or after other's
+     */
+    public int compareAsinTo(Promise other) {
+        if (PackedAsin.NONE != packedAsin && PackedAsin.NONE != other.packedAsin) {
+            return Long.compare(packedAsin, other.packedAsin);
+        }
+        return getAsin().compareTo(other.getAsin());
     }
 
     public int getConfidence() {
@@ -87,37 +155,71 @@ public class Promise {
     }
 
     /**
-     * Sets the confidence value associated with the item ID this promise corresponds to. Allow setting
-     * it after build/instantiation to allow centralization of logic across promise providers, and to
-     * accommodate tracking determination.
+     * Returns a copy of this promise with the confidence value associated with the item ID this promise
+     * corresponds to. Allows adding it after build to allow centralization of logic across promise providers, and
+     * to accommodate tracking determination.
      * @param isConfidenceTracked Whether this item is one of the items tracked by Global Transportation.
      * @param trackedConfidence The confidence in promises related to this item, if tracked; otherwise a random
      * integer that should be ignored.
+     * @return a promise with the given confidence; this promise if it already has it
      */
-    public void setConfidence(boolean isConfidenceTracked, int trackedConfidence) {
-        this.confidence = trackedConfidence;
+    public Promise withConfidence(boolean isConfidenceTracked, int trackedConfidence) {
+        if (confidence == trackedConfidence) {
+            return this;
+        }
+        Promise promise = copy();
+        promise.confidence = trackedConfidence;
+        return promise;
     }
 
     /**
-     * Sets the delivery date associated with the order item ID this promise corresponds to. Allow
-     * setting it after build/instantiation to allow centralization of logic across promise providers.
+     * Returns a copy of this promise with the delivery date associated with the order item ID this promise
+     * corresponds to. Allows adding it after build to allow centralization of logic across promise providers.
+     * The date is kept to the second.
      * @param deliveryDate the ZonedDateTime containing the delivery date for the shipment containing the order ID
+     * @return a promise with the given delivery date; this promise if it already has it
      */
-    public void setDeliveryDate(ZonedDateTime deliveryDate) {
-        this.deliveryDate = deliveryDate;
+    public Promise withDeliveryDate(ZonedDateTime deliveryDate) {
+        long epochSecond = EpochTime.of(deliveryDate);
+        ZoneId dateZone = null == deliveryDate ? null : deliveryDate.getZone();
+        if (deliveryEpochSecond == epochSecond && Objects.equals(deliveryZone, dateZone)) {
+            return this;
+        }
+        Promise promise = copy();
+        promise.deliveryEpochSecond = epochSecond;
+        promise.deliveryZone = dateZone;
+        return promise;
+    }
+
+    private Promise copy() {
+        Promise promise = new Promise();
+        promise.customerOrderItemId = customerOrderItemId;
+        promise.packedAsin = packedAsin;
+        promise.unpackedAsin = unpackedAsin;
+        promise.active = active;
+        promise.promiseEffectiveEpochSecond = promiseEffectiveEpochSecond;
+        promise.promiseLatestArrivalEpochSecond = promiseLatestArrivalEpochSecond;
+        promise.promiseLatestShipEpochSecond = promiseLatestShipEpochSecond;
+        promise.zone = zone;
+        promise.deliveryEpochSecond = deliveryEpochSecond;
+        promise.deliveryZone = deliveryZone;
+        promise.provider = provider;
+        promise.otherProvider = otherProvider;
+        promise.confidence = confidence;
+        return promise;
     }
 
     @Override
     public String toString() {
         return "Promise{" +
                "customerOrderItemId='" + customerOrderItemId + '\'' +
-               ", asin='" + asin + '\'' +
+               ", asin='" + getAsin() + '\'' +
                ", isActive=" + active +
-               ", promiseEffectiveDate=" + promiseEffectiveDate +
-               ", promiseLatestArrivalDate=" + promiseLatestArrivalDate +
-               ", promiseLatestShipDate=" + promiseLatestShipDate +
-               ", deliveryDate=" + deliveryDate +
-               ", promiseProvidedBy='" + promiseProvidedBy + '\'' +
+               ", promiseEffectiveDate=" + getPromiseEffectiveDate() +
+               ", promiseLatestArrivalDate=" + getPromiseLatestArrivalDate() +
+               ", promiseLatestShipDate=" + getPromiseLatestShipDate() +
+               ", deliveryDate=" + getDeliveryDate() +
+               ", promiseProvidedBy='" + getPromiseProvidedBy() + '\'' +
                '}';
     }
 
@@ -128,9 +230,10 @@ public class Promise {
         private String customerOrderItemId;
         private String asin;
         private boolean active;
-        private ZonedDateTime promiseEffectiveDate;
-        private ZonedDateTime promiseLatestArrivalDate;
-        private ZonedDateTime promiseLatestShipDate;
+        private long promiseEffectiveEpochSecond = EpochTime.NONE;
+        private long promiseLatestArrivalEpochSecond = EpochTime.NONE;
+        private long promiseLatestShipEpochSecond = EpochTime.NONE;
+        private ZoneId zone;
         private ZonedDateTime deliveryDate;
         private String promiseProvidedBy;
 
@@ -152,17 +255,46 @@ public class Promise {
         }
 
         public Builder withPromiseEffectiveDate(ZonedDateTime promiseEffectiveDate) {
-            this.promiseEffectiveDate = promiseEffectiveDate;
+            this.promiseEffectiveEpochSecond = EpochTime.of(promiseEffectiveDate);
+            if (null != promiseEffectiveDate) {
+                this.zone = promiseEffectiveDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseEffectiveEpochSecond(long promiseEffectiveEpochSecond) {
+            this.promiseEffectiveEpochSecond = promiseEffectiveEpochSecond;
             return this;
         }
 
         public Builder withPromiseLatestArrivalDate(ZonedDateTime promiseLatestArrivalDate) {
-            this.promiseLatestArrivalDate = promiseLatestArrivalDate;
+            this.promiseLatestArrivalEpochSecond = EpochTime.of(promiseLatestArrivalDate);
+            if (null != promiseLatestArrivalDate) {
+                this.zone = promiseLatestArrivalDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseLatestArrivalEpochSecond(long promiseLatestArrivalEpochSecond) {
+            this.promiseLatestArrivalEpochSecond = promiseLatestArrivalEpochSecond;
+            return this;
+        }
+
+        public Builder withZone(ZoneId zone) {
+            this.zone = zone;
             return this;
         }
 
         public Builder withPromiseLatestShipDate(ZonedDateTime promiseLatestShipDate) {
-            this.promiseLatestShipDate = promiseLatestShipDate;
+            this.promiseLatestShipEpochSecond = EpochTime.of(promiseLatestShipDate);
+            if (null != promiseLatestShipDate) {
+                this.zone = promiseLatestShipDate.getZone();
+            }
+            return this;
+        }
+
+        public Builder withPromiseLatestShipEpochSecond(long promiseLatestShipEpochSecond) {
+            this.promiseLatestShipEpochSecond = promiseLatestShipEpochSecond;
             return this;
         }
 
@@ -185,13 +317,18 @@ public class Promise {
         public Promise build() {
             Promise promise = new Promise();
             promise.customerOrderItemId = customerOrderItemId;
-            promise.asin = asin;
+            promise.packedAsin = PackedAsin.pack(asin);
+            promise.unpackedAsin = PackedAsin.NONE == promise.packedAsin ? asin : null;
             promise.active = active;
-            promise.promiseEffectiveDate = promiseEffectiveDate;
-            promise.promiseLatestArrivalDate = promiseLatestArrivalDate;
-            promise.promiseLatestShipDate = promiseLatestShipDate;
-            promise.deliveryDate = deliveryDate;
-            promise.promiseProvidedBy = promiseProvidedBy;
+            promise.promiseEffectiveEpochSecond = promiseEffectiveEpochSecond;
+            promise.promiseLatestArrivalEpochSecond = promiseLatestArrivalEpochSecond;
+            promise.promiseLatestShipEpochSecond = promiseLatestShipEpochSecond;
+            promise.zone = zone;
+            promise.deliveryEpochSecond = EpochTime.of(deliveryDate);
+            promise.deliveryZone = null == deliveryDate ? null : deliveryDate.getZone();
+            PromiseProvider knownProvider = PromiseProvider.fromName(promiseProvidedBy);
+            promise.provider = null == knownProvider ? NO_PROVIDER : (byte) knownProvider.ordinal();
+            promise.otherProvider = null == knownProvider ? promiseProvidedBy : null;
 
             return promise;
         }
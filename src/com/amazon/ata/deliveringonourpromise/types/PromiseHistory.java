@@ -1,18 +1,33 @@
 package com.amazon.ata.deliveringonourpromise.types;
 
 import com.amazon.ata.deliveringonourpromise.comparators.PromiseAsinComparator;
+import com.amazon.ata.deliveringonourpromise.comparators.PromiseEffectiveDateComparator;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Data object containing the order details as well as the set of promises for the given order. If the
  * order does not exist it will be null, and the PromiseHistory will contain no promises.
+ *
+ * Promises are kept sorted as they are added, by ASIN and then by promise effective date. Promises that
+ * compare equal keep the order in which they were added.
  */
 public class PromiseHistory {
+    private static final Comparator<Promise> DEFAULT_PROMISE_ORDER =
+            new PromiseAsinComparator().thenComparing(new PromiseEffectiveDateComparator());
+
     private Order order;
+    private Comparator<Promise> promiseOrder;
     private List<Promise> promises = new ArrayList<>();
+    private List<Promise> promisesView = Collections.unmodifiableList(promises);
+    private boolean partial;
+    private Set<String> missingSources;
 
     /**
      * Constructs a new promise history with the given order. A null order value is allowed here.
@@ -21,7 +36,22 @@ public class PromiseHistory {
      * @param order the order these promises correspond to
      */
     public PromiseHistory(Order order) {
+        this(order, DEFAULT_PROMISE_ORDER);
+    }
+
+    /**
+     * Constructs a new promise history with the given order, keeping its promises in the given order.
+     * Use {@code Comparator.thenComparing} to add secondary sort keys.
+     *
+     * @param order the order these promises correspond to
+     * @param promiseOrder the ordering to keep the promises in
+     */
+    public PromiseHistory(Order order, Comparator<Promise> promiseOrder) {
+        if (null == promiseOrder) {
+            throw new IllegalArgumentException("PromiseHistory requires a non-null promise ordering");
+        }
         this.order = order;
+        this.promiseOrder = promiseOrder;
     }
 
     public Order getOrder() {
@@ -29,7 +59,7 @@ public class PromiseHistory {
     }
 
     /**
-     * Adds a Promise to the promise history.
+     * Adds a Promise to the promise history, in sorted position.
      *
      * @param newPromise the next promise to add to the history's promises
      */
@@ -41,17 +71,85 @@ public class PromiseHistory {
         if (order == null) {
             throw new IllegalArgumentException("Promises cannot be added for a null order.");
         }
-        promises.add(newPromise);
+        promises.add(insertionIndex(newPromise), newPromise);
     }
 
     /**
-     * Returns the promise history's promises.
+     * Returns the promise history's promises, in sorted order. The returned list is a read-only view
+     * and reflects promises added later.
      *
      * @return the promises
      */
     public List<Promise> getPromises() {
-        Comparator<Promise> promiseComparator = new PromiseAsinComparator();
-        promises.sort(promiseComparator);
-        return new ArrayList<>(promises);
+        return promisesView;
+    }
+
+    /**
+     * Records that this history is missing promises because the request ran out of time before every order item
+     * was looked up.
+     */
+    public void markPartial() {
+        this.partial = true;
+    }
+
+    /**
+     * Records the promise sources (e.g. "DPS", "OFS") that failed while this history's promises were looked up.
+     *
+     * @param sources names of the sources whose promises or data are missing
+     */
+    public void addMissingSources(Collection<String> sources) {
+        if (sources.isEmpty()) {
+            return;
+        }
+        if (missingSources == null) {
+            missingSources = new TreeSet<>();
+        }
+        missingSources.addAll(sources);
+    }
+
+    /**
+     * Returns the names of the promise sources that failed while this history was built, in alphabetical order.
+     *
+     * @return read-only set of missing source names; empty if every source answered
+     */
+    public Set<String> getMissingSources() {
+        if (missingSources == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(missingSources);
+    }
+
+    /**
+     * Indicates whether the request ran out of time before every order item was looked up (see
+     * {@link #markPartial()}). Promises missing because a source failed are reported separately, by
+     * {@link #getMissingSources()}.
+     *
+     * @return true if some order items were not looked up; false otherwise
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    /*
+     * Binary searches for the position after the last promise that does not order after newPromise, so that
+     * equal promises stay in insertion order. Appending in order (the common case) needs a single comparison.
+     */
+    private int insertionIndex(Promise newPromise) {
+        int size = promises.size();
+        if (size == 0 || promiseOrder.compare(promises.get(size - 1), newPromise) <= 0) {
+            return size;
+        }
+
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (promiseOrder.compare(promises.get(mid), newPromise) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 }
@@ -0,0 +1,58 @@
+package com.amazon.ata.deliveringonourpromise.types;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of promise histories, one per order, with the token to pass back for the next page.
+ */
+public class PromiseHistoryPage {
+    private final List<PromiseHistory> promiseHistories;
+    private final String nextPageToken;
+
+    /**
+     * Constructs a page holding the given promise histories.
+     *
+     * @param promiseHistories the promise histories on this page
+     * @param nextPageToken the token to fetch the next page with, or null if this is the last page
+     */
+    public PromiseHistoryPage(List<PromiseHistory> promiseHistories, String nextPageToken) {
+        this.promiseHistories = Collections.unmodifiableList(promiseHistories);
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * Returns the promise histories on this page.
+     *
+     * @return read-only list of the page's promise histories
+     */
+    public List<PromiseHistory> getPromiseHistories() {
+        return promiseHistories;
+    }
+
+    /**
+     * Returns the token to pass back to fetch the next page.
+     *
+     * @return the next page's token, or null if this is the last page
+     */
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    /**
+     * Returns whether there are more promise histories after this page.
+     *
+     * @return true if there is a next page
+     */
+    public boolean hasNextPage() {
+        return null != nextPageToken;
+    }
+
+    @Override
+    public String toString() {
+        return "PromiseHistoryPage{" +
+               "promiseHistories=" + promiseHistories +
+               ", nextPageToken='" + nextPageToken + '\'' +
+               '}';
+    }
+}
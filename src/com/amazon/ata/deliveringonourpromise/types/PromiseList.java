@@ -0,0 +1,58 @@
+package com.amazon.ata.deliveringonourpromise.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The Promises found for an order item, along with the names of any promise sources (e.g. "DPS", "OFS", "OMA")
+ * that failed while they were being looked up. When a source is missing, the list holds only the promises
+ * from the sources that answered.
+ */
+public class PromiseList extends ArrayList<Promise> {
+    private static final long serialVersionUID = 1L;
+
+    private Set<String> missingSources;
+
+    /**
+     * Creates an empty list with no missing sources.
+     */
+    public PromiseList() {
+        super();
+    }
+
+    /**
+     * Creates a list holding the given promises, with no missing sources.
+     *
+     * @param promises the promises to hold
+     */
+    public PromiseList(Collection<Promise> promises) {
+        super(promises);
+    }
+
+    /**
+     * Records that the given promise source failed and its promises (or data) are missing from this list.
+     *
+     * @param source name of the promise source, e.g. "DPS"
+     */
+    public void addMissingSource(String source) {
+        if (missingSources == null) {
+            missingSources = new TreeSet<>();
+        }
+        missingSources.add(source);
+    }
+
+    /**
+     * Returns the names of the promise sources that failed, in alphabetical order.
+     *
+     * @return read-only set of missing source names; empty if every source answered
+     */
+    public Set<String> getMissingSources() {
+        if (missingSources == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(missingSources);
+    }
+}
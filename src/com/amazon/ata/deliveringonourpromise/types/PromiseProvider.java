@@ -0,0 +1,31 @@
+package com.amazon.ata.deliveringonourpromise.types;
+
+/**
+ * The promise services a Promise can come from. A Promise stores its provider as one of these ordinals rather
+ * than as the provider's name.
+ */
+public enum PromiseProvider {
+    DPS,
+    OFS;
+
+    private static final PromiseProvider[] VALUES = values();
+
+    /**
+     * Returns the provider with the given name.
+     *
+     * @param name the provider's name, e.g. "DPS"; may be null
+     * @return the provider, or null if no provider has that name
+     */
+    public static PromiseProvider fromName(String name) {
+        for (PromiseProvider provider : VALUES) {
+            if (provider.name().equals(name)) {
+                return provider;
+            }
+        }
+        return null;
+    }
+
+    static PromiseProvider fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,107 @@
+package com.amazon.ata.deliveringonourpromise;
+
+import com.amazon.ata.deliveringonourpromise.activity.GetPromiseHistoryByOrderIdActivity;
+import com.amazon.ata.ordermanipulationauthority.OrderManipulationAuthority;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventsTest {
+    private static final String REQUEST_EVENT = "com.amazon.ata.deliveringonourpromise.PromiseHistoryRequest";
+    private static final String LOOKUP_EVENT = "com.amazon.ata.deliveringonourpromise.PromiseLookup";
+    private static final String CONVERSION_EVENT = "com.amazon.ata.ordermanipulationauthority.OrderConversion";
+    private static final String DATASTORE_EVENT = "com.amazon.ata.deliveringonourpromise.data.OrderDatastoreRead";
+
+    private static final String ORDER_ID = "900-3746401-0000001";
+
+    @Test
+    public void getPromiseHistoryByOrderId_zeroThresholds_recordsEventForEveryLayer() throws IOException {
+        // GIVEN
+        GetPromiseHistoryByOrderIdActivity activity = App.getPromiseHistoryByOrderIdActivity();
+
+        // WHEN
+        List<RecordedEvent> events = record(Duration.ZERO, () -> activity.getPromiseHistoryByOrderId(ORDER_ID));
+
+        // THEN
+        RecordedEvent request = only(events, REQUEST_EVENT);
+        assertEquals(ORDER_ID, request.getString("orderId"));
+        assertTrue(request.getBoolean("orderFound"));
+        assertEquals(1, request.getInt("promiseCount"));
+        assertEquals("", request.getString("missingSources"));
+
+        RecordedEvent lookup = only(events, LOOKUP_EVENT);
+        assertEquals(1, lookup.getInt("promiseCount"));
+        assertEquals("DPS", lookup.getString("sourcesHit"));
+
+        List<RecordedEvent> reads = ofType(events, DATASTORE_EVENT);
+        assertTrue(reads.stream().anyMatch(e -> "getOrderData".equals(e.getString("operation")) &&
+                                                ORDER_ID.equals(e.getString("key")) && e.getBoolean("fixture")));
+        assertTrue(reads.stream().anyMatch(e -> "getOrderItemData".equals(e.getString("operation")) &&
+                                                e.getBoolean("found")));
+    }
+
+    @Test
+    public void getCustomerOrderByOrderId_zeroThreshold_recordsOrderConversion() throws IOException {
+        // GIVEN - an OMA that doesn't cache, so it converts the order on every call
+        OrderManipulationAuthority oma = new OrderManipulationAuthority(App.getOrderDatastore(), 0);
+
+        // WHEN
+        List<RecordedEvent> events = record(Duration.ZERO, () -> oma.getCustomerOrderByOrderId(ORDER_ID));
+
+        // THEN
+        RecordedEvent conversion = only(events, CONVERSION_EVENT);
+        assertEquals(ORDER_ID, conversion.getString("orderId"));
+        assertEquals(1, conversion.getInt("itemCount"));
+    }
+
+    @Test
+    public void getPromiseHistoryByOrderId_fastRequestsUnderThreshold_recordsNothing() throws IOException {
+        // GIVEN
+        GetPromiseHistoryByOrderIdActivity activity = App.getPromiseHistoryByOrderIdActivity();
+        activity.getPromiseHistoryByOrderId(ORDER_ID);
+
+        // WHEN
+        List<RecordedEvent> events = record(Duration.ofHours(1), () -> activity.getPromiseHistoryByOrderId(ORDER_ID));
+
+        // THEN
+        assertTrue(events.isEmpty(), "Expected no events over a one hour threshold but got " + events);
+    }
+
+    private static List<RecordedEvent> record(Duration threshold, Runnable work) throws IOException {
+        Path file = Files.createTempFile("promise-history", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : new String[] {REQUEST_EVENT, LOOKUP_EVENT, CONVERSION_EVENT, DATASTORE_EVENT}) {
+                recording.enable(event).withThreshold(threshold).withoutStackTrace();
+            }
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).collect(Collectors.toList());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = ofType(events, name);
+        assertEquals(1, matching.size(), "Expected exactly one " + name + " event but got " + matching);
+        return matching.get(0);
+    }
+}
@@ -1,6 +1,8 @@
 package com.amazon.ata.deliveringonourpromise;
 
 import com.amazon.ata.deliveringonourpromise.promisehistoryservice.PromiseHistoryClient;
+import com.amazon.ata.deliveringonourpromise.tracing.Span;
+import com.amazon.ata.deliveringonourpromise.tracing.Tracer;
 import com.amazon.ata.deliveringonourpromise.types.Order;
 import com.amazon.ata.deliveringonourpromise.types.OrderItem;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
@@ -17,6 +19,7 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -26,6 +29,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ShellTest {
@@ -180,6 +185,92 @@ public class ShellTest {
         assertPromiseMatch(promise2, order, result);
     }
 
+    @Test
+    public void handleUserRequest_partialHistoryWithMissingSource_includesBothNotes() {
+        // GIVEN
+        Order order = Order.builder()
+                          .withOrderId("111-7497023-2960775")
+                          .withCustomerId("12345")
+                          .withCondition(OrderCondition.CLOSED)
+                          .withMarketplaceId("1")
+                          .withOrderDate(ZonedDateTime.now().minusDays(1))
+                          .withShipOption("second")
+                          .build();
+        PromiseHistory promiseHistory = new PromiseHistory(order);
+        promiseHistory.addMissingSources(Collections.singleton("DPS"));
+        promiseHistory.markPartial();
+
+        when(mockUserHandler.getString(anyString(), anyString())).thenReturn(order.getOrderId());
+        when(mockPromiseHistoryClient.getPromiseHistoryByOrderId(any())).thenReturn(promiseHistory);
+
+        // WHEN
+        String result = shell.handleUserRequest();
+
+        // THEN
+        assertTrue(result.contains("promises from DPS could not be retrieved"),
+                   "Expected the missing source note, but was: " + result);
+        assertTrue(result.contains("the request timed out"), "Expected the timeout note, but was: " + result);
+    }
+
+    @Test
+    public void handleUserRequest_missingSourceWithoutTimeout_omitsTimeoutNote() {
+        // GIVEN
+        Order order = Order.builder()
+                          .withOrderId("111-7497023-2960775")
+                          .withCustomerId("12345")
+                          .withCondition(OrderCondition.CLOSED)
+                          .withMarketplaceId("1")
+                          .withOrderDate(ZonedDateTime.now().minusDays(1))
+                          .withShipOption("second")
+                          .build();
+        PromiseHistory promiseHistory = new PromiseHistory(order);
+        promiseHistory.addMissingSources(Collections.singleton("OFS"));
+
+        when(mockUserHandler.getString(anyString(), anyString())).thenReturn(order.getOrderId());
+        when(mockPromiseHistoryClient.getPromiseHistoryByOrderId(any())).thenReturn(promiseHistory);
+
+        // WHEN
+        String result = shell.handleUserRequest();
+
+        // THEN
+        assertTrue(result.contains("promises from OFS could not be retrieved"),
+                   "Expected the missing source note, but was: " + result);
+        assertFalse(result.contains("the request timed out"), "Expected no timeout note, but was: " + result);
+    }
+
+    @Test
+    public void handleUserRequest_tracesCommand_rendersRecentTraces() {
+        // GIVEN
+        Tracer tracer = new Tracer(1.0, 1);
+        try (Span span = tracer.startTrace("GetPromiseHistoryByOrderId")) {
+            span.setAttribute("orderId", "111-7497023-2960775");
+        }
+        when(mockUserHandler.getString(anyString(), anyString())).thenReturn(Shell.SHOW_TRACES_COMMAND);
+        when(mockPromiseHistoryClient.getRecentTraces()).thenReturn(tracer.getRecentTraces());
+
+        // WHEN
+        String result = shell.handleUserRequest();
+
+        // THEN
+        assertTrue(result.contains("GetPromiseHistoryByOrderId") && result.contains("orderId=111-7497023-2960775"),
+                   "Expected the recent trace to be rendered, but was: " + result);
+        verify(mockPromiseHistoryClient, never()).getPromiseHistoryByOrderId(anyString());
+    }
+
+    @Test
+    public void handleUserRequest_tracesCommandWithNoTraces_saysSo() {
+        // GIVEN
+        when(mockUserHandler.getString(anyString(), anyString())).thenReturn(Shell.SHOW_TRACES_COMMAND);
+        when(mockPromiseHistoryClient.getRecentTraces()).thenReturn(Collections.emptyList());
+
+        // WHEN
+        String result = shell.handleUserRequest();
+
+        // THEN
+        assertEquals("No requests have been traced yet. Run with -Dtracing.sampleRate=1 to trace every request.",
+                     result);
+    }
+
     @Test
     void userHasAnotherRequest_responseIsY_returnsTrue() {
         // GIVEN
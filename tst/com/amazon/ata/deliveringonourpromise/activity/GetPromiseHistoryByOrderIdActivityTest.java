@@ -2,15 +2,23 @@ package com.amazon.ata.deliveringonourpromise.activity;
 
 import com.amazon.ata.deliveringonourpromise.App;
 import com.amazon.ata.deliveringonourpromise.dao.ReadOnlyDao;
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
+import com.amazon.ata.deliveringonourpromise.metrics.CallMetrics;
 import com.amazon.ata.deliveringonourpromise.types.Order;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
 import com.amazon.ata.deliveringonourpromise.types.PromiseHistory;
+import com.amazon.ata.deliveringonourpromise.types.PromiseList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -64,4 +72,72 @@ public class GetPromiseHistoryByOrderIdActivityTest {
                    )
         );
     }
+
+    @Test
+    public void getPromiseHistoryByOrderId_deadlineExpiredBeforeOrderFetched_throwsDeadlineExceeded() {
+        // GIVEN
+        String orderId = "900-3746401-0000001";
+
+        // WHEN + THEN
+        try (Deadline.Scope scope = Deadline.after(Duration.ZERO).attach()) {
+            assertThrows(DeadlineExceededException.class, () -> activity.getPromiseHistoryByOrderId(orderId));
+        }
+    }
+
+    @Test
+    public void getPromiseHistoryByOrderId_deadlineCancelledDuringPromiseLookups_returnsPartialHistory() {
+        // GIVEN - a three item order, and a promise DAO that gives up after the first item
+        String orderId = "900-3746403-0000001";
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+        ReadOnlyDao<String, List<Promise>> cancellingPromiseDao = orderItemId -> {
+            List<Promise> promises = promiseDao.get(orderItemId);
+            deadline.cancel();
+            return promises;
+        };
+        activity = new GetPromiseHistoryByOrderIdActivity(orderDao, cancellingPromiseDao);
+
+        // WHEN
+        PromiseHistory history;
+        try (Deadline.Scope scope = deadline.attach()) {
+            history = activity.getPromiseHistoryByOrderId(orderId);
+        }
+
+        // THEN
+        assertTrue(history.isPartial());
+        assertEquals(orderId, history.getOrder().getOrderId());
+    }
+
+    @Test
+    public void getPromiseHistoryByOrderId_withinDeadline_returnsCompleteHistory() {
+        // GIVEN
+        String orderId = "900-3746403-0000001";
+
+        // WHEN
+        PromiseHistory history;
+        try (Deadline.Scope scope = Deadline.after(Duration.ofMinutes(1)).attach()) {
+            history = activity.getPromiseHistoryByOrderId(orderId);
+        }
+
+        // THEN
+        assertFalse(history.isPartial());
+    }
+
+    @Test
+    public void getPromiseHistoryByOrderId_promiseListDaoMissingSource_recordsMissingSource() {
+        // GIVEN - a promise DAO whose DPS lookups fail for every item
+        String orderId = "900-3746403-0000001";
+        ReadOnlyDao<String, PromiseList> dpsFailingPromiseDao = orderItemId -> {
+            PromiseList promises = new PromiseList(promiseDao.get(orderItemId));
+            promises.addMissingSource("DPS");
+            return promises;
+        };
+        activity = new GetPromiseHistoryByOrderIdActivity(orderDao, dpsFailingPromiseDao,
+            new CallMetrics(GetPromiseHistoryByOrderIdActivity.class.getSimpleName()));
+
+        // WHEN
+        PromiseHistory history = activity.getPromiseHistoryByOrderId(orderId);
+
+        // THEN
+        assertEquals(Collections.singleton("DPS"), history.getMissingSources());
+    }
 }
@@ -0,0 +1,128 @@
+package com.amazon.ata.deliveringonourpromise.callaccounting;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CallBudgetTest {
+    private static final String GET_ORDER = "OMA getCustomerOrderByOrderId";
+    private static final String GET_PROMISE = "DPS getDeliveryPromise";
+
+    private final List<String> violations = new ArrayList<>();
+    private final CallBudget budget = CallBudget.builder()
+        .withApiName("GetPromiseHistoryByOrderId")
+        .withLimit(GET_ORDER, 1, 1)
+        .withLimit(GET_PROMISE, 0, 2)
+        .withViolationHandler(violations::add)
+        .build();
+
+    @Test
+    public void check_withinBudget_reportsNothing() {
+        // GIVEN
+        CallCounts counts = countsOf(GET_ORDER, GET_ORDER, GET_ORDER, GET_PROMISE, GET_PROMISE, GET_PROMISE);
+
+        // WHEN
+        budget.check(counts, 2);
+
+        // THEN
+        assertTrue(violations.isEmpty(), "Expected no violations but got " + violations);
+    }
+
+    @Test
+    public void check_extraRoundTrip_reportsOperationCountAndLimit() {
+        // GIVEN
+        CallCounts counts = countsOf(GET_ORDER, GET_ORDER, GET_ORDER);
+
+        // WHEN
+        budget.check(counts, 1);
+
+        // THEN
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).contains("GetPromiseHistoryByOrderId") &&
+                   violations.get(0).contains(GET_ORDER + " called 3 times (budget 2)"), violations.get(0));
+    }
+
+    @Test
+    public void check_operationNotInBudget_reportsIt() {
+        // GIVEN
+        CallCounts counts = countsOf("OFS getOrderPromise");
+
+        // WHEN
+        budget.check(counts, 10);
+
+        // THEN
+        assertEquals(1, violations.size());
+        assertTrue(violations.get(0).contains("OFS getOrderPromise called 1 times (budget 0)"), violations.get(0));
+    }
+
+    @Test
+    public void check_failingHandler_throwsCallBudgetExceededException() {
+        // GIVEN
+        CallBudget failingBudget = CallBudget.builder()
+            .withApiName("GetPromiseHistoryByOrderId")
+            .withLimit(GET_ORDER, 1, 0)
+            .withViolationHandler(CallBudgetViolationHandler.failing())
+            .build();
+
+        // WHEN + THEN
+        assertThrows(CallBudgetExceededException.class, () -> failingBudget.check(countsOf(GET_ORDER, GET_ORDER), 0));
+    }
+
+    @Test
+    public void check_unlimited_reportsNothing() {
+        // GIVEN
+        CallCounts counts = countsOf(GET_ORDER, GET_ORDER, GET_ORDER);
+
+        // WHEN + THEN - no exception
+        CallBudget.unlimited().check(counts, 0);
+    }
+
+    @Test
+    public void execute_callCountingPolicy_countsOnlyWhileAttached() {
+        // GIVEN
+        CallCounts counts = new CallCounts();
+
+        // WHEN
+        CallCountingPolicy.INSTANCE.execute(GET_ORDER, () -> "before");
+        try (CallCounts.Scope scope = counts.attach()) {
+            CallCountingPolicy.INSTANCE.execute(GET_ORDER, () -> "during");
+            CallCountingPolicy.INSTANCE.execute(GET_ORDER, () -> "during");
+        }
+        CallCountingPolicy.INSTANCE.execute(GET_ORDER, () -> "after");
+
+        // THEN
+        assertEquals(2, counts.getCount(GET_ORDER));
+        assertEquals(0, CallCounts.current().getCount(GET_ORDER));
+    }
+
+    @Test
+    public void getDeliveryPromise_callCountingService_countsCallsItReceives() {
+        // GIVEN
+        CallCountingDeliveryPromiseService service =
+            new CallCountingDeliveryPromiseService(OrderDatastore.getDatastore(), GET_PROMISE);
+        CallCounts counts = new CallCounts();
+
+        // WHEN
+        try (CallCounts.Scope scope = counts.attach()) {
+            service.getDeliveryPromise("20655079937885");
+        }
+
+        // THEN
+        assertEquals(1, counts.getCount(GET_PROMISE));
+    }
+
+    private static CallCounts countsOf(String... operations) {
+        CallCounts counts = new CallCounts();
+        for (String operation : operations) {
+            counts.record(operation);
+        }
+        return counts;
+    }
+}
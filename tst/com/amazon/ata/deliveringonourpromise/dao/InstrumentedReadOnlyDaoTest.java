@@ -0,0 +1,43 @@
+package com.amazon.ata.deliveringonourpromise.dao;
+
+import com.amazon.ata.deliveringonourpromise.metrics.CallMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class InstrumentedReadOnlyDaoTest {
+
+    @Test
+    public void get_delegateReturns_recordsResultSizeAndReturnsResult() {
+        // GIVEN
+        List<String> result = Arrays.asList("a", "b", "c");
+        CallMetrics metrics = new CallMetrics("test");
+        ReadOnlyDao<String, List<String>> dao = new InstrumentedReadOnlyDao<>(id -> result, metrics, List::size);
+
+        // WHEN
+        List<String> returned = dao.get("id");
+
+        // THEN
+        assertSame(result, returned);
+        assertEquals(1, metrics.getCalls());
+        assertEquals(3.0, metrics.getMeanResultSize(), 0.0001);
+    }
+
+    @Test
+    public void get_delegateThrows_recordsErrorAndRethrows() {
+        // GIVEN
+        CallMetrics metrics = new CallMetrics("test");
+        ReadOnlyDao<String, List<String>> dao = new InstrumentedReadOnlyDao<>(id -> {
+            throw new IllegalStateException("failure");
+        }, metrics, List::size);
+
+        // WHEN + THEN
+        assertThrows(IllegalStateException.class, () -> dao.get("id"));
+        assertEquals(1, metrics.getErrors());
+    }
+}
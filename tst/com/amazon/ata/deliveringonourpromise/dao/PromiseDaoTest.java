@@ -4,7 +4,9 @@ import com.amazon.ata.deliveringonourpromise.App;
 import com.amazon.ata.deliveringonourpromise.deliverypromiseservice.DeliveryPromiseServiceClient;
 import com.amazon.ata.deliveringonourpromise.orderfulfillmentservice.OrderFulfillmentServiceClient;
 import com.amazon.ata.deliveringonourpromise.ordermanipulationauthority.OrderManipulationAuthorityClient;
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
 import com.amazon.ata.deliveringonourpromise.types.Promise;
+import com.amazon.ata.deliveringonourpromise.types.PromiseList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +17,12 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class PromiseDaoTest {
 
@@ -197,6 +204,61 @@ public class PromiseDaoTest {
         assertNull(dpsPromise.getDeliveryDate());
     }
 
+    @Test
+    public void getPromiseList_dpsClientFails_returnsOfsPromiseAndRecordsDpsAsMissing() {
+        // GIVEN - a fixture whose item has an OFS promise, and a failing DPS client
+        DeliveryPromiseServiceClient failingDpsClient = mock(DeliveryPromiseServiceClient.class);
+        when(failingDpsClient.getPromiseByOrderItemId(anyString())).thenThrow(new IllegalStateException("DPS down"));
+        dao = new PromiseDao(failingDpsClient, omaClient, ofsClient);
+
+        // WHEN
+        PromiseList promises = dao.getPromiseList(deliveredOrderItemId);
+
+        // THEN
+        assertNull(findPromiseFromSource(promises, "DPS"));
+        assertNotNull(findPromiseFromSource(promises, "OFS"));
+        assertTrue(promises.getMissingSources().contains("DPS"));
+    }
+
+    @Test
+    public void getPromiseList_omaClientFails_returnsPromisesWithoutDeliveryDateAndRecordsOmaAsMissing() {
+        // GIVEN
+        OrderManipulationAuthorityClient failingOmaClient = mock(OrderManipulationAuthorityClient.class);
+        when(failingOmaClient.getDeliveryDatesByOrderItemIds(anyCollection()))
+            .thenThrow(new IllegalStateException("OMA down"));
+        dao = new PromiseDao(dpsClient, failingOmaClient, ofsClient);
+
+        // WHEN
+        PromiseList promises = dao.getPromiseList(deliveredOrderItemId);
+
+        // THEN
+        Promise dpsPromise = findPromiseFromSource(promises, "DPS");
+        assertNotNull(dpsPromise);
+        assertNull(dpsPromise.getDeliveryDate());
+        assertTrue(promises.getMissingSources().contains("OMA"));
+    }
+
+    @Test
+    public void getPromiseList_allSourcesAnswer_recordsNoMissingSources() {
+        // WHEN
+        PromiseList promises = dao.getPromiseList(deliveredOrderItemId);
+
+        // THEN
+        assertTrue(promises.getMissingSources().isEmpty());
+    }
+
+    @Test
+    public void get_clientDeadlineExceeded_isNotTreatedAsSourceFailure() {
+        // GIVEN
+        DeliveryPromiseServiceClient expiredDpsClient = mock(DeliveryPromiseServiceClient.class);
+        when(expiredDpsClient.getPromiseByOrderItemId(anyString()))
+            .thenThrow(new DeadlineExceededException("out of time"));
+        dao = new PromiseDao(expiredDpsClient, omaClient, ofsClient);
+
+        // WHEN + THEN
+        assertThrows(DeadlineExceededException.class, () -> dao.get(deliveredOrderItemId));
+    }
+
     /**
      * Searches through the given Promises looking for a Promise from the provider indicated in promiseProvidedBy.
      *
@@ -0,0 +1,75 @@
+package com.amazon.ata.deliveringonourpromise.deadline;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DeadlineTest {
+
+    @Test
+    public void current_noDeadlineAttached_returnsNone() {
+        // WHEN + THEN
+        assertSame(Deadline.none(), Deadline.current());
+        assertFalse(Deadline.current().isExpired());
+    }
+
+    @Test
+    public void attach_nestedScopes_restoresPreviousDeadlineOnClose() {
+        // GIVEN
+        Deadline outer = Deadline.after(Duration.ofMinutes(1));
+        Deadline inner = Deadline.after(Duration.ofMinutes(2));
+
+        // WHEN + THEN
+        try (Deadline.Scope outerScope = outer.attach()) {
+            try (Deadline.Scope innerScope = inner.attach()) {
+                assertSame(inner, Deadline.current());
+            }
+            assertSame(outer, Deadline.current());
+        }
+        assertSame(Deadline.none(), Deadline.current());
+    }
+
+    @Test
+    public void checkRemaining_zeroTimeout_throwsDeadlineExceeded() {
+        // GIVEN
+        Deadline deadline = Deadline.after(Duration.ZERO);
+
+        // WHEN + THEN
+        assertTrue(deadline.isExpired());
+        assertThrows(DeadlineExceededException.class, () -> deadline.checkRemaining("test"));
+    }
+
+    @Test
+    public void checkRemaining_cancelledDeadline_throwsDeadlineExceeded() {
+        // GIVEN
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+
+        // WHEN
+        deadline.cancel();
+
+        // THEN
+        assertTrue(deadline.isCancelled());
+        assertThrows(DeadlineExceededException.class, () -> deadline.checkRemaining("test"));
+    }
+
+    @Test
+    public void cancel_noneDeadline_hasNoEffect() {
+        // WHEN
+        Deadline.none().cancel();
+
+        // THEN
+        assertDoesNotThrow(() -> Deadline.none().checkRemaining("test"));
+    }
+
+    @Test
+    public void after_negativeTimeout_isRejected() {
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ofMillis(-1)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.amazon.ata.deliveringonourpromise.deliverypromiseservice;
+
+import com.amazon.ata.deliveringonourpromise.App;
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallCountingDeliveryPromiseService;
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallCounts;
+import com.amazon.ata.deliverypromiseservice.service.DeliveryPromise;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DeliveryPromiseMemoTest {
+    private static final String ORDER_ITEM_ID = "20655079937481";
+    private static final String OPERATION = "DPS getDeliveryPromise";
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final DeliveryPromise promise = DeliveryPromise.builder().withCustomerOrderItemId(ORDER_ITEM_ID).build();
+
+    @Test
+    public void get_noMemoAttached_looksUpEveryTime() {
+        // WHEN
+        DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, this::lookUp);
+        DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, this::lookUp);
+
+        // THEN
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void get_memoAttached_looksUpOnce() {
+        try (DeliveryPromiseMemo.Scope scope = new DeliveryPromiseMemo().attach()) {
+            // WHEN
+            DeliveryPromise first = DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, this::lookUp);
+            DeliveryPromise second = DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, this::lookUp);
+
+            // THEN
+            assertSame(promise, first);
+            assertSame(promise, second);
+            assertEquals(1, lookups.get());
+        }
+    }
+
+    @Test
+    public void get_lookupFindsNoPromise_remembersThatToo() {
+        try (DeliveryPromiseMemo.Scope scope = new DeliveryPromiseMemo().attach()) {
+            // WHEN
+            DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, id -> countedLookUp(null));
+            DeliveryPromise second = DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, id -> countedLookUp(null));
+
+            // THEN
+            assertNull(second);
+            assertEquals(1, lookups.get());
+        }
+    }
+
+    @Test
+    public void get_lookupThrows_remembersNothing() {
+        try (DeliveryPromiseMemo.Scope scope = new DeliveryPromiseMemo().attach()) {
+            // GIVEN
+            assertThrows(IllegalStateException.class, () -> DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, id -> {
+                throw new IllegalStateException("DPS down");
+            }));
+
+            // WHEN
+            DeliveryPromise promiseAfterFailure = DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, this::lookUp);
+
+            // THEN
+            assertSame(promise, promiseAfterFailure);
+            assertEquals(1, lookups.get());
+        }
+    }
+
+    @Test
+    public void attach_scopeClosed_restoresNoMemo() {
+        // GIVEN
+        DeliveryPromiseMemo memo = new DeliveryPromiseMemo();
+
+        // WHEN
+        try (DeliveryPromiseMemo.Scope scope = memo.attach()) {
+            assertSame(memo, DeliveryPromiseMemo.current());
+        }
+
+        // THEN
+        DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, this::lookUp);
+        DeliveryPromiseMemo.current().get(ORDER_ITEM_ID, this::lookUp);
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void getDeliveryPromise_sharedMemo_secondServiceNeitherLooksUpNorCountsACall() {
+        // GIVEN
+        String orderItemId = App.getOrderDatastore().getOrderData("111-7497023-2969385")
+                                 .getCustomerOrderItemList().get(0).getCustomerOrderItemId();
+        MemoizingDeliveryPromiseService dps = new MemoizingDeliveryPromiseService(App.getOrderDatastore(), false);
+        CallCountingDeliveryPromiseService ofsDps =
+            new CallCountingDeliveryPromiseService(App.getOrderDatastore(), OPERATION);
+        CallCounts callCounts = new CallCounts();
+
+        try (DeliveryPromiseMemo.Scope scope = new DeliveryPromiseMemo().attach();
+             CallCounts.Scope counting = callCounts.attach()) {
+            // WHEN
+            DeliveryPromise first = dps.getDeliveryPromise(orderItemId);
+            DeliveryPromise second = ofsDps.getDeliveryPromise(orderItemId);
+
+            // THEN
+            assertSame(first, second);
+            assertEquals(0, callCounts.getCount(OPERATION));
+        }
+    }
+
+    private DeliveryPromise lookUp(String customerOrderItemId) {
+        return countedLookUp(promise);
+    }
+
+    private DeliveryPromise countedLookUp(DeliveryPromise result) {
+        lookups.incrementAndGet();
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package com.amazon.ata.deliveringonourpromise.loadtest;
+
+import com.amazon.ata.deliveringonourpromise.App;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadGeneratorTest {
+
+    @Test
+    public void run_closedLoop_recordsEveryRequest() {
+        // GIVEN
+        LoadGenerator generator = LoadGenerator.builder()
+            .withClient(App.getPromiseHistoryClient())
+            .withOrderIds(OrderIdDistribution.uniform(OrderIdDistribution.generatedOrderIds(10)))
+            .withWorkers(2)
+            .withDuration(Duration.ofMillis(200))
+            .build();
+
+        // WHEN
+        LoadTestResult result = generator.run();
+
+        // THEN
+        assertTrue(result.getSuccessCount() > 0);
+        assertEquals(0, result.getFailureCount());
+        assertEquals(result.getSuccessCount(), result.getLatencies().getCount());
+    }
+
+    @Test
+    public void run_openLoop_sendsAboutTargetRate() {
+        // GIVEN
+        LoadGenerator generator = LoadGenerator.builder()
+            .withClient(App.getPromiseHistoryClient())
+            .withOrderIds(OrderIdDistribution.uniform(OrderIdDistribution.generatedOrderIds(10)))
+            .withWorkers(2)
+            .withTargetRate(100)
+            .withDuration(Duration.ofMillis(500))
+            .build();
+
+        // WHEN
+        LoadTestResult result = generator.run();
+
+        // THEN - requests are scheduled every 10ms, so at most 50 start before t=500ms
+        long requests = result.getSuccessCount() + result.getFailureCount();
+        assertTrue(requests > 0 && requests <= 50, "sent " + requests + " requests");
+    }
+}
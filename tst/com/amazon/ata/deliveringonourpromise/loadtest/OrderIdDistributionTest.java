@@ -0,0 +1,64 @@
+package com.amazon.ata.deliveringonourpromise.loadtest;
+
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderIdDistributionTest {
+
+    @Test
+    public void zipf_manyDraws_favorsEarlierOrderIds() {
+        // GIVEN
+        List<String> orderIds = OrderIdDistribution.generatedOrderIds(100);
+        OrderIdDistribution distribution = OrderIdDistribution.zipf(orderIds, 1.0);
+        SplittableRandom random = new SplittableRandom(1L);
+
+        // WHEN
+        Map<String, Integer> draws = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            draws.merge(distribution.next(random), 1, Integer::sum);
+        }
+
+        // THEN - with exponent 1 over 100 IDs, the first is drawn about 19% of the time and the tenth about 2%
+        int first = draws.getOrDefault(orderIds.get(0), 0);
+        int tenth = draws.getOrDefault(orderIds.get(9), 0);
+        assertTrue(first > 1_500 && first < 2_300, "first ID drawn " + first + " times");
+        assertTrue(first > tenth * 5, "first ID drawn " + first + " times, tenth " + tenth + " times");
+    }
+
+    @Test
+    public void uniform_sameSeed_drawsSameSequence() {
+        // GIVEN
+        OrderIdDistribution distribution = OrderIdDistribution.uniform(OrderIdDistribution.generatedOrderIds(50));
+        SplittableRandom first = new SplittableRandom(7L);
+        SplittableRandom second = new SplittableRandom(7L);
+
+        // WHEN + THEN
+        for (int i = 0; i < 100; i++) {
+            assertEquals(distribution.next(first), distribution.next(second));
+        }
+    }
+
+    @Test
+    public void fixturesOnly_anyDraw_returnsFixtureWithOrderData() {
+        // GIVEN
+        OrderDatastore datastore = OrderDatastore.getDatastore();
+        OrderIdDistribution distribution = OrderIdDistribution.fixturesOnly(datastore);
+        SplittableRandom random = new SplittableRandom(1L);
+
+        // WHEN + THEN
+        for (int i = 0; i < 100; i++) {
+            String orderId = distribution.next(random);
+            assertTrue(datastore.getOrderFixtures().containsKey(orderId));
+            assertNotNull(datastore.getOrderData(orderId));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CallMetricsPolicyTest {
+
+    @Test
+    public void execute_callThrows_recordsFailureAndRethrows() {
+        // GIVEN
+        MetricsRegistry registry = new MetricsRegistry();
+        CallMetricsPolicy policy = new CallMetricsPolicy(registry);
+
+        // WHEN
+        policy.execute("DPS getDeliveryPromise", () -> null);
+        assertThrows(IllegalStateException.class, () -> policy.execute("DPS getDeliveryPromise", () -> {
+            throw new IllegalStateException("downstream failure");
+        }));
+
+        // THEN
+        CallMetrics metrics = registry.getCallMetrics("DPS getDeliveryPromise");
+        assertEquals(2, metrics.getCalls());
+        assertEquals(1, metrics.getErrors());
+        assertEquals(0.0, metrics.getMeanResultSize(), 0.0001);
+    }
+}
@@ -0,0 +1,81 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void bucketIndex_anyValue_bucketCoversValueWithinPrecision() {
+        // GIVEN
+        long[] values = {0L, 1L, 127L, 128L, 129L, 1_000L, 65_535L, 1_000_000L, 123_456_789L, Long.MAX_VALUE / 3};
+
+        for (long value : values) {
+            // WHEN
+            long highest = LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(value));
+
+            // THEN
+            assertTrue(highest >= value, "bucket for " + value + " ends at " + highest);
+            assertTrue(highest - value <= value / 64, "bucket for " + value + " ends at " + highest);
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformValues_returnsPercentilesWithinPrecision() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        // WHEN
+        long p50 = histogram.getValueAtPercentile(50.0);
+        long p99 = histogram.getValueAtPercentile(99.0);
+        long p100 = histogram.getValueAtPercentile(100.0);
+
+        // THEN
+        assertEquals(10_000, histogram.getCount());
+        assertWithinPrecision(5_000_000L, p50);
+        assertWithinPrecision(9_900_000L, p99);
+        assertEquals(10_000_000L, p100);
+        assertEquals(10_000_000L, histogram.getMax());
+    }
+
+    @Test
+    public void add_otherHistogram_combinesCounts() {
+        // GIVEN
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10L);
+        second.record(20L);
+        second.record(30L);
+
+        // WHEN
+        first.add(second);
+
+        // THEN
+        assertEquals(3, first.getCount());
+        assertEquals(30L, first.getMax());
+        assertEquals(20.0, first.getMean(), 0.0001);
+    }
+
+    @Test
+    public void reset_afterRecording_clearsEverything() {
+        // GIVEN
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42L);
+
+        // WHEN
+        histogram.reset();
+
+        // THEN
+        assertEquals(0, histogram.getCount());
+        assertEquals(0L, histogram.getValueAtPercentile(99.0));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 50, "expected ~" + expected + " but was " + actual);
+    }
+}
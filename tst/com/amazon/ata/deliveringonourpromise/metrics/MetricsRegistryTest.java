@@ -0,0 +1,57 @@
+package com.amazon.ata.deliveringonourpromise.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void getCallMetrics_sameName_returnsSameInstance() {
+        // GIVEN
+        MetricsRegistry registry = new MetricsRegistry();
+
+        // WHEN + THEN
+        assertSame(registry.getCallMetrics("OrderDao.get"), registry.getCallMetrics("OrderDao.get"));
+        assertSame(registry.getCounter("events"), registry.getCounter("events"));
+    }
+
+    @Test
+    public void dump_recordedMetrics_printsEveryMetric() {
+        // GIVEN
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.getCallMetrics("PromiseDao.get").recordSuccess(System.nanoTime(), 2);
+        registry.getCallMetrics("PromiseDao.get").recordFailure(System.nanoTime());
+        registry.getCounter("DPS circuit breaker transitions to OPEN").increment();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // WHEN
+        registry.dump(new PrintStream(bytes, true));
+
+        // THEN
+        String text = bytes.toString();
+        assertTrue(text.contains("PromiseDao.get calls=2 errors=1 meanResultSize=2.0"), text);
+        assertTrue(text.contains("DPS circuit breaker transitions to OPEN count=1"), text);
+    }
+
+    @Test
+    public void getCallMetrics_withJmxDomain_registersMBean() throws Exception {
+        // GIVEN
+        MetricsRegistry registry = new MetricsRegistry("com.amazon.ata.test");
+        registry.getCallMetrics("OMA getCustomerOrderByOrderId").recordSuccess(System.nanoTime(), 1);
+
+        // WHEN
+        Object calls = ManagementFactory.getPlatformMBeanServer().getAttribute(
+            new ObjectName("com.amazon.ata.test:type=CallMetrics,name=\"OMA getCustomerOrderByOrderId\""), "Calls");
+
+        // THEN
+        assertEquals(1L, calls);
+    }
+}
@@ -1,5 +1,8 @@
 package com.amazon.ata.deliveringonourpromise.ordermanipulationauthority;
 
+import com.amazon.ata.ordermanipulationauthority.CustomerOrder;
+import com.amazon.ata.ordermanipulationauthority.CustomerOrderItem;
+import com.amazon.ata.ordermanipulationauthority.CustomerOrderPage;
 import com.amazon.ata.ordermanipulationauthority.OrderManipulationAuthority;
 import com.amazon.ata.ordermanipulationauthority.OrderResult;
 import com.amazon.ata.ordermanipulationauthority.OrderResultItem;
@@ -7,7 +10,11 @@ import com.amazon.ata.ordermanipulationauthority.OrderResultItem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -45,6 +52,10 @@ public class OrderManipulationAuthorityClientTest {
         when(mockOrderManipulationAuthority.getCustomerOrderItemByOrderItemId(orderItemId)).thenReturn(orderResultItem);
         when(mockOrderManipulationAuthority.getCustomerOrderByOrderId(invalidOrderId)).thenReturn(null);
         when(mockOrderManipulationAuthority.getCustomerOrderItemByOrderItemId(invalidOrderItemId)).thenReturn(null);
+        when(mockOrderManipulationAuthority.getCustomerOrderItemViewByOrderItemId(orderItemId))
+            .thenReturn(orderResultItem);
+        when(mockOrderManipulationAuthority.getCustomerOrderItemViewByOrderItemId(invalidOrderItemId)).thenReturn(null);
+        when(mockOrderManipulationAuthority.getDeliveryDatesByOrderId(invalidOrderId)).thenReturn(null);
     }
 
     @Test
@@ -83,4 +94,73 @@ public class OrderManipulationAuthorityClientTest {
         assertNull(result);
     }
 
+    @Test
+    public void getCustomerOrderItemViewByOrderItemId_validOrderItemId_returnsOrderItem() {
+        // WHEN
+        CustomerOrderItem result = client.getCustomerOrderItemViewByOrderItemId(orderItemId);
+
+        // THEN
+        assertEquals(orderResultItem, result);
+    }
+
+    @Test
+    public void getCustomerOrderItemViewByOrderItemId_invalidOrderItemId_returnsNull() {
+        // WHEN
+        CustomerOrderItem result = client.getCustomerOrderItemViewByOrderItemId(invalidOrderItemId);
+
+        // THEN
+        assertNull(result);
+    }
+
+    @Test
+    public void getDeliveryDatesByOrderId_invalidOrderId_returnsNull() {
+        // WHEN
+        Map<String, ZonedDateTime> result = client.getDeliveryDatesByOrderId(invalidOrderId);
+
+        // THEN
+        assertNull(result);
+    }
+
+    @Test
+    public void getDeliveryDatesByOrderItemIds_validOrderItemId_returnsDeliveryDates() {
+        // GIVEN
+        List<String> orderItemIds = Collections.singletonList(orderItemId);
+        Map<String, ZonedDateTime> deliveryDates = Collections.singletonMap(orderItemId, ZonedDateTime.now());
+        when(mockOrderManipulationAuthority.getDeliveryDatesByOrderItemIds(orderItemIds)).thenReturn(deliveryDates);
+
+        // WHEN
+        Map<String, ZonedDateTime> result = client.getDeliveryDatesByOrderItemIds(orderItemIds);
+
+        // THEN
+        assertEquals(deliveryDates, result);
+    }
+
+    @Test
+    public void getCustomerOrderViewsByOrderDate_validRange_returnsPage() {
+        // GIVEN
+        ZonedDateTime from = ZonedDateTime.parse("2019-06-02T00:00:00Z");
+        ZonedDateTime to = from.plusDays(1);
+        CustomerOrderPage page = new CustomerOrderPage(Collections.<CustomerOrder>singletonList(orderResult), orderId);
+        when(mockOrderManipulationAuthority.getCustomerOrderViewsByOrderDate(from, to, null, 1)).thenReturn(page);
+
+        // WHEN
+        CustomerOrderPage result = client.getCustomerOrderViewsByOrderDate(from, to, null, 1);
+
+        // THEN
+        assertEquals(page, result);
+    }
+
+    @Test
+    public void getCustomerOrderViewsByCustomerId_validCustomerId_returnsPage() {
+        // GIVEN
+        String customerId = "375944385";
+        CustomerOrderPage page = new CustomerOrderPage(Collections.<CustomerOrder>singletonList(orderResult), null);
+        when(mockOrderManipulationAuthority.getCustomerOrderViewsByCustomerId(customerId, null, 1)).thenReturn(page);
+
+        // WHEN
+        CustomerOrderPage result = client.getCustomerOrderViewsByCustomerId(customerId, null, 1);
+
+        // THEN
+        assertEquals(page, result);
+    }
 }
@@ -0,0 +1,58 @@
+package com.amazon.ata.deliveringonourpromise.promisehistoryservice;
+
+import com.amazon.ata.deliveringonourpromise.App;
+import com.amazon.ata.deliveringonourpromise.data.OrderDatastore;
+import com.amazon.ata.deliveringonourpromise.types.PromiseHistory;
+import com.amazon.ata.deliveringonourpromise.types.PromiseHistoryPage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PromiseHistoryClientTest {
+    private static final String ORDER_ID = "900-3746401-0000001";
+
+    @Test
+    public void getPromiseHistoriesByCustomerId_customerWithOrder_returnsOrdersPromiseHistory() {
+        // GIVEN
+        PromiseHistoryClient client = App.getPromiseHistoryClient();
+        String customerId = OrderDatastore.getDatastore().getOrderData(ORDER_ID).getCustomerId();
+        PromiseHistory expected = client.getPromiseHistoryByOrderId(ORDER_ID);
+
+        // WHEN
+        PromiseHistoryPage page = client.getPromiseHistoriesByCustomerId(customerId, null, 10);
+
+        // THEN
+        assertEquals(1, page.getPromiseHistories().size());
+        PromiseHistory history = page.getPromiseHistories().get(0);
+        assertEquals(ORDER_ID, history.getOrder().getOrderId());
+        assertEquals(expected.getPromises().size(), history.getPromises().size());
+        assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void getPromiseHistoriesByCustomerId_unknownCustomer_returnsEmptyLastPage() {
+        // GIVEN
+        PromiseHistoryClient client = App.getPromiseHistoryClient();
+
+        // WHEN
+        PromiseHistoryPage page = client.getPromiseHistoriesByCustomerId("NOT A CUSTOMER ID", null, 10);
+
+        // THEN
+        assertTrue(page.getPromiseHistories().isEmpty());
+        assertFalse(page.hasNextPage());
+    }
+
+    @Test
+    public void getPromiseHistoriesByCustomerId_noOmaClient_throwsIllegalStateException() {
+        // GIVEN
+        PromiseHistoryClient client = new PromiseHistoryClient(App.getPromiseHistoryByOrderIdActivity());
+
+        // WHEN + THEN
+        assertThrows(IllegalStateException.class,
+            () -> client.getPromiseHistoriesByCustomerId("NOT A CUSTOMER ID", null, 10));
+    }
+}
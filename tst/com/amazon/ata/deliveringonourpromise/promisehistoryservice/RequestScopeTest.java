@@ -0,0 +1,49 @@
+package com.amazon.ata.deliveringonourpromise.promisehistoryservice;
+
+import com.amazon.ata.deliveringonourpromise.callaccounting.CallCounts;
+import com.amazon.ata.deliveringonourpromise.deadline.Deadline;
+import com.amazon.ata.deliveringonourpromise.deliverypromiseservice.DeliveryPromiseMemo;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RequestScopeTest {
+
+    @Test
+    public void attach_whileOpen_attachesDeadlineCallCountsAndMemo() {
+        // GIVEN
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+        DeliveryPromiseMemo memoBefore = DeliveryPromiseMemo.current();
+
+        // WHEN
+        try (RequestScope request = RequestScope.attach(deadline)) {
+            // THEN
+            assertSame(deadline, Deadline.current());
+            assertSame(request.getCallCounts(), CallCounts.current());
+            assertNotSame(memoBefore, DeliveryPromiseMemo.current());
+        }
+    }
+
+    @Test
+    public void close_nestedScope_restoresOuterScope() {
+        // GIVEN
+        Deadline outerDeadline = Deadline.after(Duration.ofMinutes(1));
+        try (RequestScope outer = RequestScope.attach(outerDeadline)) {
+            DeliveryPromiseMemo outerMemo = DeliveryPromiseMemo.current();
+
+            // WHEN
+            try (RequestScope inner = RequestScope.attach(Deadline.after(Duration.ofSeconds(1)))) {
+                assertSame(inner.getCallCounts(), CallCounts.current());
+            }
+
+            // THEN
+            assertSame(outerDeadline, Deadline.current());
+            assertSame(outer.getCallCounts(), CallCounts.current());
+            assertSame(outerMemo, DeliveryPromiseMemo.current());
+        }
+    }
+}
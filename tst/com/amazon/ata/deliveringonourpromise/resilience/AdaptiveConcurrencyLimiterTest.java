@@ -0,0 +1,204 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long FAST_RTT_NANOS = 1_000_000L;
+
+    private AtomicLong nanoTime;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    private void setup() {
+        nanoTime = new AtomicLong();
+        limiter = AdaptiveConcurrencyLimiter.builder()
+            .withName("test")
+            .withInitialLimit(2)
+            .withMinLimit(1)
+            .withMaxLimit(3)
+            .withBackoffRatio(0.5)
+            .withLatencyTolerance(2.0)
+            .withNanoClock(nanoTime::get)
+            .build();
+    }
+
+    @Test
+    public void execute_fastSuccessesWhileLimitInUse_increasesLimitUpToMax() {
+        // GIVEN + WHEN
+        callTaking(FAST_RTT_NANOS);
+        callTaking(FAST_RTT_NANOS);
+        callTaking(FAST_RTT_NANOS);
+
+        // THEN
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void execute_latencyRisesAboveTolerance_decreasesLimit() {
+        // GIVEN
+        callTaking(FAST_RTT_NANOS);
+
+        // WHEN
+        callTaking(FAST_RTT_NANOS * 10);
+
+        // THEN
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    public void execute_callFails_decreasesLimitButNotBelowMin() {
+        // GIVEN + WHEN
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> limiter.execute("test", () -> {
+                throw new IllegalStateException("downstream failure");
+            }));
+        }
+
+        // THEN
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    public void execute_callThrowsError_releasesSlotAndDecreasesLimit() {
+        // GIVEN
+        int limitBefore = limiter.getLimit();
+
+        // WHEN
+        assertThrows(AssertionError.class, () -> limiter.execute("test", () -> {
+            throw new AssertionError("downstream error");
+        }));
+
+        // THEN
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(limiter.getLimit() < limitBefore);
+    }
+
+    @Test
+    public void execute_atLimitWithNoWait_rejectsCall() {
+        // GIVEN
+        AdaptiveConcurrencyLimiter singleCall = AdaptiveConcurrencyLimiter.builder()
+            .withInitialLimit(1)
+            .withMaxLimit(1)
+            .build();
+
+        // WHEN + THEN
+        singleCall.execute("outer", () ->
+            assertThrows(ConcurrencyLimitExceededException.class, () -> singleCall.execute("inner", () -> "ok")));
+        assertEquals(1, singleCall.getRejectedCallCount());
+        assertEquals(0, singleCall.getInFlight());
+    }
+
+    @Test
+    public void execute_burstOfConcurrentSlowCalls_decreasesLimitOnce() throws Exception {
+        // GIVEN
+        AdaptiveConcurrencyLimiter wide = wideLimiter();
+        wide.execute("test", () -> nanoTime.addAndGet(FAST_RTT_NANOS));
+
+        // WHEN - eight calls in flight together all come back slow
+        runConcurrently(wide, 8, () -> {
+            nanoTime.set(FAST_RTT_NANOS * 20);
+            return null;
+        });
+
+        // THEN
+        assertEquals(4, wide.getLimit());
+    }
+
+    @Test
+    public void execute_burstOfConcurrentFailures_decreasesLimitOnce() throws Exception {
+        // GIVEN
+        AdaptiveConcurrencyLimiter wide = wideLimiter();
+
+        // WHEN
+        runConcurrently(wide, 8, () -> {
+            throw new IllegalStateException("downstream failure");
+        });
+
+        // THEN
+        assertEquals(4, wide.getLimit());
+    }
+
+    @Test
+    public void execute_slowCallStartedAfterDecreaseAndBaselineRttLater_decreasesLimitAgain() {
+        // GIVEN
+        AdaptiveConcurrencyLimiter wide = wideLimiter();
+        wide.execute("test", () -> nanoTime.addAndGet(FAST_RTT_NANOS));
+        wide.execute("test", () -> nanoTime.addAndGet(FAST_RTT_NANOS * 10));
+        assertEquals(4, wide.getLimit());
+        nanoTime.addAndGet(FAST_RTT_NANOS);
+
+        // WHEN
+        wide.execute("test", () -> nanoTime.addAndGet(FAST_RTT_NANOS * 10));
+
+        // THEN
+        assertEquals(2, wide.getLimit());
+    }
+
+    private AdaptiveConcurrencyLimiter wideLimiter() {
+        return AdaptiveConcurrencyLimiter.builder()
+            .withName("wide")
+            .withInitialLimit(8)
+            .withMinLimit(1)
+            .withMaxLimit(8)
+            .withBackoffRatio(0.5)
+            .withLatencyTolerance(2.0)
+            .withNanoClock(nanoTime::get)
+            .build();
+    }
+
+    /*
+     * Starts the given number of calls, lets them all get in flight, then lets each finish with the given body.
+     */
+    private void runConcurrently(AdaptiveConcurrencyLimiter target, int calls, Supplier<Object> body)
+        throws Exception {
+        CountDownLatch allInFlight = new CountDownLatch(calls);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(calls);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                futures.add(executor.submit(() -> target.execute("test", () -> {
+                    allInFlight.countDown();
+                    try {
+                        finish.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return body.get();
+                })));
+            }
+            allInFlight.await(5, TimeUnit.SECONDS);
+            finish.countDown();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    // failing calls are part of some bursts
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void callTaking(long rttNanos) {
+        limiter.execute("test", () -> nanoTime.addAndGet(rttNanos));
+    }
+}
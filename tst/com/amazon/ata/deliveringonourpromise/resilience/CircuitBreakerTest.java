@@ -0,0 +1,181 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import com.amazon.ata.deliveringonourpromise.deadline.DeadlineExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private AtomicLong nanoTime;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    private void setup() {
+        nanoTime = new AtomicLong();
+        breaker = CircuitBreaker.builder()
+            .withName("test")
+            .withSlidingWindowSize(4)
+            .withMinimumNumberOfCalls(4)
+            .withFailureRateThreshold(50f)
+            .withOpenDuration(OPEN_DURATION)
+            .withPermittedCallsInHalfOpen(2)
+            .withNanoClock(nanoTime::get)
+            .build();
+    }
+
+    @Test
+    public void execute_failureRateReachesThreshold_opensAndRejectsCalls() {
+        // GIVEN
+        succeed();
+        succeed();
+        fail();
+
+        // WHEN
+        fail();
+
+        // THEN
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getTransitionCount(CircuitBreaker.State.OPEN));
+        assertThrows(CircuitBreakerOpenException.class, this::succeed);
+    }
+
+    @Test
+    public void execute_failuresBelowMinimumNumberOfCalls_staysClosed() {
+        // GIVEN + WHEN
+        fail();
+        fail();
+        fail();
+
+        // THEN
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void execute_deadlineAndRejectionFailures_areNotCounted() {
+        // GIVEN + WHEN
+        for (int i = 0; i < 4; i++) {
+            assertThrows(DeadlineExceededException.class, () -> breaker.execute("test", () -> {
+                throw new DeadlineExceededException("expired");
+            }));
+            assertThrows(ConcurrencyLimitExceededException.class, () -> breaker.execute("test", () -> {
+                throw new ConcurrencyLimitExceededException("full");
+            }));
+        }
+
+        // THEN
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void execute_halfOpenProbesSucceed_closes() {
+        // GIVEN
+        tripOpen();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        // WHEN
+        succeed();
+        succeed();
+
+        // THEN
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1, breaker.getTransitionCount(CircuitBreaker.State.HALF_OPEN));
+        assertEquals(1, breaker.getTransitionCount(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    public void execute_halfOpenProbeFails_reopens() {
+        // GIVEN
+        tripOpen();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        // WHEN
+        fail();
+
+        // THEN
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getTransitionCount(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    public void execute_halfOpenProbeThrowsError_reopensAndReleasesPermit() {
+        // GIVEN
+        tripOpen();
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+
+        // WHEN
+        assertThrows(AssertionError.class, () -> breaker.execute("test", () -> {
+            throw new AssertionError("downstream error");
+        }));
+
+        // THEN - the error counts as a failure, and the next half-open period still lets every probe through
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        nanoTime.addAndGet(OPEN_DURATION.toNanos());
+        succeed();
+        succeed();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void execute_callStartedClosedFinishesHalfOpen_isNotCountedAsProbe() {
+        // GIVEN - a call let in while CLOSED, during which the breaker opens and then goes half-open
+        breaker.execute("test", () -> {
+            tripOpen();
+            nanoTime.addAndGet(OPEN_DURATION.toNanos());
+            assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+            return "ok";
+        });
+
+        // WHEN
+        succeed();
+
+        // THEN - it still takes both permitted probes to close
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        succeed();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void addStateListener_transition_notifiesListener() {
+        // GIVEN
+        StringBuilder transitions = new StringBuilder();
+        breaker.addStateListener((cb, from, to) -> transitions.append(from).append("->").append(to).append(';'));
+
+        // WHEN
+        tripOpen();
+
+        // THEN
+        assertEquals("CLOSED->OPEN;", transitions.toString());
+    }
+
+    @Test
+    public void build_minimumCallsLargerThanWindow_throwsIllegalArgument() {
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class, () -> CircuitBreaker.builder()
+            .withSlidingWindowSize(2)
+            .withMinimumNumberOfCalls(3)
+            .build());
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+    }
+
+    private void succeed() {
+        breaker.execute("test", () -> "ok");
+    }
+
+    private void fail() {
+        assertThrows(IllegalStateException.class, () -> breaker.execute("test", () -> {
+            throw new IllegalStateException("downstream failure");
+        }));
+    }
+}
@@ -0,0 +1,124 @@
+package com.amazon.ata.deliveringonourpromise.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RetryPolicyTest {
+    private static final String IDEMPOTENT_OPERATION = "get";
+    private static final String OTHER_OPERATION = "update";
+
+    private List<Long> sleeps;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    private void setup() {
+        sleeps = new ArrayList<>();
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    public void execute_transientFailureOnIdempotentOperation_retriesUntilSuccess() {
+        // GIVEN
+        RetryPolicy policy = newPolicy(new RetryBudget(0.1, 10));
+
+        // WHEN
+        String result = policy.execute(IDEMPOTENT_OPERATION, failingTimes(2));
+
+        // THEN
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(2, policy.getRetryCount());
+    }
+
+    @Test
+    public void execute_backoff_isFullJitterOfExponentialCeiling() {
+        // GIVEN
+        RetryPolicy policy = newPolicy(new RetryBudget(0.1, 10));
+
+        // WHEN
+        policy.execute(IDEMPOTENT_OPERATION, failingTimes(3));
+
+        // THEN - jitter fixed at 0.5 of 10ms, 20ms, then 40ms capped at 25ms
+        assertEquals(List.of(5_000_000L, 10_000_000L, 12_500_000L), sleeps);
+    }
+
+    @Test
+    public void execute_failsEveryAttempt_stopsAtMaxAttempts() {
+        // GIVEN
+        RetryPolicy policy = newPolicy(new RetryBudget(0.1, 10));
+
+        // WHEN + THEN
+        assertThrows(IllegalStateException.class, () -> policy.execute(IDEMPOTENT_OPERATION, failingTimes(10)));
+        assertEquals(4, attempts.get());
+    }
+
+    @Test
+    public void execute_nonIdempotentOperation_isNotRetried() {
+        // GIVEN
+        RetryPolicy policy = newPolicy(new RetryBudget(0.1, 10));
+
+        // WHEN + THEN
+        assertThrows(IllegalStateException.class, () -> policy.execute(OTHER_OPERATION, failingTimes(1)));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void execute_callRejectedByInnerPolicy_isNotRetried() {
+        // GIVEN
+        RetryPolicy policy = newPolicy(new RetryBudget(0.1, 10));
+
+        // WHEN + THEN
+        assertThrows(CircuitBreakerOpenException.class, () -> policy.execute(IDEMPOTENT_OPERATION, () -> {
+            attempts.incrementAndGet();
+            throw new CircuitBreakerOpenException("open");
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void execute_retryBudgetExhausted_stopsRetrying() {
+        // GIVEN
+        RetryBudget budget = new RetryBudget(0.5, 1);
+        RetryPolicy policy = newPolicy(budget);
+
+        // WHEN + THEN - the single token is spent on the first retry
+        assertThrows(IllegalStateException.class, () -> policy.execute(IDEMPOTENT_OPERATION, failingTimes(10)));
+        assertEquals(2, attempts.get());
+        assertEquals(1, policy.getRetriesDeniedByBudgetCount());
+
+        // two successes earn the token back
+        policy.execute(IDEMPOTENT_OPERATION, () -> "ok");
+        policy.execute(IDEMPOTENT_OPERATION, () -> "ok");
+        assertEquals(1.0, budget.getAvailableTokens(), 0.0001);
+    }
+
+    private RetryPolicy newPolicy(RetryBudget budget) {
+        return RetryPolicy.builder()
+            .withMaxAttempts(4)
+            .withBaseDelay(Duration.ofMillis(10))
+            .withMaxDelay(Duration.ofMillis(25))
+            .withIdempotentOperations(IDEMPOTENT_OPERATION)
+            .withRetryBudget(budget)
+            .withJitter(() -> 0.5)
+            .withSleeper(sleeps::add)
+            .build();
+    }
+
+    private Supplier<String> failingTimes(int failures) {
+        return () -> {
+            if (attempts.incrementAndGet() <= failures) {
+                throw new IllegalStateException("transient failure");
+            }
+            return "ok";
+        };
+    }
+}
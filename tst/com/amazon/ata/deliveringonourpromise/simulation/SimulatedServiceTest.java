@@ -0,0 +1,138 @@
+package com.amazon.ata.deliveringonourpromise.simulation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SimulatedServiceTest {
+    private static final String OPERATION = "getDeliveryPromise";
+
+    private List<Long> sleeps;
+    private AtomicInteger realCalls;
+
+    @BeforeEach
+    private void setup() {
+        sleeps = new ArrayList<>();
+        realCalls = new AtomicInteger();
+    }
+
+    @Test
+    public void execute_fixedLatency_sleepsThenMakesRealCall() {
+        // GIVEN
+        SimulatedService service = newService(OperationProfile.builder()
+            .withLatency(LatencyDistribution.fixed(Duration.ofMillis(5)))
+            .build(), 1L);
+
+        // WHEN
+        String result = service.execute(OPERATION, this::realCall);
+
+        // THEN
+        assertEquals("ok", result);
+        assertEquals(1, realCalls.get());
+        assertEquals(List.of(5_000_000L), sleeps);
+    }
+
+    @Test
+    public void execute_sameSeed_injectsSameLatencies() {
+        // GIVEN
+        OperationProfile profile = OperationProfile.builder()
+            .withLatency(LatencyDistribution.bimodal(LatencyDistribution.lognormal(Duration.ofMillis(5), 0.5),
+                                                     LatencyDistribution.fixed(Duration.ofMillis(200)), 0.1))
+            .build();
+        SimulatedService first = newService(profile, 42L);
+        SimulatedService second = newService(profile, 42L);
+
+        // WHEN
+        for (int i = 0; i < 20; i++) {
+            first.execute(OPERATION, this::realCall);
+        }
+        List<Long> firstSleeps = new ArrayList<>(sleeps);
+        sleeps.clear();
+        for (int i = 0; i < 20; i++) {
+            second.execute(OPERATION, this::realCall);
+        }
+
+        // THEN
+        assertEquals(firstSleeps, sleeps);
+    }
+
+    @Test
+    public void execute_errorRateOne_failsWithoutMakingRealCall() {
+        // GIVEN
+        SimulatedService service = newService(OperationProfile.builder().withErrorRate(1.0).build(), 1L);
+
+        // WHEN + THEN
+        assertThrows(SimulatedFailureException.class, () -> service.execute(OPERATION, this::realCall));
+        assertEquals(0, realCalls.get());
+    }
+
+    @Test
+    public void execute_timeoutRateOne_hangsForTimeoutThenFails() {
+        // GIVEN
+        SimulatedService service = newService(OperationProfile.builder()
+            .withTimeoutRate(1.0)
+            .withTimeout(Duration.ofMillis(300))
+            .build(), 1L);
+
+        // WHEN + THEN
+        assertThrows(SimulatedTimeoutException.class, () -> service.execute(OPERATION, this::realCall));
+        assertEquals(List.of(300_000_000L), sleeps);
+        assertEquals(0, realCalls.get());
+    }
+
+    @Test
+    public void execute_overThroughputCap_throttlesUntilCapacityFreesUp() {
+        // GIVEN
+        AtomicLong nanoTime = new AtomicLong();
+        SimulatedService service = SimulatedService.builder()
+            .withOperationProfile(OPERATION, OperationProfile.builder().withMaxCallsPerSecond(2).build())
+            .withNanoClock(nanoTime::get)
+            .withSleeper(sleeps::add)
+            .build();
+
+        // WHEN + THEN
+        service.execute(OPERATION, this::realCall);
+        service.execute(OPERATION, this::realCall);
+        assertThrows(SimulatedThrottlingException.class, () -> service.execute(OPERATION, this::realCall));
+        nanoTime.addAndGet(Duration.ofMillis(500).toNanos());
+        service.execute(OPERATION, this::realCall);
+        assertEquals(3, realCalls.get());
+    }
+
+    @Test
+    public void execute_operationWithoutProfile_usesDefaultProfile() {
+        // GIVEN
+        SimulatedService service = SimulatedService.builder()
+            .withOperationProfile("other", OperationProfile.builder().withErrorRate(1.0).build())
+            .withSleeper(sleeps::add)
+            .build();
+
+        // WHEN
+        String result = service.execute(OPERATION, this::realCall);
+
+        // THEN
+        assertEquals("ok", result);
+    }
+
+    private SimulatedService newService(OperationProfile profile, long seed) {
+        return SimulatedService.builder()
+            .withName("test")
+            .withSeed(seed)
+            .withDefaultProfile(profile)
+            .withSleeper(sleeps::add)
+            .build();
+    }
+
+    private String realCall() {
+        realCalls.incrementAndGet();
+        return "ok";
+    }
+}
@@ -0,0 +1,97 @@
+package com.amazon.ata.deliveringonourpromise.test.allocation;
+
+import com.amazon.ata.deliveringonourpromise.App;
+import com.amazon.ata.deliveringonourpromise.activity.GetPromiseHistoryByOrderIdActivity;
+import com.amazon.ata.deliveringonourpromise.dao.OrderDao;
+import com.amazon.ata.deliveringonourpromise.dao.PromiseDao;
+import com.amazon.ata.deliveringonourpromise.data.OrderFixture;
+import com.amazon.ata.test.allocation.AllocationMeter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Guards the bytes allocated per call on the promise history path, for every order fixture in the datastore.
+ * Each budget is a fixed number of bytes plus a number per order item, set about 50% above what the path
+ * allocated when the budget was last updated. If one of these fails, find what started allocating more (a new
+ * defensive copy, extra date conversions, ...) before raising the budget.
+ */
+public class PromiseHistoryAllocationTests {
+    private static final long ACTIVITY_BYTES_PER_REQUEST = 2_048;
+    private static final long ACTIVITY_BYTES_PER_ITEM = 9_216;
+    private static final long ORDER_DAO_BYTES_PER_REQUEST = 1_536;
+    private static final long ORDER_DAO_BYTES_PER_ITEM = 256;
+    private static final long PROMISE_DAO_BYTES_PER_ITEM = 8_192;
+
+    private final AllocationMeter meter = new AllocationMeter();
+    private final Map<String, OrderFixture> fixtures = new TreeMap<>(App.getOrderDatastore().getOrderFixtures());
+
+    @Test
+    public void getPromiseHistoryByOrderId_eachFixture_allocatesWithinBudget() {
+        // GIVEN
+        GetPromiseHistoryByOrderIdActivity activity = App.getPromiseHistoryByOrderIdActivity();
+        List<String> overBudget = new ArrayList<>();
+
+        // WHEN
+        for (Map.Entry<String, OrderFixture> entry : fixtures.entrySet()) {
+            String orderId = entry.getKey();
+            OrderFixture fixture = entry.getValue();
+            long budget = ACTIVITY_BYTES_PER_REQUEST + ACTIVITY_BYTES_PER_ITEM * fixture.getOrderItemIds().size();
+            measure(overBudget, "getPromiseHistoryByOrderId(" + orderId + ")", budget,
+                () -> activity.getPromiseHistoryByOrderId(orderId));
+        }
+
+        // THEN
+        assertTrue(overBudget.isEmpty(), String.join("\n", overBudget));
+    }
+
+    @Test
+    public void orderDaoGet_eachFixture_allocatesWithinBudget() {
+        // GIVEN
+        OrderDao orderDao = App.getOrderDao();
+        List<String> overBudget = new ArrayList<>();
+
+        // WHEN
+        for (Map.Entry<String, OrderFixture> entry : fixtures.entrySet()) {
+            String orderId = entry.getKey();
+            OrderFixture fixture = entry.getValue();
+            long budget = ORDER_DAO_BYTES_PER_REQUEST + ORDER_DAO_BYTES_PER_ITEM * fixture.getOrderItemIds().size();
+            measure(overBudget, "OrderDao.get(" + orderId + ")", budget, () -> orderDao.get(orderId));
+        }
+
+        // THEN
+        assertTrue(overBudget.isEmpty(), String.join("\n", overBudget));
+    }
+
+    @Test
+    public void promiseDaoGet_eachFixtureItem_allocatesWithinBudget() {
+        // GIVEN
+        PromiseDao promiseDao = App.getPromiseDao();
+        List<String> overBudget = new ArrayList<>();
+
+        // WHEN
+        for (OrderFixture fixture : fixtures.values()) {
+            for (String orderItemId : fixture.getOrderItemIds()) {
+                measure(overBudget, "PromiseDao.get(" + orderItemId + ")", PROMISE_DAO_BYTES_PER_ITEM,
+                    () -> promiseDao.get(orderItemId));
+            }
+        }
+
+        // THEN
+        assertTrue(overBudget.isEmpty(), String.join("\n", overBudget));
+    }
+
+    private void measure(List<String> overBudget, String description, long budget, Runnable call) {
+        try {
+            meter.assertAllocatesAtMost(description, budget, call);
+        } catch (AssertionError e) {
+            overBudget.add(e.getMessage());
+        }
+    }
+}
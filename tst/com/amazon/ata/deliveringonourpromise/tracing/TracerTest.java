@@ -0,0 +1,127 @@
+package com.amazon.ata.deliveringonourpromise.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TracerTest {
+
+    @Test
+    public void startTrace_sampled_recordsSpanTreeWhenRootCloses() {
+        // GIVEN
+        Tracer tracer = new Tracer(1.0, 10);
+
+        // WHEN
+        try (Span root = tracer.startTrace("request")) {
+            root.setAttribute("orderId", "111-7497760-0000001");
+            try (Span dao = Span.current().startChild("dao")) {
+                try (Span call = Span.current().startChild("call")) {
+                    call.setAttribute("itemId", "42");
+                }
+            }
+            assertTrue(tracer.getRecentTraces().isEmpty(), "Trace should not be recorded until the root closes");
+        }
+
+        // THEN
+        List<Trace> traces = tracer.getRecentTraces();
+        assertEquals(1, traces.size());
+        Span root = traces.get(0).getRoot();
+        assertEquals("request", root.getName());
+        assertEquals(Arrays.asList("orderId", "111-7497760-0000001"), root.getAttributes());
+        Span dao = root.getChildren().get(0);
+        assertEquals("dao", dao.getName());
+        assertEquals(Arrays.asList("itemId", "42"), dao.getChildren().get(0).getAttributes());
+        assertTrue(root.getDurationNanos() >= dao.getDurationNanos());
+        assertTrue(Span.current().isNoop(), "No span should be current after the trace completes");
+    }
+
+    @Test
+    public void startTrace_notSampled_returnsNoopSpanAndRecordsNothing() {
+        // GIVEN
+        Tracer tracer = new Tracer(0.0, 10);
+
+        // WHEN
+        try (Span root = tracer.startTrace("request")) {
+            Span child = Span.current().startChild("dao");
+            child.setAttribute("orderId", "111-7497760-0000001").setAttribute("promises", 3);
+            child.close();
+
+            // THEN
+            assertTrue(root.isNoop());
+            assertSame(root, child);
+            assertTrue(child.getAttributes().isEmpty());
+        }
+        assertTrue(tracer.getRecentTraces().isEmpty());
+    }
+
+    @Test
+    public void startTrace_insideAnotherTrace_startsChildSpan() {
+        // GIVEN
+        Tracer tracer = new Tracer(1.0, 10);
+
+        // WHEN
+        try (Span outer = tracer.startTrace("outer")) {
+            try (Span inner = tracer.startTrace("inner")) {
+                assertFalse(inner.isNoop());
+            }
+        }
+
+        // THEN
+        List<Trace> traces = tracer.getRecentTraces();
+        assertEquals(1, traces.size());
+        assertEquals("inner", traces.get(0).getRoot().getChildren().get(0).getName());
+    }
+
+    @Test
+    public void getRecentTraces_moreTracesThanCapacity_keepsNewestFirst() {
+        // GIVEN
+        Tracer tracer = new Tracer(1.0, 3);
+
+        // WHEN
+        for (int i = 0; i < 5; i++) {
+            try (Span root = tracer.startTrace("request " + i)) {
+                root.setAttribute("i", i);
+            }
+        }
+
+        // THEN
+        List<Trace> traces = tracer.getRecentTraces();
+        assertEquals(3, traces.size());
+        assertEquals("request 4", traces.get(0).getRoot().getName());
+        assertEquals("request 3", traces.get(1).getRoot().getName());
+        assertEquals("request 2", traces.get(2).getRoot().getName());
+    }
+
+    @Test
+    public void toString_sampledTrace_rendersIndentedSpansWithAttributes() {
+        // GIVEN
+        Tracer tracer = new Tracer(1.0, 1);
+        try (Span root = tracer.startTrace("request")) {
+            Span.current().startChild("dao").setAttribute("itemId", "42").close();
+        }
+
+        // WHEN
+        String rendered = tracer.getRecentTraces().get(0).toString();
+
+        // THEN
+        assertTrue(rendered.startsWith("trace "), rendered);
+        assertTrue(rendered.contains("  request "), rendered);
+        assertTrue(rendered.contains("    dao ") && rendered.contains(" itemId=42"), rendered);
+    }
+
+    @Test
+    public void setSampleRate_outOfRange_throwsIllegalArgumentException() {
+        // GIVEN
+        Tracer tracer = new Tracer(1.0, 1);
+
+        // WHEN + THEN
+        assertThrows(IllegalArgumentException.class, () -> tracer.setSampleRate(1.5));
+    }
+}
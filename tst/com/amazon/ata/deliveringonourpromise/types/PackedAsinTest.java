@@ -0,0 +1,55 @@
+package com.amazon.ata.deliveringonourpromise.types;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PackedAsinTest {
+
+    @Test
+    public void unpack_packedAsin_returnsOriginalAsin() {
+        // GIVEN
+        String asin = "B07C9JYF2W";
+
+        // WHEN
+        String result = PackedAsin.unpack(PackedAsin.pack(asin));
+
+        // THEN
+        assertEquals(asin, result);
+    }
+
+    @Test
+    public void unpack_largestAsin_returnsOriginalAsin() {
+        // GIVEN
+        String asin = "ZZZZZZZZZZ";
+
+        // WHEN
+        String result = PackedAsin.unpack(PackedAsin.pack(asin));
+
+        // THEN
+        assertEquals(asin, result);
+    }
+
+    @Test
+    public void pack_nonStandardAsins_returnsNone() {
+        // WHEN + THEN
+        assertEquals(PackedAsin.NONE, PackedAsin.pack(null));
+        assertEquals(PackedAsin.NONE, PackedAsin.pack("B07C9JYF2"));
+        assertEquals(PackedAsin.NONE, PackedAsin.pack("B07C9JYF2WX"));
+        assertEquals(PackedAsin.NONE, PackedAsin.pack("b07c9jyf2w"));
+        assertEquals(PackedAsin.NONE, PackedAsin.pack("B07C9-YF2W"));
+    }
+
+    @Test
+    public void pack_sortedAsins_packInTheSameOrder() {
+        // GIVEN
+        String[] asins = {"0000000000", "0019H32G2B", "9ZZZZZZZZZ", "A000000000", "B0019H32G2", "B07C9JYF2W"};
+
+        // WHEN + THEN
+        for (int i = 1; i < asins.length; i++) {
+            assertTrue(PackedAsin.pack(asins[i - 1]) < PackedAsin.pack(asins[i]),
+                       asins[i - 1] + " should pack below " + asins[i]);
+        }
+    }
+}
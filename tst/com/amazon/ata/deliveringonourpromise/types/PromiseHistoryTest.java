@@ -4,6 +4,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -69,4 +74,51 @@ public class PromiseHistoryTest {
         // THEN
         assertTrue(history.getPromises().contains(mockPromise));
     }
+
+    @Test
+    public void getPromises_promisesAddedOutOfOrder_returnsPromisesSortedByAsinThenEffectiveDate() {
+        // GIVEN
+        ZonedDateTime now = ZonedDateTime.now();
+        Promise laterAsin = Promise.builder().withAsin("B000000002").withPromiseEffectiveDate(now).build();
+        Promise earlierAsinLaterDate =
+            Promise.builder().withAsin("B000000001").withPromiseEffectiveDate(now.plusHours(1)).build();
+        Promise earlierAsinEarlierDate = Promise.builder().withAsin("B000000001").withPromiseEffectiveDate(now).build();
+        PromiseHistory history = new PromiseHistory(mockOrder);
+
+        // WHEN
+        history.addPromise(laterAsin);
+        history.addPromise(earlierAsinLaterDate);
+        history.addPromise(earlierAsinEarlierDate);
+
+        // THEN
+        assertEquals(Arrays.asList(earlierAsinEarlierDate, earlierAsinLaterDate, laterAsin), history.getPromises());
+    }
+
+    @Test
+    public void getPromises_equalPromises_keepInsertionOrder() {
+        // GIVEN
+        Promise first = Promise.builder().withAsin("B000000001").withCustomerOrderItemId("1").build();
+        Promise second = Promise.builder().withAsin("B000000001").withCustomerOrderItemId("2").build();
+        PromiseHistory history = new PromiseHistory(mockOrder);
+
+        // WHEN
+        history.addPromise(first);
+        history.addPromise(second);
+
+        // THEN
+        assertEquals(Arrays.asList(first, second), history.getPromises());
+    }
+
+    @Test
+    public void getPromises_returnedList_isUnmodifiable() {
+        // GIVEN
+        PromiseHistory history = new PromiseHistory(mockOrder);
+        history.addPromise(mockPromise);
+
+        // WHEN
+        List<Promise> promises = history.getPromises();
+
+        // THEN
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> promises.remove(0));
+    }
 }
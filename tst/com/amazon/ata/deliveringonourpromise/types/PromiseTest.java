@@ -6,22 +6,104 @@ import java.time.ZonedDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PromiseTest {
 
     @Test
-    public void setDeliveryDate_whenSet_returnsDeliveryDate() {
-        // GIVEN
-        ZonedDateTime deliveryDate = ZonedDateTime.now();
+    public void withDeliveryDate_whenSet_returnsDeliveryDate() {
+        // GIVEN - promise dates are kept to the second
+        ZonedDateTime deliveryDate = ZonedDateTime.now().withNano(0);
         Promise promise = Promise.builder()
             .withDeliveryDate(null)
             .build();
         assertNull(promise.getDeliveryDate());
 
         // WHEN
-        promise.setDeliveryDate(deliveryDate);
+        Promise delivered = promise.withDeliveryDate(deliveryDate);
+
+        // THEN
+        assertEquals(deliveryDate, delivered.getDeliveryDate());
+        assertNull(promise.getDeliveryDate());
+    }
+
+    @Test
+    public void withDeliveryDate_sameDate_returnsSamePromise() {
+        // GIVEN
+        Promise promise = Promise.builder()
+            .withDeliveryDate(null)
+            .build();
+
+        // WHEN
+        Promise result = promise.withDeliveryDate(null);
+
+        // THEN
+        assertSame(promise, result);
+    }
+
+    @Test
+    public void withConfidence_whenSet_copiesEverythingElse() {
+        // GIVEN
+        ZonedDateTime effectiveDate = ZonedDateTime.now().withNano(0);
+        Promise promise = Promise.builder()
+            .withCustomerOrderItemId("123")
+            .withAsin("B07C9JYF2W")
+            .withIsActive(true)
+            .withPromiseEffectiveDate(effectiveDate)
+            .withPromiseProvidedBy("OFS")
+            .build();
+
+        // WHEN
+        Promise result = promise.withConfidence(true, 42);
+
+        // THEN
+        assertEquals(42, result.getConfidence());
+        assertEquals(0, promise.getConfidence());
+        assertEquals("123", result.getCustomerOrderItemId());
+        assertEquals("B07C9JYF2W", result.getAsin());
+        assertTrue(result.isActive());
+        assertEquals(effectiveDate, result.getPromiseEffectiveDate());
+        assertEquals("OFS", result.getPromiseProvidedBy());
+        assertEquals(PromiseProvider.OFS, result.getPromiseProvider());
+    }
+
+    @Test
+    public void getAsin_nonStandardAsin_returnsAsinAsGiven() {
+        // GIVEN
+        Promise promise = Promise.builder().withAsin("b07c9jyf2w").build();
+
+        // WHEN
+        String asin = promise.getAsin();
+
+        // THEN
+        assertEquals("b07c9jyf2w", asin);
+    }
+
+    @Test
+    public void getPromiseProvidedBy_unknownProvider_returnsProviderAsGiven() {
+        // GIVEN
+        Promise promise = Promise.builder().withPromiseProvidedBy("UPS").build();
+
+        // WHEN
+        String providedBy = promise.getPromiseProvidedBy();
 
         // THEN
-        assertEquals(deliveryDate, promise.getDeliveryDate());
+        assertEquals("UPS", providedBy);
+        assertNull(promise.getPromiseProvider());
+    }
+
+    @Test
+    public void compareAsinTo_packedAndUnpackedAsins_ordersLikeAsinStrings() {
+        // GIVEN
+        Promise digits = Promise.builder().withAsin("0019H32G2B").build();
+        Promise letters = Promise.builder().withAsin("B0019H32G2").build();
+        Promise unpacked = Promise.builder().withAsin("B0019").build();
+
+        // WHEN + THEN
+        assertTrue(digits.compareAsinTo(letters) < 0);
+        assertTrue(letters.compareAsinTo(digits) > 0);
+        assertEquals(Integer.signum("B0019H32G2".compareTo("B0019")), Integer.signum(letters.compareAsinTo(unpacked)));
+        assertEquals(0, letters.compareAsinTo(Promise.builder().withAsin("B0019H32G2").build()));
     }
 }
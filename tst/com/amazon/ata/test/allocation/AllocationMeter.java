@@ -0,0 +1,81 @@
+package com.amazon.ata.test.allocation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures how many bytes a piece of code allocates on the heap per call, using the JVM's per-thread allocation
+ * counter ({@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}).
+ *
+ * The code is first run enough times for the JIT to compile it, since interpreted code allocates more than
+ * compiled code does, then measured over a batch of calls and averaged. Only allocation on the calling thread is
+ * counted.
+ */
+public final class AllocationMeter {
+    private static final int DEFAULT_WARMUP_CALLS = 5_000;
+    private static final int DEFAULT_MEASURED_CALLS = 1_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final int warmupCalls;
+    private final int measuredCalls;
+
+    /**
+     * Constructs a meter that warms up with 5,000 calls and averages over 1,000.
+     */
+    public AllocationMeter() {
+        this(DEFAULT_WARMUP_CALLS, DEFAULT_MEASURED_CALLS);
+    }
+
+    /**
+     * Constructs a meter with the given numbers of warmup and measured calls.
+     *
+     * @param warmupCalls calls made before measuring
+     * @param measuredCalls calls averaged over
+     */
+    public AllocationMeter(int warmupCalls, int measuredCalls) {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            throw new UnsupportedOperationException("This JVM can't count per-thread allocated bytes");
+        }
+        this.threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        this.warmupCalls = warmupCalls;
+        this.measuredCalls = measuredCalls;
+    }
+
+    /**
+     * Returns the average number of bytes the given call allocates, once warmed up.
+     *
+     * @param call the code to measure
+     * @return bytes allocated per call
+     */
+    public long bytesPerCall(Runnable call) {
+        for (int i = 0; i < warmupCalls; i++) {
+            call.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < measuredCalls; i++) {
+            call.run();
+        }
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / measuredCalls;
+    }
+
+    /**
+     * Measures the given call and fails if it allocates more than the given budget per call.
+     *
+     * @param description what is being measured, for the failure message
+     * @param budgetBytes the most bytes the call may allocate
+     * @param call the code to measure
+     * @return bytes allocated per call
+     * @throws AssertionError if the call allocates more than budgetBytes
+     */
+    public long assertAllocatesAtMost(String description, long budgetBytes, Runnable call) {
+        long bytes = bytesPerCall(call);
+        if (bytes > budgetBytes) {
+            throw new AssertionError(String.format(
+                "%s allocated %,d bytes per call, over its budget of %,d bytes", description, bytes, budgetBytes));
+        }
+        return bytes;
+    }
+}